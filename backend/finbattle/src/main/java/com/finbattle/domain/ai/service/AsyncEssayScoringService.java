@@ -0,0 +1,98 @@
+package com.finbattle.domain.ai.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 게임 중 서술형 채점을 전용 스레드 풀에서 비동기로 처리
+ * <p>
+ * OpenAI 호출은 수 초가 걸리므로 방 mailbox(carrier 스레드)나 STOMP inbound 스레드에서 기다리지 않는다. 대기열이 가득
+ * 찼거나 시간 안에 응답이 없으면 {@link #SCORING_UNAVAILABLE} 로 바로 완료한다. 이 값은 정답도 오답도 아니며, 게임은 같은
+ * 답안을 다시 제출받는다.
+ */
+@Slf4j
+@Service
+public class AsyncEssayScoringService {
+
+    // 채점하지 못했음 (점수는 0 이상)
+    public static final int SCORING_UNAVAILABLE = -1;
+
+    private final EssayAiScoringService essayAiScoringService;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMs;
+    private final Timer scoringTimer;
+    private final Counter fallbackCounter;
+
+    public AsyncEssayScoringService(EssayAiScoringService essayAiScoringService,
+        MeterRegistry meterRegistry,
+        @Value("${game.essay.threads:16}") int threads,
+        @Value("${game.essay.queue-capacity:200}") int queueCapacity,
+        @Value("${game.essay.timeout-ms:10000}") long timeoutMs) {
+        this.essayAiScoringService = essayAiScoringService;
+        this.timeoutMs = timeoutMs;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), r -> {
+            Thread thread = new Thread(r, "essay-scoring-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+
+        Gauge.builder("game.essay.queue.depth", executor, e -> e.getQueue().size())
+            .description("채점 대기 중인 서술형 답안 수")
+            .register(meterRegistry);
+        Gauge.builder("game.essay.active", executor, ThreadPoolExecutor::getActiveCount)
+            .description("채점 중인 서술형 답안 수")
+            .register(meterRegistry);
+        this.scoringTimer = Timer.builder("game.essay.scoring")
+            .description("서술형 채점 소요 시간 (대기 포함)")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        this.fallbackCounter = Counter.builder("game.essay.fallback")
+            .description("시간 초과, 실패, 대기열 초과로 채점하지 못한 횟수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 채점 결과는 항상 정상 완료된다 (실패 시 SCORING_UNAVAILABLE)
+     */
+    public CompletableFuture<Integer> scoreAsync(String essayQuestion, String userAnswer) {
+        long start = System.nanoTime();
+        CompletableFuture<Integer> future;
+        try {
+            future = CompletableFuture.supplyAsync(
+                () -> essayAiScoringService.scoreEssayAnswer(essayQuestion, userAnswer), executor);
+        } catch (RejectedExecutionException e) {
+            log.warn("서술형 채점 대기열 초과, 채점 불가 처리");
+            fallbackCounter.increment();
+            return CompletableFuture.completedFuture(SCORING_UNAVAILABLE);
+        }
+        return future
+            .orTimeout(timeoutMs, TimeUnit.MILLISECONDS)
+            .exceptionally(e -> {
+                log.warn("서술형 채점 실패, 채점 불가 처리: {}", e.toString());
+                fallbackCounter.increment();
+                return SCORING_UNAVAILABLE;
+            })
+            .whenComplete((score, e) ->
+                scoringTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
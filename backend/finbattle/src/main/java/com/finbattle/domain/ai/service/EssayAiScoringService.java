@@ -1,9 +1,9 @@
 package com.finbattle.domain.ai.service;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
@@ -12,16 +12,31 @@ import java.util.Map;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class EssayAiScoringService {
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    private static final int MIN_READ_TIMEOUT_MS = 1000;
+
+    private final RestTemplate restTemplate;
 
     @Value("${spring.ai.openai.api-key}")
     private String openaiApiKey;
 
     private static final String OPENAI_API_URL = "https://api.openai.com/v1/chat/completions";
 
+    /*
+     * 응답이 오지 않는 호출이 채점 스레드를 붙잡고 있지 않도록 제한
+     * 연결 + 읽기 시간을 AsyncEssayScoringService 의 채점 제한 시간(game.essay.timeout-ms) 안에 맞춰서, 게임이 채점을
+     * 포기한 뒤에도 스레드가 호출을 계속 기다리지 않게 한다.
+     */
+    public EssayAiScoringService(
+        @Value("${game.essay.connect-timeout-ms:3000}") int connectTimeoutMs,
+        @Value("${game.essay.timeout-ms:10000}") long timeoutMs) {
+        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
+        factory.setConnectTimeout(connectTimeoutMs);
+        factory.setReadTimeout((int) Math.max(MIN_READ_TIMEOUT_MS, timeoutMs - connectTimeoutMs));
+        this.restTemplate = new RestTemplate(factory);
+    }
+
     /**
      * 사용자 서술형 답변에 대해 0~100 사이의 점수를 반환하는 메서드
      * @param essayQuestion 문제 내용
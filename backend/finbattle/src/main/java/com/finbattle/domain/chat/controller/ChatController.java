@@ -5,7 +5,9 @@ import com.finbattle.domain.chat.model.StompPrincipal;
 import com.finbattle.domain.chat.service.ChatService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 
@@ -21,10 +23,11 @@ public class ChatController {
      */
     @MessageMapping("/chat/{roomId}")
     public void processChatMessage(ChatMessage message,
-        @AuthenticationPrincipal StompPrincipal stompPrincipal) {
+        @AuthenticationPrincipal StompPrincipal stompPrincipal,
+        @Header(SimpMessageHeaderAccessor.SESSION_ID_HEADER) String sessionId) {
 
         Long memberId = stompPrincipal.getMemberId();
         log.info("Received chat message: {}, sender: {}", message, memberId);
-        chatService.processChatMessage(message, memberId);
+        chatService.processChatMessage(message, memberId, sessionId);
     }
 }
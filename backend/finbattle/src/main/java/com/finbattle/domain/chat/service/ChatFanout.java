@@ -0,0 +1,57 @@
+package com.finbattle.domain.chat.service;
+
+import com.finbattle.global.common.batch.WriteBehindBuffer;
+import com.finbattle.global.common.config.SchedulerConfig;
+import com.finbattle.global.common.redis.RedisPublisher;
+import com.finbattle.global.common.redis.RedisPublisher.Outgoing;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 발행
+ * <p>
+ * chat.fanout.window-ms 가 0 이면 메시지마다 바로 발행한다. 0 보다 크면 그 시간 동안 모인 메시지를 한 번의 Redis
+ * pipeline 으로 발행해서 왕복 횟수를 줄인다. 메시지 형식과 방 안의 순서는 그대로다.
+ * <p>
+ * 버퍼가 가득 차면 그 메시지는 버리고 writebehind.dropped{buffer=chat_fanout} 로 센다. 바로 발행하면 버퍼에 먼저 들어온
+ * 메시지를 앞지르므로 순서를 지키는 쪽을 택했다.
+ */
+@Component
+public class ChatFanout {
+
+    private final RedisPublisher redisPublisher;
+    private final WriteBehindBuffer<Outgoing> buffer;
+
+    public ChatFanout(RedisPublisher redisPublisher, MeterRegistry meterRegistry,
+        @Qualifier(SchedulerConfig.BACKGROUND_SCHEDULER) TaskScheduler scheduler,
+        @Value("${chat.fanout.window-ms:0}") long windowMs,
+        @Value("${chat.fanout.capacity:50000}") int capacity,
+        @Value("${chat.fanout.batch-size:200}") int batchSize) {
+        this.redisPublisher = redisPublisher;
+        this.buffer = windowMs > 0
+            ? new WriteBehindBuffer<>("chat_fanout", capacity, batchSize, windowMs,
+            redisPublisher::publishAll, scheduler, meterRegistry)
+            : null;
+    }
+
+    public void publish(String roomId, String jsonMessage) {
+        String channel = "chat:" + roomId;
+        if (buffer == null) {
+            redisPublisher.publish(channel, jsonMessage);
+            return;
+        }
+        // 가득 차면 버퍼가 버리고 센다 (과부하 중에 메시지마다 로그를 남기지 않는다)
+        buffer.offer(new Outgoing(channel, jsonMessage));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (buffer != null) {
+            buffer.close();
+        }
+    }
+}
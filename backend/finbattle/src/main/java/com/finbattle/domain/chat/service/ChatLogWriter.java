@@ -0,0 +1,53 @@
+package com.finbattle.domain.chat.service;
+
+import com.finbattle.domain.chat.model.ChatLog;
+import com.finbattle.global.common.batch.WriteBehindBuffer;
+import com.finbattle.global.common.config.SchedulerConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 로그를 모아서 JDBC batch insert 로 기록 (STOMP 수신 스레드에서 DB 를 기다리지 않는다)
+ */
+@Component
+public class ChatLogWriter {
+
+    private static final String INSERT_SQL =
+        "INSERT INTO chat_log (room_id, sender, content) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final WriteBehindBuffer<ChatLog> buffer;
+
+    public ChatLogWriter(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry,
+        @Qualifier(SchedulerConfig.BACKGROUND_SCHEDULER) TaskScheduler scheduler,
+        @Value("${chat.log.capacity:100000}") int capacity,
+        @Value("${chat.log.batch-size:500}") int batchSize,
+        @Value("${chat.log.flush-interval-ms:1000}") long flushIntervalMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.buffer = new WriteBehindBuffer<>("chat_log", capacity, batchSize, flushIntervalMs,
+            this::insertAll, scheduler, meterRegistry);
+    }
+
+    public void write(ChatLog chatLog) {
+        buffer.offer(chatLog);
+    }
+
+    private void insertAll(List<ChatLog> logs) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, logs, logs.size(), (ps, log) -> {
+            ps.setString(1, log.getRoomId());
+            ps.setLong(2, log.getSender());
+            ps.setString(3, log.getContent());
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        buffer.close();
+    }
+}
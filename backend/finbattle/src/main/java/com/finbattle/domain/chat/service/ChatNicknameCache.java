@@ -0,0 +1,57 @@
+package com.finbattle.domain.chat.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+/**
+ * 채팅 보낸 사람 닉네임 캐시 (WebSocket 세션 단위)
+ * <p>
+ * 세션의 첫 채팅 때 RedisRoom 을 한 번 읽어 채우고, 이후 채팅은 RedisRoom 전체를 읽지 않는다. 항목은 그 세션이
+ * 끊길 때 지우므로 같은 회원의 다른 탭/노드 세션과 서로 영향을 주지 않는다. 닉네임이 바뀌면 그 회원의 세션 항목을 모두
+ * 지운다.
+ */
+@Component
+public class ChatNicknameCache {
+
+    private final Map<String, Entry> sessions = new ConcurrentHashMap<>();
+
+    public void put(String sessionId, Long memberId, String nickname) {
+        if (sessionId != null && memberId != null && nickname != null) {
+            sessions.put(sessionId, new Entry(memberId, nickname));
+        }
+    }
+
+    /**
+     * 세션에 저장된 닉네임. 없거나 다른 회원의 항목이면 null
+     */
+    public String get(String sessionId, Long memberId) {
+        if (sessionId == null) {
+            return null;
+        }
+        Entry entry = sessions.get(sessionId);
+        return entry != null && entry.memberId().equals(memberId) ? entry.nickname() : null;
+    }
+
+    /**
+     * 닉네임 변경 시 그 회원의 세션 항목을 모두 지운다 (드문 작업이라 전체를 훑는다)
+     */
+    public void evictMember(Long memberId) {
+        sessions.values().removeIf(entry -> entry.memberId().equals(memberId));
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        sessions.remove(event.getSessionId());
+    }
+
+    int size() {
+        return sessions.size();
+    }
+
+    private record Entry(Long memberId, String nickname) {
+
+    }
+}
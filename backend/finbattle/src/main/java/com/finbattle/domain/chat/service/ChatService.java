@@ -3,53 +3,59 @@ package com.finbattle.domain.chat.service;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.finbattle.domain.chat.dto.ChatMessage;
 import com.finbattle.domain.chat.model.ChatLog;
-import com.finbattle.domain.chat.repository.ChatLogRepository;
 import com.finbattle.domain.room.dto.RedisRoomMember;
 import com.finbattle.domain.room.model.RedisRoom;
-import com.finbattle.domain.room.repository.RedisRoomRepository;
 import com.finbattle.domain.room.service.RoomSubscriptionService;
-import com.finbattle.global.common.redis.RedisPublisher;
-import java.util.List;
-import java.util.concurrent.atomic.AtomicReference;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ChatService {
 
-    private final ChatLogRepository chatLogRepository;
-    private final RedisRoomRepository redisRoomRepository;
-    private final RedisPublisher redisPublisher;
+    private final ChatLogWriter chatLogWriter;
+    private final ChatNicknameCache chatNicknameCache;
+    private final ChatFanout chatFanout;
     private final RoomSubscriptionService roomSubscriptionService;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     /**
-     * 채팅 메시지를 DB에 저장하고, Redis 채널("chat")에 발행
+     * 채팅 메시지를 DB에 저장(비동기 batch)하고, Redis 채널("chat")에 발행
      */
-    public void processChatMessage(ChatMessage message, Long memberId) {
-        // DB 저장
-        ChatLog log = new ChatLog(message.getRoomId(), memberId, message.getContent());
-        chatLogRepository.save(log);
+    public void processChatMessage(ChatMessage message, Long memberId, String sessionId) {
+        // DB 저장은 ChatLogWriter 가 모아서 처리
+        chatLogWriter.write(new ChatLog(message.getRoomId(), memberId, message.getContent()));
         // Redis에 JSON 형태로 발행
         try {
-            Long roomId = Long.parseLong(message.getRoomId());
-            RedisRoom redisRoom = roomSubscriptionService.getRedisRoom(roomId);
-
-            List<RedisRoomMember> members = redisRoom.getMembers();
-            AtomicReference<String> nickname = new AtomicReference<>("");
-            members.forEach(member -> {
-                if (member.getMemberId().equals(memberId)) {
-                    nickname.set(member.getNickname());
-                }
-            });
-
+            String nickname = nicknameOf(sessionId, Long.parseLong(message.getRoomId()),
+                memberId);
             ChatMessage finalMessage = new ChatMessage(message.getContent(), message.getRoomId(),
-                nickname.get());
+                nickname);
             String jsonMessage = objectMapper.writeValueAsString(finalMessage);
-            redisPublisher.publish("chat:" + message.getRoomId(), jsonMessage);
+            chatFanout.publish(message.getRoomId(), jsonMessage);
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("채팅 발행 실패 roomId={}", message.getRoomId(), e);
+        }
+    }
+
+    private String nicknameOf(String sessionId, Long roomId, Long memberId) {
+        String nickname = chatNicknameCache.get(sessionId, memberId);
+        if (nickname != null) {
+            return nickname;
+        }
+        // 세션의 첫 채팅이면 방 정보에서 찾아 채운다
+        RedisRoom redisRoom = roomSubscriptionService.getRedisRoom(roomId);
+        if (redisRoom == null) {
+            return "";
+        }
+        for (RedisRoomMember member : redisRoom.getMembers()) {
+            if (member.getMemberId().equals(memberId)) {
+                chatNicknameCache.put(sessionId, memberId, member.getNickname());
+                return member.getNickname();
+            }
         }
+        return "";
     }
 }
@@ -2,7 +2,11 @@ package com.finbattle.domain.game.controller;
 
 import com.finbattle.domain.chat.model.StompPrincipal;
 import com.finbattle.domain.game.dto.AnswerRequest;
+import com.finbattle.domain.game.dto.ReplayRequest;
 import com.finbattle.domain.game.service.GameService;
+import com.finbattle.domain.room.model.RedisRoom;
+import com.finbattle.domain.room.service.RoomSubscriptionService;
+import com.finbattle.global.common.redis.RedisGameEventStream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
@@ -17,6 +21,8 @@ import org.springframework.stereotype.Controller;
 public class GameController {
 
     private final GameService gameService;
+    private final RedisGameEventStream gameEventStream;
+    private final RoomSubscriptionService roomSubscriptionService;
 
     //퀴즈 정답 체크
     @MessageMapping("/game/{roomId}/checkAnswer")
@@ -29,5 +35,21 @@ public class GameController {
             memberId);
     }
 
+    //재접속 시 놓친 게임 이벤트 재전송 (stream 전송 모드에서만 동작)
+    @MessageMapping("/game/{roomId}/replay")
+    public void replay(@DestinationVariable Long roomId, @Payload ReplayRequest request,
+        @AuthenticationPrincipal StompPrincipal member) {
+        if (!gameEventStream.isEnabled()) {
+            return;
+        }
+        // 방 멤버가 아니면 다른 방의 게임 이벤트를 받아갈 수 없다
+        RedisRoom redisRoom = roomSubscriptionService.getRedisRoom(roomId);
+        if (redisRoom == null || redisRoom.getMembers().stream()
+            .noneMatch(m -> m.getMemberId().equals(member.getMemberId()))) {
+            log.warn("방 멤버가 아닌 재전송 요청 roomId={}, memberId={}", roomId, member.getMemberId());
+            return;
+        }
+        gameEventStream.replay(roomId, request.getLastEventId(), member.getName());
+    }
 
 }
@@ -0,0 +1,25 @@
+package com.finbattle.domain.game.dto;
+
+/**
+ * 정답 판정 결과
+ *
+ * @param outcome          판정 결과
+ * @param attackedMemberId 라이프가 깎인 상대 (ACCEPTED 가 아니면 -1)
+ * @param remainingLife    상대의 남은 라이프 (ACCEPTED 가 아니면 -1)
+ */
+public record AnswerVerdict(Outcome outcome, long attackedMemberId, int remainingLife) {
+
+    public enum Outcome {
+        ACCEPTED,         // 이 문제의 첫 정답
+        ALREADY_ANSWERED, // 다른 제출이 먼저 정답 처리됨
+        STALE             // 이미 다음 문제로 넘어감
+    }
+
+    public static AnswerVerdict rejected(Outcome outcome) {
+        return new AnswerVerdict(outcome, -1L, -1);
+    }
+
+    public boolean accepted() {
+        return outcome == Outcome.ACCEPTED;
+    }
+}
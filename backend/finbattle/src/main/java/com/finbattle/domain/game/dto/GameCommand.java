@@ -0,0 +1,18 @@
+package com.finbattle.domain.game.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 방을 소유하지 않은 노드가 소유 노드로 넘기는 정답 제출 명령
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GameCommand {
+
+    private Long roomId;
+    private Long memberId;
+    private String userAnswer;
+}
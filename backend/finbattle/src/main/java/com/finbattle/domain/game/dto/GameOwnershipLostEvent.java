@@ -0,0 +1,10 @@
+package com.finbattle.domain.game.dto;
+
+/**
+ * 소유권 lease 갱신에 실패해 이 노드가 더 이상 게임을 진행하면 안 될 때
+ *
+ * @param roomId 소유권을 잃은 방
+ */
+public record GameOwnershipLostEvent(Long roomId) {
+
+}
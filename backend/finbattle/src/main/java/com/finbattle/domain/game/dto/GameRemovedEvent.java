@@ -0,0 +1,10 @@
+package com.finbattle.domain.game.dto;
+
+/**
+ * 게임이 끝났거나 시작 중에 취소되어 이 노드의 게임 상태를 지웠을 때
+ *
+ * @param roomId 게임을 지운 방
+ */
+public record GameRemovedEvent(Long roomId) {
+
+}
@@ -0,0 +1,12 @@
+package com.finbattle.domain.game.dto;
+
+import com.finbattle.domain.game.model.GameData;
+
+/**
+ * 이 노드가 게임 소유권을 새로 얻어 스냅샷에서 상태를 올렸을 때 (재시작 복구, 죽은 노드의 게임 인수)
+ *
+ * @param gameData 스냅샷에서 복구한 게임 상태
+ */
+public record GameTakenOverEvent(GameData gameData) {
+
+}
@@ -0,0 +1,9 @@
+package com.finbattle.domain.game.dto;
+
+import lombok.Data;
+
+@Data
+public class ReplayRequest {
+
+    private String lastEventId; // 마지막으로 받은 이벤트의 event-id 헤더 (없으면 보관 중인 전체)
+}
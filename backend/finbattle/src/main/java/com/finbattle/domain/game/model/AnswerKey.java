@@ -0,0 +1,121 @@
+package com.finbattle.domain.game.model;
+
+import com.finbattle.domain.quiz.dto.MultipleChoiceQuizDto;
+import com.finbattle.domain.quiz.dto.QuizOptionDto;
+import com.finbattle.domain.quiz.dto.ShortAnswerQuizDto;
+import java.text.Normalizer;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 게임 시작 시 한 번 만들어 두는 정답표
+ * <p>
+ * 객관식은 문제 슬롯별 정답 번호만, 단답형은 정규화한 정답 문자열만 들고 있어서 제출마다 보기 목록을 돌거나 정규식을 만들지
+ * 않는다. 정규화: NFKC(전각/반각 통일, 조합형 자모 시퀀스(NFD) -> 완성형) + 소문자 + 공백 제거
+ * <p>
+ * NFKC 는 이미 초성/중성/종성으로 풀려 있는 입력만 완성형으로 합친다. 따로 입력한 호환 자모("가ㄴ")는 "간" 이 되지 않고
+ * 다른 답으로 본다.
+ */
+public class AnswerKey {
+
+    private static final int NO_ANSWER = 0;
+
+    // 객관식 슬롯(0~4)별 정답 번호 (1~4, 없으면 0)
+    private final byte[] correctOptions;
+    // 단답형 슬롯(0~2)별 정규화된 정답
+    private final String[] shortAnswers;
+
+    private AnswerKey(byte[] correctOptions, String[] shortAnswers) {
+        this.correctOptions = correctOptions;
+        this.shortAnswers = shortAnswers;
+    }
+
+    public static AnswerKey compile(GameData gameData) {
+        List<MultipleChoiceQuizDto> multipleList = gameData.getMultipleChoiceQuizList();
+        byte[] correctOptions = new byte[multipleList.size()];
+        for (int i = 0; i < multipleList.size(); i++) {
+            correctOptions[i] = NO_ANSWER;
+            List<QuizOptionDto> options = multipleList.get(i).getQuizOptions();
+            if (options == null) {
+                continue;
+            }
+            for (QuizOptionDto option : options) {
+                if (option.isCorrect()) {
+                    correctOptions[i] = (byte) option.getOptionNumber();
+                    break;
+                }
+            }
+        }
+
+        List<ShortAnswerQuizDto> shortList = gameData.getShortAnswerQuizList();
+        String[] shortAnswers = new String[shortList.size()];
+        for (int i = 0; i < shortList.size(); i++) {
+            String answer = shortList.get(i).getShortAnswer();
+            shortAnswers[i] = answer == null ? null : normalize(answer);
+        }
+        return new AnswerKey(correctOptions, shortAnswers);
+    }
+
+    /**
+     * "1" ~ "4" 한 글자만 보기 번호로 인정. 그 외는 -1
+     */
+    public static int parseChoice(String userAnswer) {
+        if (userAnswer == null || userAnswer.length() != 1) {
+            return -1;
+        }
+        char c = userAnswer.charAt(0);
+        return c >= '1' && c <= '4' ? c - '0' : -1;
+    }
+
+    public boolean isCorrectChoice(int slot, int choice) {
+        return slot >= 0 && slot < correctOptions.length
+            && correctOptions[slot] != NO_ANSWER && correctOptions[slot] == choice;
+    }
+
+    public boolean isCorrectShortAnswer(int slot, String userAnswer) {
+        if (slot < 0 || slot >= shortAnswers.length || shortAnswers[slot] == null
+            || userAnswer == null) {
+            return false;
+        }
+        String expected = shortAnswers[slot];
+        // 대부분의 입력(ASCII, 전각 ASCII, 완성형 한글)은 할당 없이 글자 단위로 비교
+        int matched = 0;
+        for (int i = 0; i < userAnswer.length(); i++) {
+            char c = userAnswer.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (c >= '！' && c <= '～') {
+                c = (char) (c - 0xFEE0);
+            }
+            if (c >= 'A' && c <= 'Z') {
+                c = (char) (c + ('a' - 'A'));
+            } else if (c >= 0x80 && !isHangulSyllable(c)) {
+                // 조합형 자모, 기타 호환 문자는 정규화 후 비교
+                return expected.equals(normalize(userAnswer));
+            }
+            if (matched >= expected.length() || expected.charAt(matched) != c) {
+                return false;
+            }
+            matched++;
+        }
+        return matched == expected.length();
+    }
+
+    public static String normalize(String value) {
+        String normalized = Normalizer.normalize(value, Normalizer.Form.NFKC)
+            .toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static boolean isHangulSyllable(char c) {
+        return c >= '가' && c <= '힣';
+    }
+}
@@ -0,0 +1,38 @@
+package com.finbattle.domain.game.model;
+
+import com.finbattle.domain.game.dto.GameMemberStatus;
+import com.finbattle.domain.quiz.dto.EssayQuizDto;
+import com.finbattle.domain.quiz.dto.MultipleChoiceQuizDto;
+import com.finbattle.domain.quiz.dto.ShortAnswerQuizDto;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게임 시작 시 한 번만 기록되는 변하지 않는 게임 정보 (문제, 힌트, 보기, 참가자 프로필)
+ */
+@Data
+@NoArgsConstructor
+public class GameContent {
+
+    Long roomId;
+
+    //참가자 프로필 (라이프는 상태 hash 에서 따로 관리)
+    List<GameMemberStatus> members = new ArrayList<>();
+
+    //문제 정보들
+    List<MultipleChoiceQuizDto> multipleChoiceQuizList = new ArrayList<>();
+    List<ShortAnswerQuizDto> shortAnswerQuizList = new ArrayList<>();
+    EssayQuizDto essayQuiz;
+
+    public static GameContent from(GameData gameData) {
+        GameContent content = new GameContent();
+        content.setRoomId(gameData.getRoomId());
+        content.setMembers(gameData.getGameMemberStatusList());
+        content.setMultipleChoiceQuizList(gameData.getMultipleChoiceQuizList());
+        content.setShortAnswerQuizList(gameData.getShortAnswerQuizList());
+        content.setEssayQuiz(gameData.getEssayQuiz());
+        return content;
+    }
+}
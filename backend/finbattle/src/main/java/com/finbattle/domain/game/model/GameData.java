@@ -8,6 +8,7 @@ import java.util.ArrayList;
 import java.util.List;
 import lombok.Data;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
 import org.springframework.data.redis.core.RedisHash;
 
 @Data
@@ -31,4 +32,15 @@ public class GameData {
     List<MultipleChoiceQuizDto> multipleChoiceQuizList = new ArrayList<>();
     List<ShortAnswerQuizDto> shortAnswerQuizList = new ArrayList<>();
     EssayQuizDto essayQuiz;
+
+    //정답표 (저장하지 않고, 복구 후에는 처음 쓸 때 다시 만든다)
+    @Transient
+    AnswerKey answerKey;
+
+    public AnswerKey getAnswerKey() {
+        if (answerKey == null) {
+            answerKey = AnswerKey.compile(this);
+        }
+        return answerKey;
+    }
 }
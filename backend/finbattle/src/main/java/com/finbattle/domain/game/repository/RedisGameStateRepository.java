@@ -0,0 +1,281 @@
+package com.finbattle.domain.game.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finbattle.domain.game.dto.AnswerVerdict;
+import com.finbattle.domain.game.dto.AnswerVerdict.Outcome;
+import com.finbattle.domain.game.dto.GameMemberStatus;
+import com.finbattle.domain.game.model.EssayCorrected;
+import com.finbattle.domain.game.model.GameContent;
+import com.finbattle.domain.game.model.GameData;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 게임 상태 Redis 저장소
+ * <p>
+ * 변하지 않는 문제 정보는 game:content:{roomId} 에 JSON 으로 한 번만 쓰고, 진행 중에 바뀌는 값만 game:state:{roomId}
+ * hash 에 필드 단위로 기록한다.
+ * <pre>
+ * quizNum, currentQuizNum   진행 중인 문제 번호
+ * life:{memberId}           남은 라이프 (HINCRBY 로만 변경)
+ * essay:{memberId}          서술형 정답 "점수:제출시각(epoch ms)"
+ * winner:{quizNum}          해당 문제를 먼저 맞힌 memberId
+ * </pre>
+ * 이전 구조(@RedisHash("game"))로 저장된 게임은 읽을 때 새 구조로 옮긴다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class RedisGameStateRepository {
+
+    private static final String CONTENT_KEY = "game:content:";
+    private static final String STATE_KEY = "game:state:";
+    // 복구 시 KEYS 없이 진행 중인 게임을 찾기 위한 인덱스
+    private static final String ROOMS_KEY = "game:rooms";
+
+    private static final String QUIZ_NUM = "quizNum";
+    private static final String CURRENT_QUIZ_NUM = "currentQuizNum";
+    private static final String LIFE_PREFIX = "life:";
+    private static final String ESSAY_PREFIX = "essay:";
+
+    // 0 아래로 내려가지 않는 라이프 감소
+    private static final RedisScript<Long> DECREMENT_LIFE = new DefaultRedisScript<>(
+        "local v = redis.call('HINCRBY', KEYS[1], ARGV[1], -1) "
+            + "if v < 0 then redis.call('HSET', KEYS[1], ARGV[1], 0) v = 0 end "
+            + "return v",
+        Long.class);
+
+    /*
+     * 정답 판정. 현재 문제 확인 -> 첫 정답 기록 -> 상대 라이프 감소를 한 번에 처리한다
+     * KEYS[1] = 상태 hash, ARGV = { 문제 번호, 정답자 memberId, 상대 memberId }
+     * 반환 { 0: 지난 문제 | 1: 이미 정답 처리됨 | 2: 정답 인정, 상대 남은 라이프 }
+     */
+    private static final RedisScript<List> ADJUDICATE = new DefaultRedisScript<>(
+        "if redis.call('HGET', KEYS[1], 'currentQuizNum') ~= ARGV[1] then return {0, -1} end "
+            + "if redis.call('HSETNX', KEYS[1], 'winner:' .. ARGV[1], ARGV[2]) == 0 then "
+            + "return {1, -1} end "
+            + "local life = redis.call('HINCRBY', KEYS[1], 'life:' .. ARGV[3], -1) "
+            + "if life < 0 then redis.call('HSET', KEYS[1], 'life:' .. ARGV[3], 0) life = 0 end "
+            + "return {2, life}",
+        List.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisGameRepository legacyRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 게임 시작 시 문제 정보와 초기 상태를 모두 기록
+     */
+    public void create(GameData gameData) {
+        Long roomId = gameData.getRoomId();
+        stringRedisTemplate.opsForValue()
+            .set(CONTENT_KEY + roomId, toJson(GameContent.from(gameData)));
+        Map<String, String> state = new HashMap<>();
+        state.put(QUIZ_NUM, String.valueOf(gameData.getQuizNum()));
+        state.put(CURRENT_QUIZ_NUM, String.valueOf(gameData.getCurrentQuizNum()));
+        for (GameMemberStatus member : gameData.getGameMemberStatusList()) {
+            state.put(LIFE_PREFIX + member.getMemberId(), String.valueOf(member.getLife()));
+        }
+        putEssays(state, gameData.getEssayCorrectedList());
+        stringRedisTemplate.opsForHash().putAll(STATE_KEY + roomId, state);
+        stringRedisTemplate.opsForSet().add(ROOMS_KEY, String.valueOf(roomId));
+    }
+
+    /**
+     * 문제 번호와 서술형 정답만 기록. 라이프는 decrementLife 로 바로 반영되므로 쓰지 않는다
+     */
+    public void saveProgress(GameData gameData) {
+        Map<String, String> state = new HashMap<>();
+        state.put(QUIZ_NUM, String.valueOf(gameData.getQuizNum()));
+        state.put(CURRENT_QUIZ_NUM, String.valueOf(gameData.getCurrentQuizNum()));
+        putEssays(state, gameData.getEssayCorrectedList());
+        stringRedisTemplate.opsForHash().putAll(STATE_KEY + gameData.getRoomId(), state);
+    }
+
+    /**
+     * 메모리의 라이프를 그대로 덮어쓴다. Redis 장애로 HINCRBY 대신 로컬에서 깎은 라이프를 되돌려 놓을 때만 쓴다
+     */
+    public void saveLives(Long roomId, List<GameMemberStatus> members) {
+        Map<String, String> lives = new HashMap<>();
+        for (GameMemberStatus member : members) {
+            lives.put(LIFE_PREFIX + member.getMemberId(), String.valueOf(member.getLife()));
+        }
+        stringRedisTemplate.opsForHash().putAll(STATE_KEY + roomId, lives);
+    }
+
+    /**
+     * 새 문제 출제. 정답 판정이 현재 문제 번호를 보므로 스냅샷을 기다리지 않고 바로 기록한다
+     */
+    public void saveCurrentQuiz(Long roomId, Integer quizNum, Integer currentQuizNum) {
+        stringRedisTemplate.opsForHash().putAll(STATE_KEY + roomId, Map.of(
+            QUIZ_NUM, String.valueOf(quizNum),
+            CURRENT_QUIZ_NUM, String.valueOf(currentQuizNum)));
+    }
+
+    public AnswerVerdict adjudicate(Long roomId, int quizNum, long memberId,
+        long opponentMemberId) {
+        List<?> result = stringRedisTemplate.execute(ADJUDICATE, List.of(STATE_KEY + roomId),
+            String.valueOf(quizNum), String.valueOf(memberId), String.valueOf(opponentMemberId));
+        if (result == null || result.size() < 2) {
+            throw new IllegalStateException("정답 판정 결과가 없습니다. roomId=" + roomId);
+        }
+        int code = ((Number) result.get(0)).intValue();
+        if (code == 0) {
+            return AnswerVerdict.rejected(Outcome.STALE);
+        }
+        if (code == 1) {
+            return AnswerVerdict.rejected(Outcome.ALREADY_ANSWERED);
+        }
+        return new AnswerVerdict(Outcome.ACCEPTED, opponentMemberId,
+            ((Number) result.get(1)).intValue());
+    }
+
+    /**
+     * 라이프 1 감소 후 남은 라이프 반환
+     */
+    public int decrementLife(Long roomId, long memberId) {
+        Long life = stringRedisTemplate.execute(DECREMENT_LIFE, List.of(STATE_KEY + roomId),
+            LIFE_PREFIX + memberId);
+        return life == null ? 0 : life.intValue();
+    }
+
+    public Optional<GameData> findById(Long roomId) {
+        String contentJson = stringRedisTemplate.opsForValue().get(CONTENT_KEY + roomId);
+        if (contentJson == null) {
+            return migrateLegacy(roomId);
+        }
+        Map<Object, Object> state = stringRedisTemplate.opsForHash().entries(STATE_KEY + roomId);
+        return Optional.of(assemble(fromJson(contentJson), state));
+    }
+
+    /**
+     * 진행 중인 게임 roomId 목록. 이전 구조로 남아 있는 게임도 포함한다
+     */
+    public Set<Long> findAllRoomIds() {
+        Set<Long> roomIds = findActiveRoomIds();
+        for (GameData legacy : legacyRepository.findAll()) {
+            if (legacy != null) {
+                roomIds.add(legacy.getRoomId());
+            }
+        }
+        return roomIds;
+    }
+
+    /**
+     * 현재 구조로 저장된 진행 중인 게임 roomId 목록 (SMEMBERS 한 번)
+     */
+    public Set<Long> findActiveRoomIds() {
+        Set<Long> roomIds = new LinkedHashSet<>();
+        Set<String> members = stringRedisTemplate.opsForSet().members(ROOMS_KEY);
+        if (members != null) {
+            members.forEach(id -> roomIds.add(Long.valueOf(id)));
+        }
+        return roomIds;
+    }
+
+    /**
+     * 현재 구조로 저장된 진행 중인 게임인지 (SISMEMBER 한 번)
+     */
+    public boolean isActive(Long roomId) {
+        return Boolean.TRUE.equals(
+            stringRedisTemplate.opsForSet().isMember(ROOMS_KEY, String.valueOf(roomId)));
+    }
+
+    public void deleteById(Long roomId) {
+        stringRedisTemplate.delete(List.of(CONTENT_KEY + roomId, STATE_KEY + roomId));
+        stringRedisTemplate.opsForSet().remove(ROOMS_KEY, String.valueOf(roomId));
+        legacyRepository.deleteById(roomId);
+    }
+
+    private Optional<GameData> migrateLegacy(Long roomId) {
+        Optional<GameData> legacy = legacyRepository.findById(roomId);
+        legacy.ifPresent(gameData -> {
+            log.info("이전 구조 게임 데이터 변환: roomId={}", roomId);
+            create(gameData);
+            legacyRepository.deleteById(roomId);
+        });
+        return legacy;
+    }
+
+    private GameData assemble(GameContent content, Map<Object, Object> state) {
+        GameData gameData = new GameData();
+        gameData.setRoomId(content.getRoomId());
+        gameData.setMultipleChoiceQuizList(content.getMultipleChoiceQuizList());
+        gameData.setShortAnswerQuizList(content.getShortAnswerQuizList());
+        gameData.setEssayQuiz(content.getEssayQuiz());
+        gameData.setQuizNum(toInteger(state.get(QUIZ_NUM)));
+        gameData.setCurrentQuizNum(toInteger(state.get(CURRENT_QUIZ_NUM)));
+
+        List<GameMemberStatus> members = new ArrayList<>();
+        for (GameMemberStatus profile : content.getMembers()) {
+            Integer life = toInteger(state.get(LIFE_PREFIX + profile.getMemberId()));
+            members.add(new GameMemberStatus(profile.getMemberId(), profile.getMainCat(),
+                profile.getNickname(), life == null ? profile.getLife() : life));
+        }
+        gameData.setGameMemberStatusList(members);
+
+        List<EssayCorrected> essays = new ArrayList<>();
+        state.forEach((field, value) -> {
+            String name = field.toString();
+            if (name.startsWith(ESSAY_PREFIX)) {
+                String[] parts = value.toString().split(":");
+                essays.add(new EssayCorrected(
+                    Long.valueOf(name.substring(ESSAY_PREFIX.length())),
+                    Integer.valueOf(parts[0]),
+                    LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(parts[1])),
+                        ZoneId.systemDefault())));
+            }
+        });
+        // 먼저 제출한 순서를 유지
+        essays.sort(Comparator.comparing(EssayCorrected::getCreatedAt));
+        gameData.setEssayCorrectedList(essays);
+        return gameData;
+    }
+
+    private void putEssays(Map<String, String> state, List<EssayCorrected> essays) {
+        for (EssayCorrected essay : essays) {
+            long submittedAt = essay.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant()
+                .toEpochMilli();
+            state.put(ESSAY_PREFIX + essay.getMemberId(), essay.getScore() + ":" + submittedAt);
+        }
+    }
+
+    private Integer toInteger(Object value) {
+        if (value == null || "null".equals(value)) {
+            return null;
+        }
+        return Integer.valueOf(value.toString());
+    }
+
+    private String toJson(GameContent content) {
+        try {
+            return objectMapper.writeValueAsString(content);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("게임 정보 직렬화 실패", e);
+        }
+    }
+
+    private GameContent fromJson(String json) {
+        try {
+            return objectMapper.readValue(json, GameContent.class);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("게임 정보 역직렬화 실패", e);
+        }
+    }
+}
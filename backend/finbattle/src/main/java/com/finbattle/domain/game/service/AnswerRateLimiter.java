@@ -0,0 +1,205 @@
+package com.finbattle.domain.game.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * (roomId, memberId) 단위 객관식 연타 제한
+ * <p>
+ * 마지막으로 받아들인 제출 시각(nanoTime)만 고정 크기 open addressing 테이블에 기록한다. 제한 시간이 지난 칸은 다른 키가
+ * 다시 쓰므로 메모리는 capacity 이상 늘지 않고, 락 없이 CAS 로만 갱신한다.
+ * <p>
+ * 정답 제출은 방 소유 노드로 모이므로 local 모드로도 노드 간 일관성이 유지된다. 소유 노드를 거치지 않는 구성을 위해
+ * redis 모드(SET NX PX)도 둔다.
+ */
+@Slf4j
+@Component
+public class AnswerRateLimiter {
+
+    private static final long EMPTY = 0L;
+    // 한 번도 쓰지 않은 칸의 stamp
+    private static final long UNUSED = 0L;
+    private static final int MAX_PROBE = 16;
+    private static final int MAX_ATTEMPTS = 4;
+
+    private static final int ACQUIRED = 1;
+    private static final int THROTTLED = 0;
+    private static final int RETRY = -1;
+    private static final int FULL = -2;
+    private static final String REDIS_KEY = "answer-limit:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final boolean redisMode;
+    private final long windowNanos;
+    private final Duration window;
+    private final int mask;
+    private final AtomicLongArray keys;
+    private final AtomicLongArray stamps;
+    private final Counter throttledCounter;
+    private final Counter overflowCounter;
+
+    public AnswerRateLimiter(StringRedisTemplate stringRedisTemplate, MeterRegistry meterRegistry,
+        @Value("${game.answer-limit.window-ms:2000}") long windowMs,
+        @Value("${game.answer-limit.capacity:16384}") int capacity,
+        @Value("${game.answer-limit.mode:local}") String mode) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisMode = "redis".equalsIgnoreCase(mode);
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMs);
+        this.window = Duration.ofMillis(windowMs);
+        int size = Integer.highestOneBit(Math.max(capacity, MAX_PROBE) - 1) << 1;
+        this.mask = size - 1;
+        this.keys = new AtomicLongArray(size);
+        this.stamps = new AtomicLongArray(size);
+
+        this.throttledCounter = Counter.builder("game.answer.throttled")
+            .description("연타로 무시된 정답 제출 수")
+            .register(meterRegistry);
+        this.overflowCounter = Counter.builder("game.answer.limiter.overflow")
+            .description("테이블에 자리가 없거나 칸 경합이 계속되어 제한 없이 통과시킨 제출 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 제출을 받아들여도 되면 true. true 를 반환한 시점부터 window 동안은 같은 사용자의 제출을 막는다
+     */
+    public boolean tryAcquire(Long roomId, Long memberId) {
+        boolean acquired = redisMode ? tryAcquireRedis(roomId, memberId)
+            : tryAcquireLocal(key(roomId, memberId), System.nanoTime());
+        if (!acquired) {
+            throttledCounter.increment();
+        }
+        return acquired;
+    }
+
+    /**
+     * 정답이 나와 다음 문제로 넘어갈 때 제한을 풀어준다
+     */
+    public void reset(Long roomId, Long memberId) {
+        if (redisMode) {
+            try {
+                stringRedisTemplate.delete(redisKey(roomId, memberId));
+                return;
+            } catch (Exception e) {
+                log.warn("연타 제한 해제 실패 roomId={}, memberId={}", roomId, memberId, e);
+            }
+        }
+        long key = key(roomId, memberId);
+        int index = indexOf(key);
+        for (int probe = 0; probe < MAX_PROBE; probe++) {
+            int i = (index + probe) & mask;
+            long current = keys.get(i);
+            if (current == key) {
+                stamps.set(i, System.nanoTime() - windowNanos);
+                return;
+            }
+            if (current == EMPTY) {
+                return;
+            }
+        }
+    }
+
+    private boolean tryAcquireRedis(Long roomId, Long memberId) {
+        try {
+            Boolean acquired = stringRedisTemplate.opsForValue()
+                .setIfAbsent(redisKey(roomId, memberId), "1", window);
+            return Boolean.TRUE.equals(acquired);
+        } catch (Exception e) {
+            log.warn("Redis 연타 제한 실패, 로컬 제한으로 대체 roomId={}", roomId, e);
+            return tryAcquireLocal(key(roomId, memberId), System.nanoTime());
+        }
+    }
+
+    private boolean tryAcquireLocal(long key, long now) {
+        // 칸 경합으로 다시 찾아야 하는 경우도 횟수를 제한한다
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            int result = probe(key, now);
+            if (result == ACQUIRED || result == THROTTLED) {
+                return result == ACQUIRED;
+            }
+            if (result == FULL) {
+                break;
+            }
+        }
+        overflowCounter.increment();
+        return true;
+    }
+
+    private int probe(long key, long now) {
+        int index = indexOf(key);
+        int reusable = -1;
+        long reusableKey = EMPTY;
+        for (int probe = 0; probe < MAX_PROBE; probe++) {
+            int i = (index + probe) & mask;
+            long current = keys.get(i);
+            if (current == key) {
+                long last = stamps.get(i);
+                if (now - last < windowNanos) {
+                    return THROTTLED;
+                }
+                // 동시에 들어온 제출 중 하나만 통과
+                return claimStamp(i, key, last, now, THROTTLED);
+            }
+            if (current == EMPTY) {
+                if (reusable >= 0) {
+                    break;
+                }
+                if (keys.compareAndSet(i, EMPTY, key)) {
+                    // 같은 키로 동시에 들어와 이 칸을 찾은 스레드와 stamp CAS 로 경쟁
+                    return claimStamp(i, key, UNUSED, now, THROTTLED);
+                }
+                // 다른 스레드가 먼저 차지한 칸. 처음부터 다시 찾는다
+                return RETRY;
+            }
+            if (reusable < 0 && now - stamps.get(i) >= windowNanos) {
+                reusable = i;
+                reusableKey = current;
+            }
+        }
+        if (reusable < 0) {
+            return FULL;
+        }
+        long last = stamps.get(reusable);
+        // 키를 먼저 바꿔 걸어서 같은 키로 동시에 들어온 스레드가 이 칸을 찾게 한 뒤 stamp CAS 로 한 명만 통과시킨다
+        if (now - last < windowNanos
+            || !keys.compareAndSet(reusable, reusableKey, key)) {
+            return RETRY;
+        }
+        return claimStamp(reusable, key, last, now, RETRY);
+    }
+
+    /**
+     * stamp 를 last 에서 now 로 바꾼다. stamp 가 아직 만료 상태인 동안에는 다른 키가 칸을 재사용할 수 있으므로 CAS 뒤에
+     * 칸의 키가 그대로인지 다시 보고, 바뀌었으면 stamp 를 되돌리고 처음부터 다시 찾는다
+     */
+    private int claimStamp(int i, long key, long last, long now, int lost) {
+        if (!stamps.compareAndSet(i, last, now)) {
+            return keys.get(i) == key ? lost : RETRY;
+        }
+        if (keys.get(i) != key) {
+            stamps.compareAndSet(i, now, last);
+            return RETRY;
+        }
+        return ACQUIRED;
+    }
+
+    private int indexOf(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    // roomId, memberId 는 32bit 범위라고 가정. roomId 가 1 이상이므로 0(EMPTY) 이 나오지 않는다
+    private static long key(Long roomId, Long memberId) {
+        return (roomId << 32) | (memberId & 0xFFFFFFFFL);
+    }
+
+    private static String redisKey(Long roomId, Long memberId) {
+        return REDIS_KEY + roomId + ":" + memberId;
+    }
+}
@@ -2,36 +2,44 @@ package com.finbattle.domain.game.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.finbattle.domain.ai.service.EssayAiScoringService;
+import com.finbattle.domain.ai.service.AsyncEssayScoringService;
+import com.finbattle.domain.game.dto.AnswerVerdict;
 import com.finbattle.domain.game.dto.EventMessage;
+import com.finbattle.domain.game.dto.GameCommand;
 import com.finbattle.domain.game.dto.EventType;
 import com.finbattle.domain.game.dto.GameMemberStatus;
+import com.finbattle.domain.game.dto.GameOwnershipLostEvent;
+import com.finbattle.domain.game.dto.GameRemovedEvent;
+import com.finbattle.domain.game.dto.GameTakenOverEvent;
+import com.finbattle.domain.game.model.AnswerKey;
 import com.finbattle.domain.game.model.EssayCorrected;
 import com.finbattle.domain.game.model.GameData;
-import com.finbattle.domain.game.repository.RedisGameRepository;
 import com.finbattle.domain.member.service.MemberFacadeService;
 import com.finbattle.domain.quiz.dto.EssayQuizDto;
 import com.finbattle.domain.quiz.dto.MultipleChoiceQuizDto;
 import com.finbattle.domain.quiz.dto.ShortAnswerQuizDto;
 import com.finbattle.domain.quiz.model.QuizLog;
 import com.finbattle.domain.quiz.model.QuizMode;
-import com.finbattle.domain.quiz.repository.QuizLogRepository;
+import com.finbattle.domain.quiz.service.QuizLogWriter;
 import com.finbattle.domain.room.dto.RoomStatus;
 import com.finbattle.domain.room.model.Room;
 import com.finbattle.domain.room.repository.RedisRoomRepository;
 import com.finbattle.domain.room.repository.RoomRepository;
+import com.finbattle.global.common.actor.RoomActorSystem;
+import com.finbattle.global.common.redis.GameEventPublisher;
 import com.finbattle.global.common.redis.RedisPublisher;
-import java.time.Duration;
+import com.finbattle.global.common.timer.GameTimer;
+import com.finbattle.global.common.timer.TimerKind;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -39,28 +47,38 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class GameService {
 
-    private final RedisGameRepository redisGameRepository;
+    private final GameStateStore gameStateStore;
     private final RedisPublisher redisPublisher;
+    private final GameEventPublisher gameEventPublisher;
     private final ObjectMapper objectMapper = new ObjectMapper();
     private final QuizTimerService quizTimerService;
-    private final EssayAiScoringService essayAiScoringService;
+    private final AsyncEssayScoringService asyncEssayScoringService;
     private final RoomRepository roomRepository;
-    private final QuizLogRepository quizLogRepository;
+    private final QuizLogWriter quizLogWriter;
 
-    private final Map<Long, LocalDateTime> lastAnswerMap = new ConcurrentHashMap<>();
-    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(100);
+    private final AnswerRateLimiter answerRateLimiter;
+    // 채점 중인 서술형 답안 (roomId -> memberId). 게임이 지워지거나 소유권을 잃으면 방 단위로 비운다
+    private final Map<Long, Set<Long>> scoringEssays = new ConcurrentHashMap<>();
+    private final GameTimer gameTimer;
+    private final RoomActorSystem roomActorSystem;
     private final RedisRoomRepository redisRoomRepository;
     private final MemberFacadeService memberFacadeService;
 
+    /*
+     * 게임 상태를 바꾸는 모든 처리는 방 mailbox 를 통해 순서대로 실행된다.
+     * (정답 제출은 STOMP inbound 스레드, 타임아웃/힌트/다음 문제는 GameTimer 에서 들어옴)
+     */
     public void startAutoGame(Long roomId) {
-        if (!canStartGame(roomId)) {
-            return;
-        }
-        askNextQuiz(roomId);
+        roomActorSystem.tell(roomId, () -> {
+            if (!canStartGame(roomId)) {
+                return;
+            }
+            askNextQuiz(roomId);
+        });
     }
 
     private boolean canStartGame(Long roomId) {
-        GameData gameData = redisGameRepository.findById(roomId)
+        GameData gameData = gameStateStore.find(roomId)
             .orElseThrow(() -> new RuntimeException("GameData not found! roomId=" + roomId));
         boolean dead = gameData.getGameMemberStatusList().stream().anyMatch(m -> m.getLife() <= 0);
         if (dead) {
@@ -74,7 +92,7 @@ public class GameService {
     }
 
     private void askNextQuiz(Long roomId) {
-        GameData gameData = redisGameRepository.findById(roomId)
+        GameData gameData = gameStateStore.find(roomId)
             .orElseThrow(() -> new RuntimeException("No GameData for roomId=" + roomId));
 
         if (isSomebodyDead(gameData)) {
@@ -94,9 +112,7 @@ public class GameService {
         }
         int selectedQuizNum = remaining.get((int) (Math.random() * remaining.size()));
         quizNum |= (1 << selectedQuizNum);
-        gameData.setQuizNum(quizNum);
-        gameData.setCurrentQuizNum(selectedQuizNum);
-        redisGameRepository.save(gameData);
+        gameStateStore.startQuiz(gameData, quizNum, selectedQuizNum);
 
         publishQuiz(roomId, selectedQuizNum, gameData);
     }
@@ -177,10 +193,53 @@ public class GameService {
     }
 
     public void checkQuizAnswer(Long roomId, String userAnswer, Long memberId) {
+        // 게임 상태는 방을 소유한 노드의 메모리에만 있으므로 다른 노드면 소유 노드로 넘긴다
+        String owner = gameStateStore.ownerOf(roomId);
+        if (owner == null) {
+            // 소유 노드의 lease 가 만료됐거나 없는 방. 진행 중인 게임이면 가져와서 다음 문제부터 다시 시작하므로
+            // 이 답안은 버린다 (없는 방은 claim 안에서 SISMEMBER 한 번으로 걸러진다)
+            gameStateStore.claim(roomId);
+            return;
+        }
+        if (!gameStateStore.isLocal(owner)) {
+            forwardToOwner(owner, new GameCommand(roomId, memberId, userAnswer));
+            return;
+        }
+        roomActorSystem.tell(roomId, () -> handleQuizAnswer(roomId, userAnswer, memberId));
+    }
+
+    /**
+     * 재시작 복구나 죽은 노드의 게임 인수로 상태를 올렸으면 다음 문제부터 이어간다
+     */
+    @EventListener
+    public void onGameTakenOver(GameTakenOverEvent event) {
+        Long roomId = event.gameData().getRoomId();
+        log.info("게임 이어서 진행: roomId={}", roomId);
+        roomActorSystem.tell(roomId, () -> askNextQuiz(roomId));
+    }
+
+    /**
+     * 다른 노드가 게임을 가져갔으면 이 노드에 걸린 타이머를 정리한다
+     */
+    @EventListener
+    public void onGameOwnershipLost(GameOwnershipLostEvent event) {
+        quizTimerService.releaseRoom(event.roomId());
+        scoringEssays.remove(event.roomId());
+    }
+
+    /**
+     * 게임이 끝나거나 취소되면 채점 중 표시를 지운다. 늦게 도착한 채점 결과는 mailbox 가 닫혀 있어 버려진다
+     */
+    @EventListener
+    public void onGameRemoved(GameRemovedEvent event) {
+        scoringEssays.remove(event.roomId());
+    }
+
+    private void handleQuizAnswer(Long roomId, String userAnswer, Long memberId) {
         if (!quizTimerService.hasQuizTask(roomId)) {
             return;
         }
-        GameData gameData = redisGameRepository.findById(roomId)
+        GameData gameData = gameStateStore.find(roomId)
             .orElseThrow(() -> new RuntimeException("해당 roomId의 GameData가 없습니다."));
         String nickname = gameData.getGameMemberStatusList().stream()
             .filter(member -> member.getMemberId() == memberId).map(GameMemberStatus::getNickname)
@@ -188,32 +247,31 @@ public class GameService {
         int quizNum = gameData.getCurrentQuizNum();
         boolean isCorrect = false;
         Long quizId = null;
+        AnswerVerdict verdict = null;
 
         if (quizNum >= 1 && quizNum <= 5) {
             MultipleChoiceQuizDto quiz = gameData.getMultipleChoiceQuizList().get(quizNum - 1);
             quizId = quiz.getQuizId();
-            boolean isNumericAnswer = userAnswer.matches("[1-4]");
+            int ans = AnswerKey.parseChoice(userAnswer);
+            boolean isNumericAnswer = ans > 0;
             String resultMessageText;
             if (isNumericAnswer) {
-                LocalDateTime now = LocalDateTime.now();
-
-                if (lastAnswerMap.containsKey(memberId)) {
-                    LocalDateTime last = lastAnswerMap.get(memberId);
-                    if (Duration.between(last, now).toMillis() < 2000) {
-                        log.warn("❗ Too fast answer from memberId={}", memberId);
-                        return; // 2초 안에 또 입력하면 무시
-                    }
+                if (!answerRateLimiter.tryAcquire(roomId, memberId)) {
+                    log.warn("❗ Too fast answer from memberId={}", memberId);
+                    return; // 2초 안에 또 입력하면 무시
                 }
 
-                lastAnswerMap.put(memberId, now);
-
-                int ans = Integer.parseInt(userAnswer);
-                isCorrect = quiz.getQuizOptions().stream()
-                    .anyMatch(option -> option.getOptionNumber() == ans && option.isCorrect());
-                resultMessageText = isCorrect ? "정답입니다. (정답: " + ans + "번)" : "오답입니다.";
+                isCorrect = gameData.getAnswerKey().isCorrectChoice(quizNum - 1, ans);
                 if (isCorrect) {
+                    verdict = gameStateStore.adjudicate(gameData, memberId);
+                    if (!verdict.accepted()) {
+                        log.info("늦은 정답 무시: roomId={}, memberId={}, {}", roomId, memberId,
+                            verdict.outcome());
+                        return;
+                    }
                     quizTimerService.cancelQuizTasks(roomId);
                 }
+                resultMessageText = isCorrect ? "정답입니다. (정답: " + ans + "번)" : "오답입니다.";
             } else {
                 resultMessageText = userAnswer;
             }
@@ -233,21 +291,29 @@ public class GameService {
                 .userAnswer(userAnswer)
                 .isCorrect(isCorrect)
                 .build();
-            quizLogRepository.save(log);
+            quizLogWriter.write(log);
             if (isCorrect) {
                 for (GameMemberStatus member : gameData.getGameMemberStatusList()) {
-                    lastAnswerMap.remove(member.getMemberId());
+                    answerRateLimiter.reset(roomId, member.getMemberId());
                 }
-                quizTimerService.cancelQuizTasks(roomId);
-                updateUserLives(gameData, memberId);
-                scheduler.schedule(() -> askNextQuiz(roomId), 2300, TimeUnit.MILLISECONDS);
+                publishAttack(gameData, verdict.attackedMemberId());
+                gameTimer.schedule(roomId, TimerKind.NEXT_QUIZ, () -> askNextQuiz(roomId), 2300,
+                    TimeUnit.MILLISECONDS);
             }
 
         } else if (quizNum >= 6 && quizNum <= 8) {
             int index = quizNum - 6;
             ShortAnswerQuizDto quiz = gameData.getShortAnswerQuizList().get(index);
             quizId = quiz.getQuizId();
-            isCorrect = quiz.getShortAnswer().equalsIgnoreCase(userAnswer.trim());
+            isCorrect = gameData.getAnswerKey().isCorrectShortAnswer(index, userAnswer);
+            if (isCorrect) {
+                verdict = gameStateStore.adjudicate(gameData, memberId);
+                if (!verdict.accepted()) {
+                    log.info("늦은 정답 무시: roomId={}, memberId={}, {}", roomId, memberId,
+                        verdict.outcome());
+                    return;
+                }
+            }
             EventMessage<Map<String, Object>> resultMessage = new EventMessage<>(
                 EventType.QUIZ_RESULT,
                 roomId,
@@ -264,11 +330,12 @@ public class GameService {
                 .userAnswer(userAnswer)
                 .isCorrect(isCorrect)
                 .build();
-            quizLogRepository.save(log);
+            quizLogWriter.write(log);
             if (isCorrect) {
                 quizTimerService.cancelQuizTasks(roomId);
-                updateUserLives(gameData, memberId);
-                scheduler.schedule(() -> askNextQuiz(roomId), 2300, TimeUnit.MILLISECONDS);
+                publishAttack(gameData, verdict.attackedMemberId());
+                gameTimer.schedule(roomId, TimerKind.NEXT_QUIZ, () -> askNextQuiz(roomId), 2300,
+                    TimeUnit.MILLISECONDS);
             }
 
         } else if (quizNum == 9) {
@@ -279,40 +346,95 @@ public class GameService {
                     return;
                 }
             }
-            quizId = quiz.getQuizId();
-            int score = essayAiScoringService.scoreEssayAnswer(quiz.getEssayQuestion(), userAnswer);
-            isCorrect = score >= 0;
-            Map<String, Object> essayResult = Map.of(
-                "quizId", quizId,
-                "score", score,
-                "sender", nickname
-            );
-            EventMessage<Map<String, Object>> essayResultMessage = new EventMessage<>(
+            // 채점 중인 답안이 있으면 다시 받지 않는다
+            if (!scoringEssays.computeIfAbsent(roomId, id -> ConcurrentHashMap.newKeySet())
+                .add(memberId)) {
+                return;
+            }
+            Long essayQuizId = quiz.getQuizId();
+            asyncEssayScoringService.scoreAsync(quiz.getEssayQuestion(), userAnswer)
+                .thenAccept(score -> {
+                    boolean delivered = roomActorSystem.tell(roomId,
+                        () -> applyEssayScore(roomId, memberId, essayQuizId, userAnswer, score));
+                    if (!delivered) {
+                        // 채점 중에 게임이 끝난 경우
+                        finishScoring(roomId, memberId);
+                    }
+                });
+        }
+    }
+
+    /**
+     * 채점 결과 반영. 채점하는 동안 시간이 지나 다음 문제로 넘어갔거나 게임이 끝났으면 버린다
+     */
+    private void applyEssayScore(Long roomId, Long memberId, Long quizId, String userAnswer,
+        int score) {
+        finishScoring(roomId, memberId);
+        GameData gameData = gameStateStore.find(roomId).orElse(null);
+        if (gameData == null || gameData.getCurrentQuizNum() != 9
+            || !quizTimerService.hasQuizTask(roomId)) {
+            log.info("채점 완료 전 서술형 종료: roomId={}, memberId={}", roomId, memberId);
+            return;
+        }
+        List<EssayCorrected> correcteds = gameData.getEssayCorrectedList();
+        String nickname = gameData.getGameMemberStatusList().stream()
+            .filter(member -> member.getMemberId() == memberId).map(GameMemberStatus::getNickname)
+            .findFirst().orElse(null);
+        if (score == AsyncEssayScoringService.SCORING_UNAVAILABLE) {
+            // 채점하지 못한 답안은 정답/오답으로 남기지 않고 다시 제출받는다
+            publishToGame(roomId, new EventMessage<>(
                 EventType.QUIZ_RESULT,
                 roomId,
-                essayResult
-            );
-            publishToGame(roomId, essayResultMessage);
-            QuizLog log = QuizLog.builder()
-                .memberId(memberId)
-                .quizId(quizId)
-                .userAnswer(userAnswer)
-                .isCorrect(isCorrect)
-                .build();
-            quizLogRepository.save(log);
-            if (isCorrect) {
-                correcteds.add(new EssayCorrected(memberId, score, LocalDateTime.now()));
-                redisGameRepository.save(gameData);
-                if (correcteds.size() >= 2) {
-                    quizTimerService.cancelQuizTasks(roomId);
-                    updateUserLives(gameData, memberId);
-                    scheduler.schedule(() -> askNextQuiz(roomId), 2300, TimeUnit.MILLISECONDS);
-                }
+                Map.of(
+                    "quizId", quizId,
+                    "result", "채점에 실패했습니다. 다시 제출해 주세요.",
+                    "sender", nickname
+                )
+            ));
+            return;
+        }
+        boolean isCorrect = score >= 0;
+        Map<String, Object> essayResult = Map.of(
+            "quizId", quizId,
+            "score", score,
+            "sender", nickname
+        );
+        EventMessage<Map<String, Object>> essayResultMessage = new EventMessage<>(
+            EventType.QUIZ_RESULT,
+            roomId,
+            essayResult
+        );
+        publishToGame(roomId, essayResultMessage);
+        QuizLog log = QuizLog.builder()
+            .memberId(memberId)
+            .quizId(quizId)
+            .userAnswer(userAnswer)
+            .isCorrect(isCorrect)
+            .build();
+        quizLogWriter.write(log);
+        if (isCorrect) {
+            correcteds.add(new EssayCorrected(memberId, score, LocalDateTime.now()));
+            gameStateStore.markDirty(gameData.getRoomId());
+            if (correcteds.size() >= 2) {
+                quizTimerService.cancelQuizTasks(roomId);
+                updateEssayLives(gameData);
+                gameTimer.schedule(roomId, TimerKind.NEXT_QUIZ, () -> askNextQuiz(roomId), 2300,
+                    TimeUnit.MILLISECONDS);
             }
         }
     }
 
-    private void updateUserLives(GameData gameData, Long targetMemberId) {
+    private void finishScoring(Long roomId, Long memberId) {
+        scoringEssays.computeIfPresent(roomId, (id, members) -> {
+            members.remove(memberId);
+            return members.isEmpty() ? null : members;
+        });
+    }
+
+    /**
+     * 서술형은 두 사람이 모두 맞힌 뒤 점수(같으면 먼저 제출한 사람)로 승패를 가린다
+     */
+    private void updateEssayLives(GameData gameData) {
         List<GameMemberStatus> memberList = gameData.getGameMemberStatusList();
         if (memberList == null) {
             return;
@@ -325,7 +447,7 @@ public class GameService {
                 for (GameMemberStatus m : memberList) {
                     if (m.getMemberId() == m2.getMemberId()) {
                         attackedMemberId = m.getMemberId();
-                        m.setLife(Math.max(0, m.getLife() - 1));
+                        gameStateStore.decrementLife(gameData.getRoomId(), m);
                         break;
                     }
                 }
@@ -333,7 +455,7 @@ public class GameService {
                 for (GameMemberStatus m : memberList) {
                     if (m.getMemberId() == m1.getMemberId()) {
                         attackedMemberId = m.getMemberId();
-                        m.setLife(Math.max(0, m.getLife() - 1));
+                        gameStateStore.decrementLife(gameData.getRoomId(), m);
                         break;
                     }
                 }
@@ -342,7 +464,7 @@ public class GameService {
                     for (GameMemberStatus m : memberList) {
                         if (m.getMemberId() == m1.getMemberId()) {
                             attackedMemberId = m.getMemberId();
-                            m.setLife(Math.max(0, m.getLife() - 1));
+                            gameStateStore.decrementLife(gameData.getRoomId(), m);
                             break;
                         }
                     }
@@ -350,34 +472,20 @@ public class GameService {
                     for (GameMemberStatus m : memberList) {
                         if (m.getMemberId() == m2.getMemberId()) {
                             attackedMemberId = m.getMemberId();
-                            m.setLife(Math.max(0, m.getLife() - 1));
+                            gameStateStore.decrementLife(gameData.getRoomId(), m);
                             break;
                         }
                     }
                 }
             }
-            redisGameRepository.save(gameData);
-            Map<String, Object> data = Map.of(
-                "attackedMemberId", attackedMemberId,
-                "memberList", memberList
-            );
-            EventMessage<Map<String, Object>> userStatusMessage = new EventMessage<>(
-                EventType.ONE_ATTACK, gameData.getRoomId(), data
-            );
-            publishToGame(gameData.getRoomId(), userStatusMessage);
-            return;
-        }
-        for (GameMemberStatus ms : memberList) {
-            if (ms.getMemberId() != targetMemberId) {
-                attackedMemberId = ms.getMemberId();
-                ms.setLife(Math.max(0, ms.getLife() - 1));
-                break;
-            }
+            publishAttack(gameData, attackedMemberId);
         }
-        redisGameRepository.save(gameData);
+    }
+
+    private void publishAttack(GameData gameData, long attackedMemberId) {
         Map<String, Object> data = Map.of(
             "attackedMemberId", attackedMemberId,
-            "memberList", memberList
+            "memberList", gameData.getGameMemberStatusList()
         );
         EventMessage<Map<String, Object>> userStatusMessage = new EventMessage<>(
             EventType.ONE_ATTACK, gameData.getRoomId(), data
@@ -387,7 +495,7 @@ public class GameService {
 
     public void endGame(Long roomId) {
         log.info("게임 종료: roomId={}", roomId);
-        GameData gameData = redisGameRepository.findById(roomId)
+        GameData gameData = gameStateStore.find(roomId)
             .orElseThrow(() -> new IllegalArgumentException("해당 roomId의 GameData가 없습니다."));
         long winnerId = -1L;
         long loserId = -1L;
@@ -409,7 +517,9 @@ public class GameService {
                 memberFacadeService.updateExpAndPoint(m.getMemberId(), 75L, 100L);
             }
         }
-        redisGameRepository.deleteById(roomId);
+        quizTimerService.releaseRoom(roomId);
+        roomActorSystem.release(roomId);
+        gameStateStore.remove(roomId);
         redisRoomRepository.deleteById(roomId);
         Room room = roomRepository.findById(roomId)
             .orElseThrow(() -> new IllegalArgumentException("방을 찾을 수 없습니다."));
@@ -422,12 +532,21 @@ public class GameService {
         EventMessage<Map<String, Object>> message = new EventMessage<>(EventType.REWARD, roomId,
             data);
         publishToGame(roomId, message);
+        gameEventPublisher.close(roomId);
+    }
+
+    private void forwardToOwner(String owner, GameCommand command) {
+        try {
+            String jsonMessage = objectMapper.writeValueAsString(command);
+            redisPublisher.publish("game-node:" + owner, jsonMessage);
+        } catch (JsonProcessingException e) {
+            log.error("❌ JSON 변환 실패: {}", e.getMessage());
+        }
     }
 
     private void publishToGame(Long roomId, EventMessage<?> message) {
         try {
-            String jsonMessage = objectMapper.writeValueAsString(message);
-            redisPublisher.publish("game:" + roomId, jsonMessage);
+            gameEventPublisher.publish(roomId, objectMapper.writeValueAsBytes(message));
         } catch (JsonProcessingException e) {
             log.error("❌ JSON 변환 실패: {}", e.getMessage());
         }
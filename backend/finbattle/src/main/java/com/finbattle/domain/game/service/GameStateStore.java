@@ -0,0 +1,426 @@
+package com.finbattle.domain.game.service;
+
+import com.finbattle.domain.game.dto.AnswerVerdict;
+import com.finbattle.domain.game.dto.GameMemberStatus;
+import com.finbattle.domain.game.dto.GameOwnershipLostEvent;
+import com.finbattle.domain.game.dto.GameRemovedEvent;
+import com.finbattle.domain.game.dto.GameTakenOverEvent;
+import com.finbattle.domain.game.model.GameData;
+import com.finbattle.domain.game.repository.RedisGameStateRepository;
+import com.finbattle.global.common.actor.RoomActorSystem;
+import com.finbattle.global.common.config.SchedulerConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * 진행 중인 게임 상태를 방을 소유한 노드의 메모리에 두고, Redis 에는 주기적으로 스냅샷만 남기는 저장소
+ * <p>
+ * 상태 변경은 markDirty 로 표시만 하고, flush 주기마다 방 mailbox 안에서 한 번에 저장한다. 같은 방에 여러 번 변경이 있어도
+ * 주기당 한 번만 쓰이며, Redis 는 장애 복구용으로만 읽힌다. 라이프는 승패에 직결되므로 스냅샷을 기다리지 않고 바로
+ * HINCRBY 로 반영한다. Redis 장애로 라이프를 로컬에서 깎았으면 그 방은 다음 라이프 변경이나 flush 때 메모리 값을 먼저
+ * 덮어써서 Redis 와 맞춘다.
+ * <p>
+ * 소유권은 game:owner:{roomId} 에 nodeId 를 lease(PX) 로 기록하고 heartbeat 마다 자기 값일 때만 연장한다. 스냅샷을
+ * 메모리로 올리는 것은 lease 를 가진 노드뿐이다. 노드가 죽어 lease 가 만료되면 다른 노드가 SET NX 로 가져가서 이어서
+ * 진행하고, 연장에 실패한 노드는 바로 손을 뗀다.
+ */
+@Slf4j
+@Component
+public class GameStateStore {
+
+    private static final String OWNER_KEY = "game:owner:";
+    private static final int RENEW_CHUNK = 500;
+
+    /*
+     * 자기 lease 만 연장. KEYS = 소유 키들, ARGV = { nodeId, lease(ms) }
+     * 반환: 키마다 1(연장) | 0(다른 노드 소유 또는 만료)
+     */
+    private static final RedisScript<List> RENEW = new DefaultRedisScript<>(
+        "local renewed = {} "
+            + "for i, key in ipairs(KEYS) do "
+            + "if redis.call('GET', key) == ARGV[1] then "
+            + "redis.call('PEXPIRE', key, ARGV[2]) renewed[i] = 1 else renewed[i] = 0 end "
+            + "end "
+            + "return renewed",
+        List.class);
+
+    // 자기 lease 일 때만 삭제
+    private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>(
+        "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end "
+            + "return 0",
+        Long.class);
+
+    private final RedisGameStateRepository gameStateRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RoomActorSystem roomActorSystem;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskScheduler scheduler;
+
+    private final Map<Long, GameData> games = new ConcurrentHashMap<>();
+    private final Set<Long> dirtyRooms = ConcurrentHashMap.newKeySet();
+    // 라이프를 로컬에서만 깎아 Redis 에 다시 써야 하는 방
+    private final Set<Long> lifeDirtyRooms = ConcurrentHashMap.newKeySet();
+    private final Counter snapshotCounter;
+    private final Counter takeoverCounter;
+    private final Counter lostCounter;
+    private final long flushIntervalMs;
+    private final Duration lease;
+    private final boolean recoverOnStartup;
+    private final List<ScheduledFuture<?>> tasks = new ArrayList<>();
+
+    @Getter
+    private final String nodeId;
+
+    public GameStateStore(RedisGameStateRepository gameStateRepository,
+        StringRedisTemplate stringRedisTemplate, RoomActorSystem roomActorSystem,
+        ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry,
+        @Qualifier(SchedulerConfig.BACKGROUND_SCHEDULER) TaskScheduler scheduler,
+        @Value("${game.node-id}") String nodeId,
+        @Value("${game.state.flush-interval-ms:1000}") long flushIntervalMs,
+        @Value("${game.owner.lease-ms:15000}") long leaseMs,
+        @Value("${game.state.recover-on-startup:true}") boolean recoverOnStartup) {
+        if (!StringUtils.hasText(nodeId)) {
+            throw new IllegalStateException(
+                "game.node-id 가 비어 있습니다. 노드마다 고정된 값을 설정해야 합니다.");
+        }
+        this.gameStateRepository = gameStateRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.roomActorSystem = roomActorSystem;
+        this.eventPublisher = eventPublisher;
+        this.scheduler = scheduler;
+        this.nodeId = nodeId;
+        this.flushIntervalMs = flushIntervalMs;
+        this.lease = Duration.ofMillis(leaseMs);
+        this.recoverOnStartup = recoverOnStartup;
+
+        Gauge.builder("game.state.rooms", games, Map::size)
+            .description("메모리에 올라와 있는 게임 수")
+            .register(meterRegistry);
+        Gauge.builder("game.state.dirty", dirtyRooms, Set::size)
+            .description("스냅샷 대기 중인 게임 수")
+            .register(meterRegistry);
+        this.snapshotCounter = Counter.builder("game.state.snapshot")
+            .description("Redis 에 기록한 게임 스냅샷 수")
+            .register(meterRegistry);
+        this.takeoverCounter = Counter.builder("game.owner.takeover")
+            .description("lease 가 만료된 게임을 이 노드가 가져온 횟수")
+            .register(meterRegistry);
+        this.lostCounter = Counter.builder("game.owner.lost")
+            .description("lease 연장에 실패해 손을 뗀 게임 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 재시작 전 소유하던 게임과 lease 가 만료된 게임을 가져오고, flush 와 lease heartbeat 를 시작한다
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (recoverOnStartup) {
+            claimGames(gameStateRepository.findAllRoomIds());
+        }
+        Instant now = Instant.now();
+        Duration flushInterval = Duration.ofMillis(flushIntervalMs);
+        Duration heartbeat = lease.dividedBy(3);
+        synchronized (tasks) {
+            tasks.add(scheduler.scheduleWithFixedDelay(this::flushDirty,
+                now.plus(flushInterval), flushInterval));
+            tasks.add(scheduler.scheduleWithFixedDelay(this::heartbeat,
+                now.plus(heartbeat), heartbeat));
+        }
+    }
+
+    /**
+     * 게임 시작 시 등록. 소유권을 먼저 잡고, 복구를 위해 첫 스냅샷은 바로 기록한다
+     */
+    public void create(GameData gameData) {
+        Long roomId = gameData.getRoomId();
+        if (!acquire(roomId) && !isLocal(readOwner(roomId))) {
+            throw new IllegalStateException("다른 노드가 진행 중인 게임입니다. roomId=" + roomId);
+        }
+        games.put(roomId, gameData);
+        roomActorSystem.open(roomId);
+        gameStateRepository.create(gameData);
+    }
+
+    /**
+     * 이 노드가 진행 중인 게임 상태
+     * <p>
+     * 스냅샷은 여기서 올리지 않는다. 재시작 복구와 인수는 lease 를 잡은 뒤 claimGames 에서만 하므로 두 노드가 같은 게임을
+     * 동시에 진행하지 않는다.
+     */
+    public Optional<GameData> find(Long roomId) {
+        return Optional.ofNullable(games.get(roomId));
+    }
+
+    /**
+     * 새 문제 출제 기록 (Redis 에 바로 반영)
+     */
+    public void startQuiz(GameData gameData, int quizNum, int currentQuizNum) {
+        gameData.setQuizNum(quizNum);
+        gameData.setCurrentQuizNum(currentQuizNum);
+        try {
+            gameStateRepository.saveCurrentQuiz(gameData.getRoomId(), quizNum, currentQuizNum);
+        } catch (Exception e) {
+            log.error("출제 기록 실패 roomId={}", gameData.getRoomId(), e);
+            markDirty(gameData.getRoomId());
+        }
+    }
+
+    /**
+     * 객관식/주관식 정답 판정. 어느 노드, 어느 스레드에서 동시에 들어와도 문제당 한 명만 인정된다
+     * <p>
+     * 인정되면 상대 라이프를 Redis 에서 깎은 값으로 메모리 상태도 맞춘다.
+     */
+    public AnswerVerdict adjudicate(GameData gameData, long memberId) {
+        GameMemberStatus opponent = gameData.getGameMemberStatusList().stream()
+            .filter(member -> member.getMemberId() != memberId)
+            .findFirst().orElse(null);
+        if (opponent == null) {
+            return AnswerVerdict.rejected(AnswerVerdict.Outcome.STALE);
+        }
+        AnswerVerdict verdict;
+        try {
+            syncLives(gameData.getRoomId());
+            verdict = gameStateRepository.adjudicate(gameData.getRoomId(),
+                gameData.getCurrentQuizNum(), memberId, opponent.getMemberId());
+        } catch (Exception e) {
+            // Redis 장애 시에는 방 mailbox 순서 보장에 기대어 로컬에서 판정
+            log.error("정답 판정 실패, 로컬 판정으로 대체 roomId={}", gameData.getRoomId(), e);
+            opponent.setLife(Math.max(0, opponent.getLife() - 1));
+            markLivesDirty(gameData.getRoomId());
+            return new AnswerVerdict(AnswerVerdict.Outcome.ACCEPTED, opponent.getMemberId(),
+                opponent.getLife());
+        }
+        if (verdict.accepted()) {
+            opponent.setLife(verdict.remainingLife());
+        }
+        return verdict;
+    }
+
+    /**
+     * 라이프 1 감소. Redis 에 바로 반영하고 결과를 메모리 상태에도 맞춘다
+     */
+    public void decrementLife(Long roomId, GameMemberStatus member) {
+        try {
+            syncLives(roomId);
+            member.setLife(gameStateRepository.decrementLife(roomId, member.getMemberId()));
+        } catch (Exception e) {
+            log.error("라이프 감소 기록 실패 roomId={}, memberId={}", roomId, member.getMemberId(), e);
+            member.setLife(Math.max(0, member.getLife() - 1));
+            markLivesDirty(roomId);
+        }
+    }
+
+    public void markDirty(Long roomId) {
+        dirtyRooms.add(roomId);
+    }
+
+    private void markLivesDirty(Long roomId) {
+        lifeDirtyRooms.add(roomId);
+        markDirty(roomId);
+    }
+
+    /**
+     * 로컬에서 깎은 라이프가 있으면 Redis 에 먼저 덮어쓴다. HINCRBY 가 Redis 의 이전 값에서 깎아 로컬 감소분을 지우지 않도록
+     * 라이프를 바꾸기 전과 flush 때 호출한다 (방 mailbox 안에서만 불린다)
+     */
+    private void syncLives(Long roomId) {
+        if (!lifeDirtyRooms.contains(roomId)) {
+            return;
+        }
+        GameData gameData = games.get(roomId);
+        if (gameData != null) {
+            gameStateRepository.saveLives(roomId, gameData.getGameMemberStatusList());
+        }
+        lifeDirtyRooms.remove(roomId);
+    }
+
+    /**
+     * 게임 종료 시 메모리와 스냅샷 모두 제거하고 소유권을 놓는다. 방에 묶인 로컬 상태는 GameRemovedEvent 를 받아 정리한다
+     */
+    public void remove(Long roomId) {
+        games.remove(roomId);
+        dirtyRooms.remove(roomId);
+        lifeDirtyRooms.remove(roomId);
+        gameStateRepository.deleteById(roomId);
+        stringRedisTemplate.execute(RELEASE, List.of(OWNER_KEY + roomId), nodeId);
+        eventPublisher.publishEvent(new GameRemovedEvent(roomId));
+    }
+
+    /**
+     * 방을 소유한 노드 id. 소유 정보가 없거나 lease 가 만료됐으면 null
+     */
+    public String ownerOf(Long roomId) {
+        if (games.containsKey(roomId)) {
+            return nodeId;
+        }
+        return readOwner(roomId);
+    }
+
+    public boolean isLocal(String owner) {
+        return nodeId.equals(owner);
+    }
+
+    /**
+     * lease 가 만료된 진행 중 게임을 이 노드로 가져온다. 가져왔으면 GameTakenOverEvent 가 발행된다
+     * <p>
+     * 클라이언트가 보낸 roomId 로도 불리므로, 진행 중 게임 목록(game:rooms)에 없는 방은 lease 를 잡기 전에 버린다.
+     *
+     * @return 가져왔으면 true
+     */
+    public boolean claim(Long roomId) {
+        if (games.containsKey(roomId) || !gameStateRepository.isActive(roomId)) {
+            return false;
+        }
+        return !claimGames(Set.of(roomId)).isEmpty();
+    }
+
+    /**
+     * 소유자가 없거나(만료) 이 노드가 소유자인데 메모리에 없는 게임을 스냅샷에서 올린다
+     */
+    private List<GameData> claimGames(Set<Long> roomIds) {
+        List<Long> candidates = roomIds.stream().filter(id -> !games.containsKey(id)).toList();
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+        List<String> owners = stringRedisTemplate.opsForValue()
+            .multiGet(candidates.stream().map(id -> OWNER_KEY + id).toList());
+        List<GameData> claimed = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            Long roomId = candidates.get(i);
+            String owner = owners != null ? owners.get(i) : null;
+            boolean mine = owner == null ? acquire(roomId) : isLocal(owner);
+            if (!mine) {
+                continue;
+            }
+            Optional<GameData> snapshot = gameStateRepository.findById(roomId);
+            if (snapshot.isEmpty()) {
+                stringRedisTemplate.execute(RELEASE, List.of(OWNER_KEY + roomId), nodeId);
+                continue;
+            }
+            GameData gameData = snapshot.get();
+            if (games.putIfAbsent(roomId, gameData) != null) {
+                continue;
+            }
+            roomActorSystem.open(roomId);
+            if (owner == null) {
+                takeoverCounter.increment();
+            }
+            log.info("게임 소유권 획득 roomId={}, 이전 소유 노드={}", roomId, owner);
+            claimed.add(gameData);
+            eventPublisher.publishEvent(new GameTakenOverEvent(gameData));
+        }
+        return claimed;
+    }
+
+    /**
+     * 소유한 게임의 lease 를 연장하고, 연장에 실패한 게임은 내려놓는다. 이어서 만료된 게임을 가져온다
+     */
+    private void heartbeat() {
+        try {
+            renewLeases();
+            claimGames(gameStateRepository.findActiveRoomIds());
+        } catch (Exception e) {
+            log.warn("게임 소유권 heartbeat 실패: {}", e.getMessage());
+        }
+    }
+
+    private void renewLeases() {
+        List<Long> owned = List.copyOf(games.keySet());
+        for (int from = 0; from < owned.size(); from += RENEW_CHUNK) {
+            List<Long> chunk = owned.subList(from, Math.min(owned.size(), from + RENEW_CHUNK));
+            List<?> renewed = stringRedisTemplate.execute(RENEW,
+                chunk.stream().map(id -> OWNER_KEY + id).toList(),
+                nodeId, String.valueOf(lease.toMillis()));
+            for (int i = 0; i < chunk.size(); i++) {
+                if (renewed != null && ((Number) renewed.get(i)).longValue() == 1L) {
+                    continue;
+                }
+                drop(chunk.get(i));
+            }
+        }
+    }
+
+    /**
+     * lease 를 잃은 게임은 다른 노드가 진행하므로 메모리와 mailbox 를 정리한다 (스냅샷은 남겨 둔다)
+     */
+    private void drop(Long roomId) {
+        if (games.remove(roomId) == null) {
+            return;
+        }
+        dirtyRooms.remove(roomId);
+        lifeDirtyRooms.remove(roomId);
+        roomActorSystem.release(roomId);
+        lostCounter.increment();
+        log.warn("게임 소유권 상실, 로컬 상태 정리 roomId={}", roomId);
+        eventPublisher.publishEvent(new GameOwnershipLostEvent(roomId));
+    }
+
+    private boolean acquire(Long roomId) {
+        return Boolean.TRUE.equals(stringRedisTemplate.opsForValue()
+            .setIfAbsent(OWNER_KEY + roomId, nodeId, lease));
+    }
+
+    private String readOwner(Long roomId) {
+        return stringRedisTemplate.opsForValue().get(OWNER_KEY + roomId);
+    }
+
+    private void flushDirty() {
+        for (Long roomId : dirtyRooms) {
+            dirtyRooms.remove(roomId);
+            // 상태 변경과 섞이지 않도록 방 mailbox 안에서 스냅샷을 찍는다
+            roomActorSystem.tell(roomId, () -> snapshot(roomId));
+        }
+    }
+
+    private void snapshot(Long roomId) {
+        GameData gameData = games.get(roomId);
+        if (gameData == null) {
+            return;
+        }
+        try {
+            syncLives(roomId);
+            gameStateRepository.saveProgress(gameData);
+            snapshotCounter.increment();
+        } catch (Exception e) {
+            log.error("게임 스냅샷 저장 실패 roomId={}", roomId, e);
+            dirtyRooms.add(roomId);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        synchronized (tasks) {
+            tasks.forEach(task -> task.cancel(false));
+        }
+        // 종료 직전 남은 변경분은 바로 기록
+        for (Long roomId : List.copyOf(dirtyRooms)) {
+            dirtyRooms.remove(roomId);
+            snapshot(roomId);
+        }
+    }
+}
@@ -234,19 +234,19 @@ import com.finbattle.domain.game.dto.EventType;
 import com.finbattle.domain.game.dto.GameMemberStatus;
 import com.finbattle.domain.game.model.EssayCorrected;
 import com.finbattle.domain.game.model.GameData;
-import com.finbattle.domain.game.repository.RedisGameRepository;
 import com.finbattle.domain.quiz.dto.EssayQuizDto;
 import com.finbattle.domain.quiz.dto.MultipleChoiceQuizDto;
 import com.finbattle.domain.quiz.dto.QuizDto;
 import com.finbattle.domain.quiz.dto.ShortAnswerQuizDto;
 import com.finbattle.domain.quiz.model.QuizMode;
-import com.finbattle.global.common.redis.RedisPublisher;
+import com.finbattle.global.common.redis.GameEventPublisher;
+import com.finbattle.global.common.timer.GameTimer;
+import com.finbattle.global.common.timer.RoomTimer;
+import com.finbattle.global.common.timer.TimerKind;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -257,12 +257,13 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class QuizTimerService {
 
-    private final RedisGameRepository redisGameRepository;
-    private final RedisPublisher redisPublisher;
+    private final GameStateStore gameStateStore;
+    private final GameEventPublisher gameEventPublisher;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
-    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(100);
-    private final Map<Long, List<ScheduledFuture<?>>> quizTasks = new ConcurrentHashMap<>();
+    private final GameTimer gameTimer;
+    // 진행 중인 퀴즈가 있는 방
+    private final Set<Long> quizRooms = ConcurrentHashMap.newKeySet();
 
     public void startQuizTimerWithCallback(
         Long roomId, Long quizId, QuizMode quizMode, QuizDto quizDto, Runnable onTimeout) {
@@ -271,7 +272,9 @@ public class QuizTimerService {
         int firstHintDelay = timeLimit / 3;
         int secondHintDelay = (timeLimit * 2) / 3;
 
-        ScheduledFuture<?> timeoutTask = scheduler.schedule(
+        RoomTimer roomTimer = gameTimer.room(roomId);
+        roomTimer.schedule(
+            TimerKind.QUIZ,
             () -> {
                 handleTimeout(roomId, quizId, quizMode);
                 onTimeout.run();
@@ -279,17 +282,19 @@ public class QuizTimerService {
             timeLimit,
             TimeUnit.SECONDS
         );
-        ScheduledFuture<?> hint1Task = scheduler.schedule(
+        roomTimer.schedule(
+            TimerKind.QUIZ,
             () -> sendHint(roomId, quizMode, quizDto, true),
             firstHintDelay,
             TimeUnit.SECONDS
         );
-        ScheduledFuture<?> hint2Task = scheduler.schedule(
+        roomTimer.schedule(
+            TimerKind.QUIZ,
             () -> sendHint(roomId, quizMode, quizDto, false),
             secondHintDelay,
             TimeUnit.SECONDS
         );
-        quizTasks.put(roomId, List.of(timeoutTask, hint1Task, hint2Task));
+        quizRooms.add(roomId);
     }
 
     private void sendHint(Long roomId, QuizMode quizMode, Object quizDto, boolean isFirstHint) {
@@ -343,7 +348,7 @@ public class QuizTimerService {
     }
 
     private void handleTimeout(Long roomId, Long quizId, QuizMode quizMode) {
-        GameData gameData = redisGameRepository.findById(roomId).orElse(null);
+        GameData gameData = gameStateStore.find(roomId).orElse(null);
         if (gameData == null) {
             return;
         }
@@ -354,11 +359,10 @@ public class QuizTimerService {
             for (GameMemberStatus m : memberList) {
                 if (m.getMemberId() != corrected.getMemberId()) {
                     attackedMemberId = m.getMemberId();
-                    m.setLife(Math.max(0, m.getLife() - 1));
+                    gameStateStore.decrementLife(roomId, m);
                     break;
                 }
             }
-            redisGameRepository.save(gameData);
             Map<String, Object> data = Map.of(
                 "attackedMemberId", attackedMemberId,
                 "memberList", memberList
@@ -371,37 +375,39 @@ public class QuizTimerService {
         }
         List<GameMemberStatus> userList = gameData.getGameMemberStatusList();
         for (GameMemberStatus user : userList) {
-            int newLife = Math.max(0, user.getLife() - 1);
-            user.setLife(newLife);
+            gameStateStore.decrementLife(roomId, user);
         }
-        redisGameRepository.save(gameData);
         publishUserStatus(roomId);
     }
 
     public void cancelQuizTasks(Long roomId) {
-        List<ScheduledFuture<?>> tasks = quizTasks.remove(roomId);
-        if (tasks != null) {
-            for (ScheduledFuture<?> task : tasks) {
-                task.cancel(false);
-            }
+        if (quizRooms.remove(roomId)) {
+            gameTimer.cancel(roomId, TimerKind.QUIZ);
         }
     }
 
     public boolean hasQuizTask(Long roomId) {
-        return quizTasks.containsKey(roomId);
+        return quizRooms.contains(roomId);
+    }
+
+    /**
+     * 게임 종료 시 방에 걸린 모든 타이머 정리
+     */
+    public void releaseRoom(Long roomId) {
+        quizRooms.remove(roomId);
+        gameTimer.release(roomId);
     }
 
     private void publishToRoom(Long roomId, EventMessage<?> message) {
         try {
-            String jsonMessage = objectMapper.writeValueAsString(message);
-            redisPublisher.publish("game:" + roomId, jsonMessage);
+            gameEventPublisher.publish(roomId, objectMapper.writeValueAsBytes(message));
         } catch (JsonProcessingException e) {
             log.error("❌ JSON 변환 실패: {}", e.getMessage());
         }
     }
 
     public void publishUserStatus(Long roomId) {
-        GameData gameData = redisGameRepository.findById(roomId).orElse(null);
+        GameData gameData = gameStateStore.find(roomId).orElse(null);
         if (gameData == null) {
             return;
         }
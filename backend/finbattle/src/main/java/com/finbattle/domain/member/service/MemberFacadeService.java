@@ -1,6 +1,7 @@
 package com.finbattle.domain.member.service;
 
 import com.finbattle.domain.cat.entity.Cat;
+import com.finbattle.domain.chat.service.ChatNicknameCache;
 import com.finbattle.domain.member.dto.CatDto;
 import com.finbattle.domain.member.dto.MemberExpPointResponseDto;
 import com.finbattle.domain.member.dto.MyInfoDto;
@@ -21,6 +22,7 @@ public class MemberFacadeService implements MemberService {
     private final MemberCommandService memberCommandService;
     private final MemberCatService memberCatService;
     private final MemberRepository memberRepository;
+    private final ChatNicknameCache chatNicknameCache;
 
 
     // 특정 회원 조회
@@ -40,6 +42,7 @@ public class MemberFacadeService implements MemberService {
     public void updateNickname(Long memberId, String nickname) {
         Member member = memberQueryService.findByMemberId(memberId);
         memberCommandService.updateNickname(member, nickname);
+        chatNicknameCache.evictMember(memberId);
     }
 
     @Override
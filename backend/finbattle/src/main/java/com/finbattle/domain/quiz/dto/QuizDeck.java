@@ -0,0 +1,21 @@
+package com.finbattle.domain.quiz.dto;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 게임 한 판에 쓰는 문제 묶음 (객관식 5, 단답형 3, 서술형 1)
+ */
+public record QuizDeck(List<MultipleChoiceQuizDto> multipleChoiceQuizList,
+                       List<ShortAnswerQuizDto> shortAnswerQuizList,
+                       EssayQuizDto essayQuiz) {
+
+    public Set<Long> quizIds() {
+        Set<Long> ids = new HashSet<>();
+        multipleChoiceQuizList.forEach(quiz -> ids.add(quiz.getQuizId()));
+        shortAnswerQuizList.forEach(quiz -> ids.add(quiz.getQuizId()));
+        ids.add(essayQuiz.getQuizId());
+        return ids;
+    }
+}
@@ -15,4 +15,8 @@ public interface EssayQuizRepository extends JpaRepository<EssayQuiz, Long> {
         "ORDER BY function('random')")
     List<EssayQuiz> findRandomBySubject(@Param("subject") SubjectType subjectType,
         Pageable pageable);
-}
\ No newline at end of file
+
+    // 덱 구성용 id 목록 (정렬 없이 id 만 조회)
+    @Query("SELECT q.quizId FROM EssayQuiz q WHERE q.subjectType = :subject")
+    List<Long> findIdsBySubject(@Param("subject") SubjectType subjectType);
+}
@@ -15,4 +15,8 @@ public interface MultipleChoiceQuizRepository extends JpaRepository<MultipleChoi
         "ORDER BY function('random')")
     List<MultipleChoiceQuiz> findRandomBySubject(@Param("subject") SubjectType subjectType,
         Pageable pageable);
+
+    // 덱 구성용 id 목록 (정렬 없이 id 만 조회)
+    @Query("SELECT q.quizId FROM MultipleChoiceQuiz q WHERE q.subjectType = :subject")
+    List<Long> findIdsBySubject(@Param("subject") SubjectType subjectType);
 }
@@ -19,4 +19,8 @@ public interface ShortAnswerQuizRepository extends JpaRepository<ShortAnswerQuiz
         "ORDER BY function('random')")
     List<ShortAnswerQuiz> findRandomBySubject(@Param("subject") SubjectType subjectType,
         Pageable pageable);
+
+    // 덱 구성용 id 목록 (정렬 없이 id 만 조회)
+    @Query("SELECT q.quizId FROM ShortAnswerQuiz q WHERE q.subjectType = :subject")
+    List<Long> findIdsBySubject(@Param("subject") SubjectType subjectType);
 }
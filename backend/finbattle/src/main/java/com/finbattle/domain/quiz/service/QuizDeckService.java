@@ -0,0 +1,295 @@
+package com.finbattle.domain.quiz.service;
+
+import com.finbattle.domain.quiz.dto.EssayQuizDto;
+import com.finbattle.domain.quiz.dto.MultipleChoiceQuizDto;
+import com.finbattle.domain.quiz.dto.QuizDeck;
+import com.finbattle.domain.quiz.dto.QuizOptionDto;
+import com.finbattle.domain.quiz.dto.ShortAnswerQuizDto;
+import com.finbattle.domain.quiz.model.QuizOption;
+import com.finbattle.domain.quiz.model.SubjectType;
+import com.finbattle.domain.quiz.repository.EssayQuizRepository;
+import com.finbattle.domain.quiz.repository.MultipleChoiceQuizRepository;
+import com.finbattle.domain.quiz.repository.QuizOptionRepository;
+import com.finbattle.domain.quiz.repository.ShortAnswerQuizRepository;
+import com.finbattle.global.common.config.SchedulerConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+
+/**
+ * 주제별로 미리 만들어 둔 문제 덱을 꺼내 주는 서비스
+ * <p>
+ * 주제별 문제 id 목록을 캐시해 두고, 백그라운드에서 id 를 뽑아 덱을 채운다. 덱 하나를 만들 때 쿼리는 4번(객관식, 보기,
+ * 단답형, 서술형 id 조회)이고 ORDER BY random() 은 쓰지 않는다. 게임 시작은 큐에서 하나 꺼내는 것으로 끝난다.
+ * <p>
+ * 직전 게임에서 받은 문제와 겹치는 덱은 그 플레이어에게 주지 않는다. 덱 채우기는 공용 백그라운드 스케줄러에서 돈다.
+ */
+@Slf4j
+@Service
+public class QuizDeckService {
+
+    private static final int MULTIPLE_COUNT = 5;
+    private static final int SHORT_COUNT = 3;
+    // 직전 문제를 기억할 최대 플레이어 수
+    private static final int RECENT_MEMBERS = 10_000;
+
+    private final MultipleChoiceQuizRepository multipleChoiceQuizRepository;
+    private final ShortAnswerQuizRepository shortAnswerQuizRepository;
+    private final EssayQuizRepository essayQuizRepository;
+    private final QuizOptionRepository quizOptionRepository;
+    private final TaskScheduler scheduler;
+    private final int poolSize;
+    private final long idRefreshMs;
+
+    private final Map<SubjectType, Queue<QuizDeck>> pools = new ConcurrentHashMap<>();
+    private final Map<SubjectType, QuizIds> idCache = new ConcurrentHashMap<>();
+    private final Set<SubjectType> refilling = ConcurrentHashMap.newKeySet();
+    /*
+     * 플레이어별 직전 게임 문제. 이 노드에서 시작한 게임만 기억하므로 다른 노드에서 시작한 직전 게임과는 겹칠 수 있다.
+     * 중복 회피는 최선 노력이라 노드 간에 공유하지 않는다.
+     */
+    private final Map<Long, Set<Long>> lastQuizIdsByMember = Collections.synchronizedMap(
+        new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Set<Long>> eldest) {
+                return size() > RECENT_MEMBERS;
+            }
+        });
+    private final Counter missCounter;
+    private volatile boolean closed;
+
+    public QuizDeckService(MultipleChoiceQuizRepository multipleChoiceQuizRepository,
+        ShortAnswerQuizRepository shortAnswerQuizRepository,
+        EssayQuizRepository essayQuizRepository, QuizOptionRepository quizOptionRepository,
+        MeterRegistry meterRegistry,
+        @Qualifier(SchedulerConfig.BACKGROUND_SCHEDULER) TaskScheduler scheduler,
+        @Value("${game.deck.pool-size:10}") int poolSize,
+        @Value("${game.deck.id-refresh-ms:300000}") long idRefreshMs) {
+        this.multipleChoiceQuizRepository = multipleChoiceQuizRepository;
+        this.shortAnswerQuizRepository = shortAnswerQuizRepository;
+        this.essayQuizRepository = essayQuizRepository;
+        this.quizOptionRepository = quizOptionRepository;
+        this.scheduler = scheduler;
+        this.poolSize = poolSize;
+        this.idRefreshMs = idRefreshMs;
+
+        for (SubjectType subject : SubjectType.values()) {
+            Gauge.builder("game.deck.pool", pool(subject), Queue::size)
+                .tag("subject", subject.name())
+                .description("미리 만들어 둔 문제 덱 수")
+                .register(meterRegistry);
+        }
+        this.missCounter = Counter.builder("game.deck.miss")
+            .description("쓸 수 있는 덱이 없어 게임 시작 중에 만든 횟수")
+            .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        for (SubjectType subject : SubjectType.values()) {
+            requestRefill(subject);
+        }
+    }
+
+    /**
+     * 덱 하나를 꺼낸다. 참가자가 직전 게임에서 받은 문제와 겹치지 않는 덱을 우선하고, 없으면 바로 만든다
+     */
+    public QuizDeck takeDeck(SubjectType subject, Collection<Long> memberIds) {
+        Set<Long> recent = recentQuizIds(memberIds);
+        Queue<QuizDeck> pool = pool(subject);
+        QuizDeck deck = null;
+        List<QuizDeck> skipped = new ArrayList<>();
+        for (int i = 0, size = pool.size(); i < size; i++) {
+            QuizDeck candidate = pool.poll();
+            if (candidate == null) {
+                break;
+            }
+            if (Collections.disjoint(candidate.quizIds(), recent)) {
+                deck = candidate;
+                break;
+            }
+            skipped.add(candidate);
+        }
+        // 다른 플레이어에게는 쓸 수 있으므로 돌려놓는다
+        pool.addAll(skipped);
+        if (deck == null) {
+            missCounter.increment();
+            deck = buildDeck(subject, recent);
+        }
+        Set<Long> quizIds = deck.quizIds();
+        for (Long memberId : memberIds) {
+            lastQuizIdsByMember.put(memberId, quizIds);
+        }
+        requestRefill(subject);
+        return deck;
+    }
+
+    private void requestRefill(SubjectType subject) {
+        if (closed || pool(subject).size() >= poolSize || !refilling.add(subject)) {
+            return;
+        }
+        try {
+            scheduler.schedule(() -> refill(subject), Instant.now());
+        } catch (TaskRejectedException e) {
+            // 종료 중이면 채우지 않는다. 덱이 없으면 takeDeck 에서 바로 만든다
+            refilling.remove(subject);
+            log.debug("문제 덱 채우기 예약 거절 subject={}: {}", subject, e.getMessage());
+        }
+    }
+
+    private void refill(SubjectType subject) {
+        try {
+            Queue<QuizDeck> pool = pool(subject);
+            while (!closed && pool.size() < poolSize) {
+                pool.add(buildDeck(subject, Set.of()));
+            }
+        } catch (Exception e) {
+            log.warn("문제 덱 채우기 실패 subject={}: {}", subject, e.getMessage());
+        } finally {
+            refilling.remove(subject);
+        }
+    }
+
+    /**
+     * 캐시된 id 중 그사이 삭제된 문제가 있어 덱이 모자라면 id 목록을 다시 읽어 한 번 더 만든다
+     */
+    private QuizDeck buildDeck(SubjectType subject, Set<Long> exclude) {
+        QuizDeck deck = tryBuildDeck(subject, exclude);
+        if (deck == null) {
+            log.info("삭제된 문제가 있어 문제 id 목록을 다시 읽습니다. subject={}", subject);
+            idCache.remove(subject);
+            deck = tryBuildDeck(subject, exclude);
+        }
+        if (deck == null) {
+            throw new IllegalStateException("퀴즈가 부족합니다. subject=" + subject);
+        }
+        return deck;
+    }
+
+    /**
+     * 조회된 문제 수가 뽑은 id 수보다 적으면 null
+     */
+    private QuizDeck tryBuildDeck(SubjectType subject, Set<Long> exclude) {
+        QuizIds ids = quizIds(subject);
+        List<Long> multipleIds = sample(ids.multiple(), MULTIPLE_COUNT, exclude);
+        List<Long> shortIds = sample(ids.shorts(), SHORT_COUNT, exclude);
+        List<Long> essayIds = sample(ids.essays(), 1, exclude);
+        if (essayIds.isEmpty()) {
+            throw new IllegalStateException("서술형 퀴즈가 부족합니다.");
+        }
+        if (multipleIds.size() < MULTIPLE_COUNT || shortIds.size() < SHORT_COUNT) {
+            throw new IllegalStateException("퀴즈가 부족합니다. subject=" + subject);
+        }
+
+        // 보기는 한 번에 조회해서 문제별로 나눈다
+        Map<Long, List<QuizOption>> optionsByQuiz = quizOptionRepository
+            .findByQuizIdInOrderByQuizOptionIdAsc(multipleIds).stream()
+            .collect(Collectors.groupingBy(QuizOption::getQuizId));
+        List<MultipleChoiceQuizDto> multiple = multipleChoiceQuizRepository
+            .findAllById(multipleIds).stream()
+            .map(entity -> {
+                MultipleChoiceQuizDto dto = MultipleChoiceQuizDto.toDto(entity);
+                dto.setQuizOptions(QuizOptionDto.toDtoList(
+                    optionsByQuiz.getOrDefault(entity.getQuizId(), List.of())));
+                return dto;
+            }).toList();
+        List<ShortAnswerQuizDto> shorts = shortAnswerQuizRepository.findAllById(shortIds).stream()
+            .map(ShortAnswerQuizDto::toDto).toList();
+        EssayQuizDto essay = essayQuizRepository.findById(essayIds.get(0))
+            .map(EssayQuizDto::toDto).orElse(null);
+        // 게임은 객관식 5, 단답형 3 번째 문제를 index 로 꺼내므로 모자란 덱은 만들지 않는다
+        if (multiple.size() < MULTIPLE_COUNT || shorts.size() < SHORT_COUNT || essay == null) {
+            return null;
+        }
+        return new QuizDeck(multiple, shorts, essay);
+    }
+
+    private QuizIds quizIds(SubjectType subject) {
+        QuizIds cached = idCache.get(subject);
+        if (cached != null && System.currentTimeMillis() - cached.loadedAt() < idRefreshMs) {
+            return cached;
+        }
+        QuizIds loaded = new QuizIds(
+            multipleChoiceQuizRepository.findIdsBySubject(subject),
+            shortAnswerQuizRepository.findIdsBySubject(subject),
+            essayQuizRepository.findIdsBySubject(subject),
+            System.currentTimeMillis());
+        idCache.put(subject, loaded);
+        return loaded;
+    }
+
+    /**
+     * 중복 없이 count 개를 뽑는다. 제외 목록 때문에 모자라면 제외 목록에 있는 id 도 쓴다
+     */
+    private List<Long> sample(List<Long> ids, int count, Set<Long> exclude) {
+        List<Long> candidates = new ArrayList<>(ids);
+        Collections.shuffle(candidates, ThreadLocalRandom.current());
+        Set<Long> picked = new HashSet<>();
+        List<Long> result = new ArrayList<>(count);
+        for (Long id : candidates) {
+            if (result.size() == count) {
+                return result;
+            }
+            if (!exclude.contains(id) && picked.add(id)) {
+                result.add(id);
+            }
+        }
+        for (Long id : candidates) {
+            if (result.size() == count) {
+                break;
+            }
+            if (picked.add(id)) {
+                result.add(id);
+            }
+        }
+        return result;
+    }
+
+    private Set<Long> recentQuizIds(Collection<Long> memberIds) {
+        Set<Long> recent = new HashSet<>();
+        for (Long memberId : memberIds) {
+            Set<Long> quizIds = lastQuizIdsByMember.get(memberId);
+            if (quizIds != null) {
+                recent.addAll(quizIds);
+            }
+        }
+        return recent;
+    }
+
+    private Queue<QuizDeck> pool(SubjectType subject) {
+        return pools.computeIfAbsent(subject, s -> new ConcurrentLinkedQueue<>());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        closed = true;
+    }
+
+    private record QuizIds(List<Long> multiple, List<Long> shorts, List<Long> essays,
+                           long loadedAt) {
+
+    }
+}
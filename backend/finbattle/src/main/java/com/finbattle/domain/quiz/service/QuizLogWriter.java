@@ -0,0 +1,63 @@
+package com.finbattle.domain.quiz.service;
+
+import com.finbattle.domain.quiz.model.QuizLog;
+import com.finbattle.global.common.batch.WriteBehindBuffer;
+import com.finbattle.global.common.config.SchedulerConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게임 중 제출된 답안 로그를 모아서 JDBC batch insert 로 기록
+ * <p>
+ * JPA save 는 IDENTITY 전략 때문에 건마다 INSERT 가 나가므로, 조회용 엔티티는 그대로 두고 기록만 JdbcTemplate 으로 한다.
+ * id 는 DB 가 채우므로 반환받을 필요가 없다.
+ */
+@Component
+public class QuizLogWriter {
+
+    private static final String INSERT_SQL = "INSERT INTO quiz_log "
+        + "(member_id, quiz_id, created_at, user_answer, is_correct) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final WriteBehindBuffer<QuizLog> buffer;
+
+    public QuizLogWriter(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry,
+        @Qualifier(SchedulerConfig.BACKGROUND_SCHEDULER) TaskScheduler scheduler,
+        @Value("${game.quiz-log.capacity:50000}") int capacity,
+        @Value("${game.quiz-log.batch-size:500}") int batchSize,
+        @Value("${game.quiz-log.flush-interval-ms:1000}") long flushIntervalMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.buffer = new WriteBehindBuffer<>("quiz_log", capacity, batchSize, flushIntervalMs,
+            this::insertAll, scheduler, meterRegistry);
+    }
+
+    public void write(QuizLog quizLog) {
+        if (quizLog.getCreatedAt() == null) {
+            quizLog.setCreatedAt(LocalDateTime.now());
+        }
+        buffer.offer(quizLog);
+    }
+
+    private void insertAll(List<QuizLog> logs) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, logs, logs.size(), (ps, log) -> {
+            ps.setLong(1, log.getMemberId());
+            ps.setLong(2, log.getQuizId());
+            ps.setTimestamp(3, Timestamp.valueOf(log.getCreatedAt()));
+            ps.setString(4, log.getUserAnswer());
+            ps.setBoolean(5, log.getIsCorrect());
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        buffer.close();
+    }
+}
@@ -2,19 +2,23 @@ package com.finbattle.domain.room.controller;
 
 import com.finbattle.domain.oauth.dto.AuthenticatedUser;
 import com.finbattle.domain.quiz.model.SubjectType;
+import com.finbattle.domain.room.dto.MatchResult;
 import com.finbattle.domain.room.dto.PageResponse;
 import com.finbattle.domain.room.dto.RoomCreateRequest;
 import com.finbattle.domain.room.dto.RoomResponse;
 import com.finbattle.domain.room.dto.RoomUpdateResponse;
+import com.finbattle.domain.room.service.MatchmakingService;
 import com.finbattle.domain.room.service.RoomService;
 import com.finbattle.domain.room.service.RoomSubscriptionService;
 import com.finbattle.global.common.model.dto.BaseResponse;
+import com.finbattle.global.common.presence.PresenceService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -32,6 +36,8 @@ public class RoomController {
 
     private final RoomService roomService;
     private final RoomSubscriptionService roomSubscriptionService;
+    private final MatchmakingService matchmakingService;
+    private final PresenceService presenceService;
 
     /**
      * 방 생성
@@ -129,6 +135,15 @@ public class RoomController {
         return ResponseEntity.ok(new BaseResponse<>());
     }
 
+    /**
+     * 방 화면을 보고 있는 접속자 수 (WebSocket 접속 기준, 모든 노드 합산)
+     */
+    @Operation(summary = "대기방 접속자 수 확인", description = "/topic/room/{roomId} 를 구독 중인 접속자 수 api")
+    @GetMapping("/room/{roomId}/online")
+    public ResponseEntity<BaseResponse<Long>> getOnlineCount(@PathVariable Long roomId) {
+        return ResponseEntity.ok(new BaseResponse<>(presenceService.countOnline(roomId)));
+    }
+
     /**
      * 유저가 방을 나갈 때 처리 (방장이면 위임 or 방 해체)
      */
@@ -178,4 +193,28 @@ public class RoomController {
         roomSubscriptionService.setUserUnReady(roomId, detail.getMemberId());
         return ResponseEntity.ok(new BaseResponse<>());
     }
+
+    /**
+     * 빠른 대전 매칭 대기. 상대가 이미 기다리고 있으면 바로 방을 만들고 게임을 시작한다
+     */
+    @Operation(summary = "빠른 대전 매칭",
+        description = "주제별 1:1 매칭 대기 api. 대기 중이면 null, 매칭 결과는 /user/queue/match 로도 전달")
+    @PostMapping("/match/{subjectType}")
+    public ResponseEntity<BaseResponse<MatchResult>> enqueueMatch(
+        @AuthenticationPrincipal AuthenticatedUser detail, @PathVariable String subjectType) {
+        MatchResult result = matchmakingService.enqueue(detail.getMemberId(),
+            SubjectType.valueOf(subjectType.toUpperCase()));
+        return ResponseEntity.ok(new BaseResponse<>(result));
+    }
+
+    /**
+     * 매칭 대기 취소
+     */
+    @Operation(summary = "빠른 대전 매칭 취소", description = "매칭 대기열에서 나가기 api")
+    @DeleteMapping("/match")
+    public ResponseEntity<BaseResponse<Void>> cancelMatch(
+        @AuthenticationPrincipal AuthenticatedUser detail) {
+        matchmakingService.cancel(detail.getMemberId());
+        return ResponseEntity.ok(new BaseResponse<>());
+    }
 }
@@ -0,0 +1,30 @@
+package com.finbattle.domain.room.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 로비 목록 변경분. /topic/lobby/{subjectType} 으로 배열 단위로 전달된다
+ *
+ * @param type  ADDED(room 포함) | COUNT(count 포함) | REMOVED
+ * @param room  ADDED 일 때 방 요약
+ * @param count COUNT 일 때 현재 인원
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record LobbyDelta(Type type, Long roomId, RoomResponse room, Integer count) {
+
+    public enum Type {
+        ADDED, COUNT, REMOVED
+    }
+
+    public static LobbyDelta added(RoomResponse room) {
+        return new LobbyDelta(Type.ADDED, room.getRoomId(), room, null);
+    }
+
+    public static LobbyDelta count(Long roomId, int count) {
+        return new LobbyDelta(Type.COUNT, roomId, null, count);
+    }
+
+    public static LobbyDelta removed(Long roomId) {
+        return new LobbyDelta(Type.REMOVED, roomId, null, null);
+    }
+}
@@ -0,0 +1,11 @@
+package com.finbattle.domain.room.dto;
+
+import com.finbattle.domain.quiz.model.SubjectType;
+import java.util.List;
+
+/**
+ * 매칭 완료 알림. /user/queue/match 로 두 사용자에게 전달된다
+ */
+public record MatchResult(Long roomId, SubjectType subjectType, List<Long> memberIds) {
+
+}
@@ -0,0 +1,106 @@
+package com.finbattle.domain.room.repository;
+
+import com.finbattle.domain.quiz.model.SubjectType;
+import com.finbattle.domain.room.dto.RedisRoomMember;
+import com.finbattle.domain.room.dto.RoomStatus;
+import com.finbattle.domain.room.model.RedisRoom;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 여러 RedisRoom 을 한 번의 pipeline(HGETALL) 으로 읽는다
+ * <p>
+ * RedisRoomRepository.findById 는 방마다 왕복이 생기고 members 목록을 경로별로 변환한다. 여기서는 Spring Data Redis 가
+ * 저장한 hash(room:{roomId}, 필드 host.nickname, members.[0].memberId 등)를 직접 풀어서 RedisRoom 을 만든다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RedisRoomBatchReader {
+
+    private static final String KEY_PREFIX = "room:";
+    private static final String HOST_PREFIX = "host.";
+    private static final String MEMBERS_PREFIX = "members.[";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * roomId -> RedisRoom. Redis 에 없는 방은 결과에 없다
+     */
+    public Map<Long, RedisRoom> findAllById(List<Long> roomIds) {
+        if (roomIds.isEmpty()) {
+            return Map.of();
+        }
+        List<Object> hashes = stringRedisTemplate.executePipelined(
+            (RedisCallback<Object>) connection -> {
+                StringRedisConnection redis = (StringRedisConnection) connection;
+                roomIds.forEach(roomId -> redis.hGetAll(KEY_PREFIX + roomId));
+                return null;
+            });
+        Map<Long, RedisRoom> rooms = new HashMap<>();
+        for (int i = 0; i < roomIds.size() && i < hashes.size(); i++) {
+            if (hashes.get(i) instanceof Map<?, ?> fields && !fields.isEmpty()) {
+                rooms.put(roomIds.get(i), decode(roomIds.get(i), fields));
+            }
+        }
+        return rooms;
+    }
+
+    private static RedisRoom decode(Long roomId, Map<?, ?> fields) {
+        RedisRoom room = new RedisRoom();
+        room.setRoomId(roomId);
+        RedisRoomMember host = null;
+        // 목록 순서를 지키기 위해 index 순으로 정렬
+        Map<Integer, RedisRoomMember> members = new TreeMap<>();
+
+        for (Map.Entry<?, ?> entry : fields.entrySet()) {
+            String field = (String) entry.getKey();
+            String value = (String) entry.getValue();
+            if (field.startsWith(MEMBERS_PREFIX)) {
+                int close = field.indexOf(']', MEMBERS_PREFIX.length());
+                if (close < 0 || close + 2 > field.length()) {
+                    continue;
+                }
+                int index = Integer.parseInt(field.substring(MEMBERS_PREFIX.length(), close));
+                setMemberField(members.computeIfAbsent(index, k -> new RedisRoomMember()),
+                    field.substring(close + 2), value);
+            } else if (field.startsWith(HOST_PREFIX)) {
+                if (host == null) {
+                    host = new RedisRoomMember();
+                }
+                setMemberField(host, field.substring(HOST_PREFIX.length()), value);
+            } else {
+                switch (field) {
+                    case "maxPeople" -> room.setMaxPeople(Integer.parseInt(value));
+                    case "subjectType" -> room.setSubjectType(SubjectType.valueOf(value));
+                    case "status" -> room.setStatus(RoomStatus.valueOf(value));
+                    default -> {
+                        // roomId, _class
+                    }
+                }
+            }
+        }
+        room.setHost(host);
+        room.setMembers(new ArrayList<>(members.values()));
+        return room;
+    }
+
+    private static void setMemberField(RedisRoomMember member, String field, String value) {
+        switch (field) {
+            case "memberId" -> member.setMemberId(Long.valueOf(value));
+            case "status" -> member.setStatus(value);
+            case "nickname" -> member.setNickname(value);
+            case "mainCat" -> member.setMainCat(value);
+            default -> {
+                // 모르는 필드는 무시
+            }
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.finbattle.domain.room.repository;
+
+import com.finbattle.domain.room.dto.RoomStatus;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 대기방 멤버 변경을 Lua 스크립트로 원자적으로 처리
+ * <p>
+ * RedisRoomRepository 로 읽고-고치고-저장하면 동시에 들어온 입장 두 건이 모두 정원 검사를 통과할 수 있다. 여기서는
+ * Spring Data Redis 가 room:{roomId} hash 에 쓰는 구조(members.[i].memberId 등)를 그대로 두고, 검사와 변경을 스크립트
+ * 하나에서 끝낸다. 락 없이도 같은 방의 변경은 Redis 에서 차례로 실행된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RedisRoomMembershipRepository {
+
+    private static final String KEY_PREFIX = "room:";
+
+    public static final long NOT_FOUND = -1;
+    public static final long NOT_OPEN = -2;
+    public static final long FULL = -3;
+    public static final long ALREADY_JOINED = -4;
+    public static final long NOT_MEMBER = -5;
+    public static final long NOT_HOST = -6;
+
+    // 멤버 수와 memberId 의 index 를 찾는 공통 부분
+    private static final String FIND_MEMBER =
+        "local function find(key, memberId) "
+            + "local i = 0 local found = -1 "
+            + "while true do "
+            + "local id = redis.call('HGET', key, 'members.[' .. i .. '].memberId') "
+            + "if not id then break end "
+            + "if id == memberId then found = i end "
+            + "i = i + 1 end "
+            + "return i, found end ";
+
+    // index 뒤의 멤버를 한 칸씩 당기고 마지막 항목을 지운다
+    private static final String REMOVE_MEMBER =
+        "local fields = {'memberId', 'status', 'nickname', 'mainCat'} "
+            + "local function remove(key, index, size) "
+            + "for i = index, size - 2 do "
+            + "for _, f in ipairs(fields) do "
+            + "local v = redis.call('HGET', key, 'members.[' .. (i + 1) .. '].' .. f) "
+            + "if v then redis.call('HSET', key, 'members.[' .. i .. '].' .. f, v) "
+            + "else redis.call('HDEL', key, 'members.[' .. i .. '].' .. f) end "
+            + "end end "
+            + "for _, f in ipairs(fields) do "
+            + "redis.call('HDEL', key, 'members.[' .. (size - 1) .. '].' .. f) end "
+            + "end ";
+
+    /*
+     * 입장. KEYS[1] = room hash, ARGV = { memberId, nickname, mainCat, status }
+     * 반환: 입장 후 인원 | NOT_FOUND | NOT_OPEN | FULL | ALREADY_JOINED
+     */
+    private static final RedisScript<Long> JOIN = new DefaultRedisScript<>(
+        FIND_MEMBER
+            + "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end "
+            + "if redis.call('HGET', KEYS[1], 'status') ~= 'OPEN' then return -2 end "
+            + "local size, found = find(KEYS[1], ARGV[1]) "
+            + "if found >= 0 then return -4 end "
+            + "if size >= tonumber(redis.call('HGET', KEYS[1], 'maxPeople') or '0') then "
+            + "return -3 end "
+            + "local prefix = 'members.[' .. size .. '].' "
+            + "redis.call('HSET', KEYS[1], prefix .. 'memberId', ARGV[1], "
+            + "prefix .. 'status', ARGV[4]) "
+            + "if ARGV[2] ~= '' then redis.call('HSET', KEYS[1], prefix .. 'nickname', ARGV[2]) end "
+            + "if ARGV[3] ~= '' then redis.call('HSET', KEYS[1], prefix .. 'mainCat', ARGV[3]) end "
+            + "return size + 1",
+        Long.class);
+
+    /*
+     * 퇴장. KEYS[1] = room hash, ARGV = { memberId }
+     * 반환: 퇴장 후 인원 | NOT_FOUND | NOT_MEMBER
+     */
+    private static final RedisScript<Long> LEAVE = new DefaultRedisScript<>(
+        FIND_MEMBER + REMOVE_MEMBER
+            + "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end "
+            + "local size, found = find(KEYS[1], ARGV[1]) "
+            + "if found < 0 then return -5 end "
+            + "remove(KEYS[1], found, size) "
+            + "return size - 1",
+        Long.class);
+
+    /*
+     * 강퇴. KEYS[1] = room hash, ARGV = { 방장 memberId, 대상 memberId }
+     * 반환: 강퇴 후 인원 | NOT_FOUND | NOT_HOST | NOT_MEMBER
+     */
+    private static final RedisScript<Long> KICK = new DefaultRedisScript<>(
+        FIND_MEMBER + REMOVE_MEMBER
+            + "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end "
+            + "if redis.call('HGET', KEYS[1], 'host.memberId') ~= ARGV[1] then return -6 end "
+            + "local size, found = find(KEYS[1], ARGV[2]) "
+            + "if found < 0 then return -5 end "
+            + "remove(KEYS[1], found, size) "
+            + "return size - 1",
+        Long.class);
+
+    /*
+     * 준비 상태 변경. KEYS[1] = room hash, ARGV = { memberId, 바꿀 상태 }
+     * 반환: 1 변경됨 | 0 이미 같은 상태 | NOT_FOUND | NOT_MEMBER
+     */
+    private static final RedisScript<Long> SET_STATUS = new DefaultRedisScript<>(
+        FIND_MEMBER
+            + "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end "
+            + "local size, found = find(KEYS[1], ARGV[1]) "
+            + "if found < 0 then return -5 end "
+            + "local field = 'members.[' .. found .. '].status' "
+            + "if redis.call('HGET', KEYS[1], field) == ARGV[2] then return 0 end "
+            + "redis.call('HSET', KEYS[1], field, ARGV[2]) "
+            + "return 1",
+        Long.class);
+
+    // 방 상태 변경. 없는 방을 새로 만들지 않도록 EXISTS 확인 후 쓴다
+    private static final RedisScript<Long> SET_ROOM_STATUS = new DefaultRedisScript<>(
+        "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end "
+            + "redis.call('HSET', KEYS[1], 'status', ARGV[1]) "
+            + "return 1",
+        Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public long join(Long roomId, Long memberId, String nickname, String mainCat,
+        String status) {
+        return execute(JOIN, roomId, String.valueOf(memberId),
+            nickname != null ? nickname : "", mainCat != null ? mainCat : "", status);
+    }
+
+    public long leave(Long roomId, Long memberId) {
+        return execute(LEAVE, roomId, String.valueOf(memberId));
+    }
+
+    public long kick(Long roomId, Long hostId, Long targetId) {
+        return execute(KICK, roomId, String.valueOf(hostId), String.valueOf(targetId));
+    }
+
+    public long setStatus(Long roomId, Long memberId, String status) {
+        return execute(SET_STATUS, roomId, String.valueOf(memberId), status);
+    }
+
+    /**
+     * 방 상태만 변경. OPEN 이 아니게 되면 이후 입장은 스크립트에서 막힌다
+     */
+    public boolean updateRoomStatus(Long roomId, RoomStatus status) {
+        return execute(SET_ROOM_STATUS, roomId, status.name()) == 1;
+    }
+
+    private long execute(RedisScript<Long> script, Long roomId, String... args) {
+        Long result = stringRedisTemplate.execute(script, List.of(KEY_PREFIX + roomId),
+            (Object[]) args);
+        return result != null ? result : NOT_FOUND;
+    }
+}
@@ -3,12 +3,14 @@ package com.finbattle.domain.room.repository;
 import com.finbattle.domain.quiz.model.SubjectType;
 import com.finbattle.domain.room.dto.RoomStatus;
 import com.finbattle.domain.room.model.Room;
+import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface RoomRepository extends JpaRepository<Room, Long> {
 
+    List<Room> findByStatus(RoomStatus status);
 
     Page<Room> findByStatusOrderByUpdateAtDesc(RoomStatus status, Pageable pageable);
 
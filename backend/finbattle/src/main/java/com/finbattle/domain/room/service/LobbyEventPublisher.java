@@ -0,0 +1,124 @@
+package com.finbattle.domain.room.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finbattle.domain.quiz.model.SubjectType;
+import com.finbattle.domain.room.dto.LobbyDelta;
+import com.finbattle.domain.room.dto.RoomResponse;
+import com.finbattle.global.common.config.SchedulerConfig;
+import com.finbattle.global.common.redis.RedisPublisher;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로비 목록 변경을 lobby:{subjectType}, lobby:ALL 채널로 발행
+ * <p>
+ * window-ms 동안 들어온 변경을 방 단위로 합쳐서 (생성 후 인원 변경은 ADDED 하나로, 생성 후 삭제는 아무것도 보내지
+ * 않는다) 주제마다 배열 하나로 보낸다. 클라이언트는 첫 페이지를 REST 로 받은 뒤 이 변경분만 적용하면 된다.
+ */
+@Slf4j
+@Component
+public class LobbyEventPublisher {
+
+    public static final String ALL = "ALL";
+    private static final String CHANNEL_PREFIX = "lobby:";
+
+    private final RedisPublisher redisPublisher;
+    private final ObjectMapper objectMapper;
+    private final ScheduledFuture<?> flusher;
+
+    // subjectType -> (roomId -> 합쳐진 변경), 발생 순서 유지
+    private Map<SubjectType, Map<Long, LobbyDelta>> pending = new HashMap<>();
+
+    public LobbyEventPublisher(RedisPublisher redisPublisher, ObjectMapper objectMapper,
+        @Qualifier(SchedulerConfig.BACKGROUND_SCHEDULER) TaskScheduler scheduler,
+        @Value("${lobby.events.window-ms:200}") long windowMs) {
+        this.redisPublisher = redisPublisher;
+        this.objectMapper = objectMapper;
+        Duration window = Duration.ofMillis(windowMs);
+        this.flusher = scheduler.scheduleWithFixedDelay(this::flush, Instant.now().plus(window),
+            window);
+    }
+
+    public void added(SubjectType subjectType, RoomResponse room) {
+        merge(subjectType, LobbyDelta.added(room));
+    }
+
+    public void countChanged(SubjectType subjectType, Long roomId, int count) {
+        merge(subjectType, LobbyDelta.count(roomId, count));
+    }
+
+    public void removed(SubjectType subjectType, Long roomId) {
+        merge(subjectType, LobbyDelta.removed(roomId));
+    }
+
+    private synchronized void merge(SubjectType subjectType, LobbyDelta delta) {
+        Map<Long, LobbyDelta> rooms = pending.computeIfAbsent(subjectType,
+            type -> new LinkedHashMap<>());
+        LobbyDelta previous = rooms.get(delta.roomId());
+        if (previous == null || previous.type() != LobbyDelta.Type.ADDED) {
+            rooms.put(delta.roomId(), delta);
+            return;
+        }
+        // 아직 보내지 않은 ADDED 에 합친다
+        switch (delta.type()) {
+            case COUNT -> previous.room().setCurrentPlayerCount(delta.count());
+            case REMOVED -> rooms.remove(delta.roomId());
+            case ADDED -> rooms.put(delta.roomId(), delta);
+        }
+    }
+
+    // 스케줄러와 테스트에서 호출
+    void flush() {
+        Map<SubjectType, Map<Long, LobbyDelta>> batch;
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = pending;
+            pending = new HashMap<>();
+        }
+        try {
+            List<LobbyDelta> all = new ArrayList<>();
+            batch.forEach((subjectType, rooms) -> {
+                if (rooms.isEmpty()) {
+                    return;
+                }
+                List<LobbyDelta> deltas = List.copyOf(rooms.values());
+                all.addAll(deltas);
+                publish(subjectType.name(), deltas);
+            });
+            if (!all.isEmpty()) {
+                publish(ALL, all);
+            }
+        } catch (Exception e) {
+            log.error("로비 변경 발행 실패", e);
+        }
+    }
+
+    private void publish(String topic, List<LobbyDelta> deltas) {
+        try {
+            redisPublisher.publishRaw(CHANNEL_PREFIX + topic,
+                objectMapper.writeValueAsBytes(deltas));
+        } catch (Exception e) {
+            log.warn("로비 변경 발행 실패 topic={}: {}", topic, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flusher.cancel(false);
+        flush();
+    }
+}
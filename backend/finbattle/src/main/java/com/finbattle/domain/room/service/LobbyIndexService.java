@@ -0,0 +1,288 @@
+package com.finbattle.domain.room.service;
+
+import com.finbattle.domain.quiz.model.SubjectType;
+import com.finbattle.domain.room.dto.PageResponse;
+import com.finbattle.domain.room.dto.RoomResponse;
+import com.finbattle.domain.room.dto.RoomStatus;
+import com.finbattle.domain.room.dto.RoomType;
+import com.finbattle.domain.room.model.RedisRoom;
+import com.finbattle.domain.room.model.Room;
+import com.finbattle.domain.room.repository.RedisRoomBatchReader;
+import com.finbattle.domain.room.repository.RoomRepository;
+import com.finbattle.global.common.Util.TransactionCallbacks;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로비에 보여줄 OPEN 방 목록 인덱스
+ * <p>
+ * lobby:open:all 과 주제별 lobby:open:{SubjectType} sorted set 에 roomId 를 updateAt(epoch ms) 점수로 넣고, 목록에
+ * 필요한 값은 lobby:room:{roomId} hash 에 둔다. 방 생성/입장/퇴장/끌어올리기/시작/종료 때 갱신하므로 목록 조회는
+ * ZREVRANGE 한 번과 page 크기만큼의 HGETALL(pipeline)으로 끝나고 DB 를 읽지 않는다.
+ * <p>
+ * 트랜잭션 안에서 부르면 커밋된 뒤에 반영하므로 롤백된 변경은 인덱스에 남지 않는다. 시작할 때 DB 의 OPEN 방으로
+ * 인덱스를 채우고, 더 이상 OPEN 이 아닌 방은 뺀다. lobby.index.enabled=false 면 기존처럼 JPA 로 조회한다.
+ * <p>
+ * 변경은 LobbyEventPublisher 로 /topic/lobby/{subjectType} 구독자에게도 알린다.
+ */
+@Slf4j
+@Component
+public class LobbyIndexService {
+
+    private static final String ALL_KEY = "lobby:open:all";
+    private static final String SUBJECT_KEY = "lobby:open:";
+    private static final String SUMMARY_KEY = "lobby:room:";
+    private static final String PLAYER_COUNT = "currentPlayerCount";
+
+    // 요약 hash 가 있을 때만 인원을 바꾸고 주제를 돌려준다 (시작/종료로 지워진 방을 되살리지 않음)
+    private static final RedisScript<String> UPDATE_PLAYER_COUNT = new DefaultRedisScript<>(
+        "if redis.call('EXISTS', KEYS[1]) == 0 then return false end "
+            + "redis.call('HSET', KEYS[1], '" + PLAYER_COUNT + "', ARGV[1]) "
+            + "return redis.call('HGET', KEYS[1], 'subjectType')", String.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RoomRepository roomRepository;
+    private final RedisRoomBatchReader redisRoomBatchReader;
+    private final LobbyEventPublisher lobbyEventPublisher;
+    private final boolean enabled;
+
+    public LobbyIndexService(StringRedisTemplate stringRedisTemplate,
+        RoomRepository roomRepository, RedisRoomBatchReader redisRoomBatchReader,
+        LobbyEventPublisher lobbyEventPublisher,
+        @Value("${lobby.index.enabled:true}") boolean enabled) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.roomRepository = roomRepository;
+        this.redisRoomBatchReader = redisRoomBatchReader;
+        this.lobbyEventPublisher = lobbyEventPublisher;
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 새 OPEN 방 등록
+     */
+    public void open(Room room, int playerCount) {
+        if (!enabled) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> {
+            try {
+                stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    write((StringRedisConnection) connection, room, playerCount);
+                    return null;
+                });
+                RoomResponse response = RoomResponse.fromEntity(room, null);
+                response.setCurrentPlayerCount(playerCount);
+                lobbyEventPublisher.added(room.getSubjectType(), response);
+            } catch (Exception e) {
+                log.warn("로비 인덱스 등록 실패 roomId={}: {}", room.getRoomId(), e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 인원 변경. 인덱스에 없는 방(이미 시작/종료)은 건드리지 않는다
+     */
+    public void updatePlayerCount(Long roomId, int playerCount) {
+        if (!enabled) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> {
+            try {
+                String subjectType = stringRedisTemplate.execute(UPDATE_PLAYER_COUNT,
+                    List.of(SUMMARY_KEY + roomId), String.valueOf(playerCount));
+                if (subjectType != null) {
+                    lobbyEventPublisher.countChanged(SubjectType.valueOf(subjectType), roomId,
+                        playerCount);
+                }
+            } catch (Exception e) {
+                log.warn("로비 인원 갱신 실패 roomId={}: {}", roomId, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 끌어올리기 (updateAt 갱신)
+     */
+    public void touch(Room room) {
+        if (!enabled) {
+            return;
+        }
+        double score = toEpochMilli(room.getUpdateAt());
+        String roomId = String.valueOf(room.getRoomId());
+        TransactionCallbacks.afterCommit(() -> {
+            try {
+                stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    StringRedisConnection redis = (StringRedisConnection) connection;
+                    redis.zAdd(ALL_KEY, score, roomId);
+                    redis.zAdd(SUBJECT_KEY + room.getSubjectType(), score, roomId);
+                    return null;
+                });
+            } catch (Exception e) {
+                log.warn("로비 인덱스 갱신 실패 roomId={}: {}", roomId, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 게임 시작/방 종료 시 목록에서 제거
+     */
+    public void remove(Long roomId, SubjectType subjectType) {
+        if (!enabled) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> {
+            try {
+                stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    remove((StringRedisConnection) connection, String.valueOf(roomId),
+                        subjectType);
+                    return null;
+                });
+                lobbyEventPublisher.removed(subjectType, roomId);
+            } catch (Exception e) {
+                log.warn("로비 인덱스 제거 실패 roomId={}: {}", roomId, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * OPEN 방 목록 (updateAt 최신순). subjectType 이 null 이면 전체
+     *
+     * @param page 1부터 시작
+     */
+    public PageResponse page(SubjectType subjectType, int page, int size) {
+        String key = subjectType == null ? ALL_KEY : SUBJECT_KEY + subjectType;
+        long start = (long) (page - 1) * size;
+        Long total = stringRedisTemplate.opsForZSet().zCard(key);
+        Set<String> ids = stringRedisTemplate.opsForZSet().reverseRange(key, start,
+            start + size - 1);
+        List<String> roomIds = ids == null ? List.of() : new ArrayList<>(ids);
+
+        List<Object> summaries = roomIds.isEmpty() ? List.of()
+            : stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection redis = (StringRedisConnection) connection;
+                roomIds.forEach(roomId -> redis.hGetAll(SUMMARY_KEY + roomId));
+                return null;
+            });
+        List<RoomResponse> rooms = new ArrayList<>(summaries.size());
+        for (Object summary : summaries) {
+            if (summary instanceof Map<?, ?> fields && !fields.isEmpty()) {
+                rooms.add(toResponse(fields));
+            }
+        }
+
+        long totalElements = total == null ? 0 : total;
+        int totalPages = (int) ((totalElements + size - 1) / size);
+        return new PageResponse(rooms, page, size, totalPages, totalElements,
+            page >= totalPages);
+    }
+
+    /**
+     * 시작 시 DB 기준으로 인덱스를 맞춘다. 여러 노드가 동시에 해도 같은 결과가 된다
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            List<Room> openRooms = roomRepository.findByStatus(RoomStatus.OPEN);
+            Map<Long, RedisRoom> redisRooms = redisRoomBatchReader.findAllById(
+                openRooms.stream().map(Room::getRoomId).toList());
+            Set<String> openIds = new HashSet<>();
+            openRooms.forEach(room -> openIds.add(String.valueOf(room.getRoomId())));
+            Set<String> indexed = stringRedisTemplate.opsForZSet().range(ALL_KEY, 0, -1);
+
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection redis = (StringRedisConnection) connection;
+                for (Room room : openRooms) {
+                    RedisRoom redisRoom = redisRooms.get(room.getRoomId());
+                    write(redis, room, redisRoom != null ? redisRoom.getMembers().size() : 0);
+                }
+                if (indexed != null) {
+                    for (String roomId : indexed) {
+                        if (!openIds.contains(roomId)) {
+                            remove(redis, roomId, null);
+                        }
+                    }
+                }
+                return null;
+            });
+            log.info("로비 인덱스 재구성 완료: OPEN 방 {}개", openRooms.size());
+        } catch (Exception e) {
+            log.error("로비 인덱스 재구성 실패", e);
+        }
+    }
+
+    private void write(StringRedisConnection redis, Room room, int playerCount) {
+        String roomId = String.valueOf(room.getRoomId());
+        double score = toEpochMilli(room.getUpdateAt());
+        Map<String, String> summary = new HashMap<>();
+        summary.put("roomId", roomId);
+        summary.put("roomTitle", room.getRoomTitle());
+        summary.put("status", room.getStatus().name());
+        summary.put("roomType", room.getRoomType().name());
+        summary.put("subjectType", room.getSubjectType().name());
+        summary.put("maxPlayer", String.valueOf(room.getMaxPlayer()));
+        if (room.getHostMember() != null) {
+            summary.put("memberId", String.valueOf(room.getHostMember().getMemberId()));
+        }
+        summary.put("createdAt", room.getCreatedAt().toString());
+        summary.put(PLAYER_COUNT, String.valueOf(playerCount));
+        redis.hMSet(SUMMARY_KEY + roomId, summary);
+        redis.zAdd(ALL_KEY, score, roomId);
+        redis.zAdd(SUBJECT_KEY + room.getSubjectType(), score, roomId);
+    }
+
+    private void remove(StringRedisConnection redis, String roomId, SubjectType subjectType) {
+        redis.zRem(ALL_KEY, roomId);
+        if (subjectType != null) {
+            redis.zRem(SUBJECT_KEY + subjectType, roomId);
+        } else {
+            for (SubjectType type : SubjectType.values()) {
+                redis.zRem(SUBJECT_KEY + type, roomId);
+            }
+        }
+        redis.del(SUMMARY_KEY + roomId);
+    }
+
+    private static RoomResponse toResponse(Map<?, ?> fields) {
+        RoomResponse response = new RoomResponse();
+        response.setRoomId(Long.valueOf((String) fields.get("roomId")));
+        response.setRoomTitle((String) fields.get("roomTitle"));
+        response.setStatus(RoomStatus.valueOf((String) fields.get("status")));
+        response.setRoomType(RoomType.valueOf((String) fields.get("roomType")));
+        response.setSubjectType(SubjectType.valueOf((String) fields.get("subjectType")));
+        response.setMaxPlayer(Integer.parseInt((String) fields.get("maxPlayer")));
+        Object memberId = fields.get("memberId");
+        response.setMemberId(memberId != null ? Long.valueOf((String) memberId) : null);
+        response.setCreatedAt(LocalDateTime.parse((String) fields.get("createdAt")));
+        Object playerCount = fields.get(PLAYER_COUNT);
+        response.setCurrentPlayerCount(
+            playerCount != null ? Integer.parseInt((String) playerCount) : 0);
+        return response;
+    }
+
+    private static double toEpochMilli(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
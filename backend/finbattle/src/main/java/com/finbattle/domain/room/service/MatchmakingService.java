@@ -0,0 +1,321 @@
+package com.finbattle.domain.room.service;
+
+import static com.finbattle.global.common.model.dto.BaseResponseStatus.MEMBER_NOT_FOUND;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finbattle.domain.member.model.Member;
+import com.finbattle.domain.member.repository.MemberRepository;
+import com.finbattle.domain.quiz.model.SubjectType;
+import com.finbattle.domain.room.dto.MatchResult;
+import com.finbattle.domain.room.dto.RoomCreateRequest;
+import com.finbattle.domain.room.dto.RoomResponse;
+import com.finbattle.domain.room.dto.RoomType;
+import com.finbattle.global.common.config.SchedulerConfig;
+import com.finbattle.global.common.exception.exception.BusinessException;
+import com.finbattle.global.common.redis.RedisMatchSubscriber;
+import com.finbattle.global.common.redis.RedisPublisher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+/**
+ * 1:1 빠른 대전 매칭
+ * <p>
+ * 대기열은 주제(와 경험치 구간)별 Redis sorted set match:queue:{subjectType}:{bucket} 이고 score 는 대기 시작 시각이다.
+ * 새로 들어온 사용자는 Lua 스크립트 하나로 가장 오래 기다린 상대를 꺼내거나, 상대가 없으면 대기열에 들어간다. 어느
+ * 노드로 요청이 와도 같은 대기열을 보므로 노드 간에도 짝이 맞는다.
+ * <p>
+ * 짝이 맞으면 요청을 처리한 노드가 방 생성, 입장, 게임 시작(GameData 생성)까지 한 번에 하고, match:notify 채널로
+ * 알린다. 각 노드는 자기에게 접속한 사용자에게 /user/queue/match 로 전달한다. 중간에 실패하면 만든 방을 닫고 먼저
+ * 기다리던 사용자를 원래 순서로 대기열에 되돌린다.
+ * <p>
+ * 대기 요청을 받은 노드는 match.heartbeat-ms 마다 match:alive 에 마지막 확인 시각을 쓴다. 노드가 죽어 연결 해제
+ * 이벤트 없이 남은 항목은 match.ttl-ms 가 지나면 다음 매칭 때 스크립트가 건너뛰고 지운다.
+ */
+@Slf4j
+@Service
+public class MatchmakingService {
+
+    private static final String QUEUE_KEY = "match:queue:";
+    // memberId -> 들어가 있는 대기열 key (중복 대기, 취소용)
+    private static final String WAITING_KEY = "match:waiting";
+    // memberId -> 마지막으로 대기 중임을 확인한 시각(ms)
+    private static final String ALIVE_KEY = "match:alive";
+
+    /*
+     * KEYS[1] = 대기열, KEYS[2] = 대기 중 hash, KEYS[3] = 확인 시각 hash
+     * ARGV = { memberId, 현재 시각(ms), 이 시각 전에 확인된 항목은 만료 }
+     * 반환 { -1: 이미 대기 중 | 0, 만료 수: 대기열에 추가 | 1, 만료 수, 상대 memberId, 상대 대기 시작 시각 }
+     */
+    private static final RedisScript<List> ENQUEUE = new DefaultRedisScript<>(
+        "if redis.call('HEXISTS', KEYS[2], ARGV[1]) == 1 then return {-1} end "
+            + "local expired = 0 "
+            + "while true do "
+            + "local head = redis.call('ZRANGE', KEYS[1], 0, 0, 'WITHSCORES') "
+            + "if not head[1] then break end "
+            + "local seen = tonumber(redis.call('HGET', KEYS[3], head[1]) or '0') "
+            + "redis.call('ZREM', KEYS[1], head[1]) "
+            + "redis.call('HDEL', KEYS[2], head[1]) "
+            + "redis.call('HDEL', KEYS[3], head[1]) "
+            + "if seen >= tonumber(ARGV[3]) then "
+            + "return {1, expired, tonumber(head[1]), tonumber(head[2])} end "
+            + "expired = expired + 1 end "
+            + "redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1]) "
+            + "redis.call('HSET', KEYS[2], ARGV[1], KEYS[1]) "
+            + "redis.call('HSET', KEYS[3], ARGV[1], ARGV[2]) "
+            + "return {0, expired}",
+        List.class);
+
+    /*
+     * 매칭 실패 후 되돌리기. 그 사이 다시 대기열에 들어갔으면 그대로 둔다
+     * KEYS = { 대기열, 대기 중 hash, 확인 시각 hash }, ARGV = { memberId, 원래 대기 시작 시각, 현재 시각 }
+     */
+    private static final RedisScript<Long> REQUEUE = new DefaultRedisScript<>(
+        "if redis.call('HEXISTS', KEYS[2], ARGV[1]) == 1 then return 0 end "
+            + "redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1]) "
+            + "redis.call('HSET', KEYS[2], ARGV[1], KEYS[1]) "
+            + "redis.call('HSET', KEYS[3], ARGV[1], ARGV[3]) "
+            + "return 1",
+        Long.class);
+
+    // KEYS = { 대기 중 hash, 확인 시각 hash }, ARGV = { memberId }. 반환 1: 취소됨 | 0: 대기 중 아님
+    private static final RedisScript<Long> CANCEL = new DefaultRedisScript<>(
+        "local queue = redis.call('HGET', KEYS[1], ARGV[1]) "
+            + "if not queue then return 0 end "
+            + "redis.call('ZREM', queue, ARGV[1]) "
+            + "redis.call('HDEL', KEYS[1], ARGV[1]) "
+            + "redis.call('HDEL', KEYS[2], ARGV[1]) "
+            + "return 1",
+        Long.class);
+
+    /*
+     * 아직 대기 중인 사용자만 확인 시각 갱신
+     * KEYS = { 대기 중 hash, 확인 시각 hash }, ARGV = { 현재 시각, memberId... }. 반환: 더 이상 대기 중이 아닌 memberId
+     */
+    private static final RedisScript<List> HEARTBEAT = new DefaultRedisScript<>(
+        "local gone = {} "
+            + "for i = 2, #ARGV do "
+            + "if redis.call('HEXISTS', KEYS[1], ARGV[i]) == 1 then "
+            + "redis.call('HSET', KEYS[2], ARGV[i], ARGV[1]) "
+            + "else table.insert(gone, ARGV[i]) end end "
+            + "return gone",
+        List.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MemberRepository memberRepository;
+    private final RoomService roomService;
+    private final RoomSubscriptionService roomSubscriptionService;
+    private final RedisPublisher redisPublisher;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final long expBucketSize;
+    private final long ttlMs;
+    private final Counter pairedCounter;
+    private final Counter failedCounter;
+    private final Counter expiredCounter;
+    // 이 노드가 대기열에 넣어 heartbeat 를 맡은 사용자
+    private final Set<Long> localWaiting = ConcurrentHashMap.newKeySet();
+    private final ScheduledFuture<?> heartbeat;
+
+    public MatchmakingService(StringRedisTemplate stringRedisTemplate,
+        MemberRepository memberRepository, RoomService roomService,
+        RoomSubscriptionService roomSubscriptionService, RedisPublisher redisPublisher,
+        ObjectMapper objectMapper, MeterRegistry meterRegistry,
+        @Qualifier(SchedulerConfig.BACKGROUND_SCHEDULER) TaskScheduler scheduler,
+        @Value("${match.exp-bucket-size:0}") long expBucketSize,
+        @Value("${match.heartbeat-ms:10000}") long heartbeatMs,
+        @Value("${match.ttl-ms:30000}") long ttlMs) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.memberRepository = memberRepository;
+        this.roomService = roomService;
+        this.roomSubscriptionService = roomSubscriptionService;
+        this.redisPublisher = redisPublisher;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.expBucketSize = expBucketSize;
+        this.ttlMs = ttlMs;
+        this.pairedCounter = Counter.builder("match.paired")
+            .description("매칭된 대전 수")
+            .register(meterRegistry);
+        this.failedCounter = Counter.builder("match.failed")
+            .description("짝은 맞았지만 방을 만들지 못한 수")
+            .register(meterRegistry);
+        this.expiredCounter = Counter.builder("match.expired")
+            .description("확인 시각이 ttl 을 넘어 건너뛴 대기 항목 수")
+            .register(meterRegistry);
+
+        Duration interval = Duration.ofMillis(heartbeatMs);
+        this.heartbeat = scheduler.scheduleWithFixedDelay(this::heartbeat,
+            Instant.now().plus(interval), interval);
+    }
+
+    /**
+     * 대기열에 들어간다. 바로 상대가 있으면 방을 만들고 게임을 시작한다
+     *
+     * @return 매칭 결과. 상대를 기다리는 중이면 null
+     */
+    public MatchResult enqueue(Long memberId, SubjectType subjectType) {
+        Member member = memberRepository.findByMemberId(memberId)
+            .orElseThrow(() -> new BusinessException(MEMBER_NOT_FOUND));
+        String queue = queueKey(subjectType, member.getExp());
+        long now = System.currentTimeMillis();
+
+        List<?> result = stringRedisTemplate.execute(ENQUEUE,
+            List.of(queue, WAITING_KEY, ALIVE_KEY), String.valueOf(memberId), String.valueOf(now),
+            String.valueOf(now - ttlMs));
+        long outcome = result == null || result.isEmpty() ? 0 : ((Number) result.get(0)).longValue();
+        if (outcome == -1) {
+            throw new IllegalStateException("이미 매칭 대기 중입니다.");
+        }
+        long expired = result.size() > 1 ? ((Number) result.get(1)).longValue() : 0;
+        if (expired > 0) {
+            expiredCounter.increment(expired);
+            log.info("만료된 매칭 대기 {}건 제거 queue={}", expired, queue);
+        }
+        if (outcome == 0) {
+            localWaiting.add(memberId);
+            log.info("매칭 대기 memberId={}, queue={}", memberId, queue);
+            return null;
+        }
+
+        Long opponentId = ((Number) result.get(2)).longValue();
+        long waitedSince = ((Number) result.get(3)).longValue();
+        // 먼저 기다린 사용자의 대기 시간만 기록한다 (방금 들어온 사용자는 기다리지 않았다)
+        recordWait(subjectType, now - waitedSince);
+        try {
+            MatchResult match = startMatch(opponentId, memberId, subjectType);
+            pairedCounter.increment();
+            return match;
+        } catch (Exception e) {
+            failedCounter.increment();
+            log.error("매칭 방 생성 실패 {} vs {}", opponentId, memberId, e);
+            requeue(queue, opponentId, waitedSince);
+            throw new IllegalStateException("매칭 방을 만들지 못했습니다.");
+        }
+    }
+
+    public boolean cancel(Long memberId) {
+        localWaiting.remove(memberId);
+        Long result = stringRedisTemplate.execute(CANCEL, List.of(WAITING_KEY, ALIVE_KEY),
+            String.valueOf(memberId));
+        return result != null && result == 1;
+    }
+
+    /**
+     * 대기 중에 연결이 끊기면 대기열에서 뺀다
+     */
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        if (event.getUser() == null) {
+            return;
+        }
+        try {
+            cancel(Long.valueOf(event.getUser().getName()));
+        } catch (NumberFormatException ignored) {
+            // StompPrincipal 이 아닌 사용자
+        } catch (Exception e) {
+            log.warn("매칭 대기 취소 실패: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeat.cancel(false);
+    }
+
+    /*
+     * 먼저 기다린 사용자를 방장으로 방 생성 -> 입장 -> 게임 시작. 방을 만든 뒤 실패하면 방을 닫는다
+     */
+    private MatchResult startMatch(Long hostId, Long guestId, SubjectType subjectType)
+        throws Exception {
+        RoomCreateRequest request = new RoomCreateRequest();
+        request.setRoomTitle("빠른 대전");
+        request.setMaxPlayer(2);
+        request.setRoomType(RoomType.ONE_ON_ONE);
+        request.setSubjectType(subjectType);
+
+        RoomResponse room = roomService.createRoom(hostId, request);
+        try {
+            roomSubscriptionService.createRoomSubscription(room);
+            roomSubscriptionService.joinRoom(room.getRoomId(), guestId);
+            roomService.startRoom(room.getRoomId(), hostId);
+
+            MatchResult match = new MatchResult(room.getRoomId(), subjectType,
+                List.of(hostId, guestId));
+            redisPublisher.publishRaw(RedisMatchSubscriber.CHANNEL,
+                objectMapper.writeValueAsBytes(match));
+            log.info("매칭 완료 roomId={}, {} vs {}", room.getRoomId(), hostId, guestId);
+            return match;
+        } catch (Exception e) {
+            try {
+                roomService.abortRoom(room.getRoomId());
+            } catch (Exception abortError) {
+                log.error("매칭 방 정리 실패 roomId={}", room.getRoomId(), abortError);
+            }
+            throw e;
+        }
+    }
+
+    // 먼저 기다리던 사용자는 원래 순서로 대기열에 되돌리고, 이 노드가 heartbeat 를 맡는다
+    private void requeue(String queue, Long memberId, long waitedSince) {
+        try {
+            stringRedisTemplate.execute(REQUEUE, List.of(queue, WAITING_KEY, ALIVE_KEY),
+                String.valueOf(memberId), String.valueOf(waitedSince),
+                String.valueOf(System.currentTimeMillis()));
+            localWaiting.add(memberId);
+        } catch (Exception e) {
+            log.error("매칭 대기열 복구 실패 memberId={}", memberId, e);
+        }
+    }
+
+    private void heartbeat() {
+        if (localWaiting.isEmpty()) {
+            return;
+        }
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(System.currentTimeMillis()));
+        localWaiting.forEach(memberId -> args.add(String.valueOf(memberId)));
+        try {
+            List<?> gone = stringRedisTemplate.execute(HEARTBEAT, List.of(WAITING_KEY, ALIVE_KEY),
+                args.toArray());
+            // 매칭됐거나 다른 노드에서 취소된 사용자는 더 이상 맡지 않는다
+            if (gone != null) {
+                gone.forEach(memberId -> localWaiting.remove(Long.valueOf((String) memberId)));
+            }
+        } catch (Exception e) {
+            log.warn("매칭 대기 heartbeat 실패: {}", e.getMessage());
+        }
+    }
+
+    private String queueKey(SubjectType subjectType, Long exp) {
+        long bucket = expBucketSize > 0 && exp != null ? exp / expBucketSize : 0;
+        return QUEUE_KEY + subjectType + ":" + bucket;
+    }
+
+    private void recordWait(SubjectType subjectType, long waitMs) {
+        Timer.builder("match.wait")
+            .tag("subject", subjectType.name())
+            .description("매칭 대기 시간")
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+            .record(Duration.ofMillis(Math.max(0, waitMs)));
+    }
+}
@@ -5,24 +5,15 @@ import static com.finbattle.domain.room.dto.RoomStatus.OPEN;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.finbattle.domain.game.dto.GameMemberStatus;
+import com.finbattle.domain.game.model.AnswerKey;
 import com.finbattle.domain.game.model.GameData;
-import com.finbattle.domain.game.repository.RedisGameRepository;
 import com.finbattle.domain.game.service.GameService;
+import com.finbattle.domain.game.service.GameStateStore;
 import com.finbattle.domain.member.model.Member;
 import com.finbattle.domain.member.repository.MemberRepository;
-import com.finbattle.domain.quiz.dto.EssayQuizDto;
-import com.finbattle.domain.quiz.dto.MultipleChoiceQuizDto;
-import com.finbattle.domain.quiz.dto.QuizOptionDto;
-import com.finbattle.domain.quiz.dto.ShortAnswerQuizDto;
-import com.finbattle.domain.quiz.model.EssayQuiz;
-import com.finbattle.domain.quiz.model.MultipleChoiceQuiz;
-import com.finbattle.domain.quiz.model.QuizOption;
-import com.finbattle.domain.quiz.model.ShortAnswerQuiz;
+import com.finbattle.domain.quiz.dto.QuizDeck;
 import com.finbattle.domain.quiz.model.SubjectType;
-import com.finbattle.domain.quiz.repository.EssayQuizRepository;
-import com.finbattle.domain.quiz.repository.MultipleChoiceQuizRepository;
-import com.finbattle.domain.quiz.repository.QuizOptionRepository;
-import com.finbattle.domain.quiz.repository.ShortAnswerQuizRepository;
+import com.finbattle.domain.quiz.service.QuizDeckService;
 import com.finbattle.domain.room.dto.EventMessage;
 import com.finbattle.domain.room.dto.MessageType;
 import com.finbattle.domain.room.dto.PageResponse;
@@ -33,15 +24,19 @@ import com.finbattle.domain.room.dto.RoomStatus;
 import com.finbattle.domain.room.dto.RoomUpdateResponse;
 import com.finbattle.domain.room.model.RedisRoom;
 import com.finbattle.domain.room.model.Room;
+import com.finbattle.domain.room.repository.RedisRoomBatchReader;
+import com.finbattle.domain.room.repository.RedisRoomMembershipRepository;
 import com.finbattle.domain.room.repository.RedisRoomRepository;
 import com.finbattle.domain.room.repository.RoomRepository;
+import com.finbattle.global.common.Util.TransactionCallbacks;
 import com.finbattle.global.common.redis.RedisPublisher;
+import com.finbattle.global.common.timer.GameTimer;
+import com.finbattle.global.common.timer.TimerKind;
 import jakarta.transaction.Transactional;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -57,16 +52,15 @@ public class RoomService {
     private final RoomRepository roomRepository;
     private final MemberRepository memberRepository;
     private final RedisRoomRepository redisRoomRepository;
-    private final EssayQuizRepository essayQuizRepository;
-    private final ShortAnswerQuizRepository shortAnswerQuizRepository;
     private final RedisPublisher redisPublisher;
     private final ObjectMapper objectMapper = new ObjectMapper();
-    private final RedisGameRepository redisGameRepository;
-    private final MultipleChoiceQuizRepository multipleChoiceQuizRepository;
-    private final QuizOptionRepository quizOptionRepository;
+    private final GameStateStore gameStateStore;
+    private final QuizDeckService quizDeckService;
     private final GameService gameService;
-
-    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final GameTimer gameTimer;
+    private final LobbyIndexService lobbyIndexService;
+    private final RedisRoomBatchReader redisRoomBatchReader;
+    private final RedisRoomMembershipRepository redisRoomMembershipRepository;
 
     // 방 생성
     public RoomResponse createRoom(Long memberId, RoomCreateRequest request) {
@@ -89,6 +83,7 @@ public class RoomService {
 
         // DB 저장
         Room savedRoom = roomRepository.save(room);
+        lobbyIndexService.open(savedRoom, 0);
 
         // (3) 응답 반환
         return mapToRoomResponse(savedRoom);
@@ -107,11 +102,24 @@ public class RoomService {
 
         room.setStatus(RoomStatus.IN_PROGRESS);
         roomRepository.save(room);
+        // 커밋된 뒤에 빠진다 (아래에서 실패해 롤백되면 목록에 그대로 남는다)
+        lobbyIndexService.remove(roomId, room.getSubjectType());
 
+        // 상태를 먼저 바꿔 이후 입장을 막고, 그 다음 멤버 목록을 읽는다 (전체 저장으로 동시 변경을 덮어쓰지 않음)
+        if (!redisRoomMembershipRepository.updateRoomStatus(roomId, RoomStatus.IN_PROGRESS)) {
+            throw new IllegalArgumentException("Redis에 해당 방이 존재하지 않습니다.");
+        }
+        // 아래(덱 부족, Redis 실패 등)에서 실패해 롤백되면 다시 입장할 수 있게 되돌리고 만든 게임 상태를 지운다
+        TransactionCallbacks.onRollback(() -> {
+            try {
+                redisRoomMembershipRepository.updateRoomStatus(roomId, OPEN);
+                gameStateStore.remove(roomId);
+            } catch (Exception e) {
+                log.error("게임 시작 롤백 중 Redis 복구 실패 roomId={}", roomId, e);
+            }
+        });
         RedisRoom redisRoom = redisRoomRepository.findById(roomId)
             .orElseThrow(() -> new IllegalArgumentException("Redis에 해당 방이 존재하지 않습니다."));
-        redisRoom.setStatus(RoomStatus.IN_PROGRESS);
-        redisRoomRepository.save(redisRoom);
 
         // (2) 방 멤버 목록 조회
         List<RedisRoomMember> members = redisRoom.getMembers();
@@ -137,73 +145,54 @@ public class RoomService {
         gameData.setGameMemberStatusList(gameMemberStatusList);
 
         // (3-2) 문제 정보 세팅
-        // -> 객관식 5개, 단답식 3개, 서술형 1개
+        // -> 객관식 5개, 단답형 3개, 서술형 1개 (미리 만들어 둔 덱에서 꺼냄)
         SubjectType subject = room.getSubjectType();
+        QuizDeck deck = quizDeckService.takeDeck(subject,
+            members.stream().map(RedisRoomMember::getMemberId).toList());
+        gameData.setEssayQuiz(deck.essayQuiz());
+        gameData.setShortAnswerQuizList(deck.shortAnswerQuizList());
+        gameData.setMultipleChoiceQuizList(deck.multipleChoiceQuizList());
 
-        // 1) EssayQuiz (서술형) 1개
-        List<EssayQuiz> essayList = essayQuizRepository.findRandomBySubject(
-            subject, PageRequest.of(0, 1));
-        if (essayList.isEmpty()) {
-            throw new IllegalStateException("서술형 퀴즈가 부족합니다.");
-        }
-        EssayQuiz essayQuizEntity = essayList.get(0);
-        // EssayQuizDto 변환 (직접 세팅 or toDto)
-        EssayQuizDto essayQuizDto = EssayQuizDto.toDto(essayQuizEntity);
-        gameData.setEssayQuiz(essayQuizDto);
-
-        // 2) ShortAnswerQuiz (단답형) 3개
-        List<ShortAnswerQuiz> shortEntities = shortAnswerQuizRepository.findRandomBySubject(
-            subject, PageRequest.of(0, 3));
-        List<ShortAnswerQuizDto> shortDtos = shortEntities.stream().map(entity -> {
-            ShortAnswerQuizDto dto = ShortAnswerQuizDto.toDto(entity);
-            return dto;
-        }).toList();
-        gameData.setShortAnswerQuizList(shortDtos);
-
-        // 3) MultipleChoiceQuiz (객관식) 5개
-        List<MultipleChoiceQuiz> multipleList = multipleChoiceQuizRepository.findRandomBySubject(
-            subject, PageRequest.of(0, 5));
-        // 각 객관식 문항에 대해 옵션을 조회한 뒤 DTO로 변환
-        List<MultipleChoiceQuizDto> multipleDtos = multipleList.stream().map(mEntity -> {
-            // 옵션 채워넣기
-            List<QuizOption> options = quizOptionRepository.findByQuizId(mEntity.getQuizId());
-            List<QuizOptionDto> optionDtos = QuizOptionDto.toDtoList(options);
-
-            MultipleChoiceQuizDto dto = MultipleChoiceQuizDto.toDto(mEntity);
-            dto.setQuizOptions(optionDtos);
-
-            return dto;
-        }).toList();
-        gameData.setMultipleChoiceQuizList(multipleDtos);
-
-        // (4) Redis 저장 (DTO 자체를)
-        // 아래는 예시로 CrudRepository<GameDataDto, Long>를 사용한다고 가정
-        // (직접 RedisTemplate을 쓸 수도 있음)
-        redisGameRepository.save(gameData);
-
-        // (5) 시작 이벤트 발행
+        // (3-3) 정답표는 시작할 때 한 번만 만든다
+        gameData.setAnswerKey(AnswerKey.compile(gameData));
+
+        // (4) 게임 상태 등록 (메모리 + Redis 스냅샷)
+        gameStateStore.create(gameData);
+
+        // (5) 시작 이벤트 (커밋된 뒤에 발행하고 타이머를 건다)
         EventMessage<List<GameMemberStatus>> eventMessage = new EventMessage<>(MessageType.START,
             roomId,
             gameMemberStatusList);
+        String jsonMessage;
         try {
-            String jsonMessage = objectMapper.writeValueAsString(eventMessage);
-            redisPublisher.publish("room:" + roomId, jsonMessage);
+            jsonMessage = objectMapper.writeValueAsString(eventMessage);
         } catch (JsonProcessingException e) {
             log.error("RedisRoom START 이벤트 직렬화 실패", e);
             throw new IllegalStateException("이벤트 메시지 생성 중 오류가 발생했습니다.");
         }
 
-        scheduler.schedule(() -> {
+        TransactionCallbacks.afterCommit(() -> {
+            // 이미 커밋됐으므로 발행이 실패해도 게임은 타이머로 진행한다
+            gameTimer.schedule(roomId, TimerKind.START_DELAY, () -> {
+                try {
+                    // 원하는 gameService의 메서드 호출
+                    gameService.startAutoGame(roomId);
+                } catch (Exception e) {
+                    log.error("게임 시작(3초 지연) 중 오류 발생 roomId={}", roomId, e);
+                }
+            }, 3, TimeUnit.SECONDS);
             try {
-                // 원하는 gameService의 메서드 호출
-                gameService.startAutoGame(roomId);
+                redisPublisher.publish("room:" + roomId, jsonMessage);
             } catch (Exception e) {
-                log.error("게임 시작(3초 지연) 중 오류 발생 roomId={}", roomId, e);
+                log.error("START 이벤트 발행 실패 roomId={}", roomId, e);
             }
-        }, 3, TimeUnit.SECONDS);
+        });
     }
 
     public PageResponse getRoomsByType(SubjectType subjectType, Integer page) {
+        if (lobbyIndexService.isEnabled()) {
+            return lobbyIndexService.page(subjectType, page, 20);
+        }
         PageRequest pageRequest = PageRequest.of(page - 1, 20);
 
         Page<Room> roomPage = roomRepository.findBySubjectTypeAndStatusOrderByUpdateAtDesc(
@@ -240,12 +229,32 @@ public class RoomService {
         // 3. updateAt 갱신
         room.setUpdateAt(now);
         roomRepository.save(room);
+        lobbyIndexService.touch(room);
         log.info("✅ 방 {}의 updateAt을 최신화함", roomId);
         return new RoomUpdateResponse(true, 0);
     }
 
+    /**
+     * 만들다 실패한 방 정리 (빠른 대전). DB 는 CLOSED 로 두고 타이머, 게임 상태, RedisRoom, 로비 인덱스를 지운다
+     */
+    @Transactional
+    public void abortRoom(Long roomId) {
+        gameTimer.release(roomId);
+        gameStateStore.remove(roomId);
+        redisRoomRepository.deleteById(roomId);
+        roomRepository.findById(roomId).ifPresent(room -> {
+            room.setStatus(RoomStatus.CLOSED);
+            roomRepository.save(room);
+            lobbyIndexService.remove(roomId, room.getSubjectType());
+        });
+        log.info("매칭 방 정리 roomId={}", roomId);
+    }
+
     // OPEN 상태의 방만 가져오기
     public PageResponse getOpenRooms(Integer page) {
+        if (lobbyIndexService.isEnabled()) {
+            return lobbyIndexService.page(null, page, 20);
+        }
         PageRequest pageRequest = PageRequest.of(page - 1, 20);
 
         Page<Room> roomPage = roomRepository.findByStatusOrderByUpdateAtDesc(RoomStatus.OPEN,
@@ -255,11 +264,11 @@ public class RoomService {
     }
 
     private PageResponse processPageResponse(Page<Room> roomPage) {
+        // 방 상태는 page 단위로 한 번에 읽는다 (방마다 findById 하지 않음)
+        Map<Long, RedisRoom> redisRooms = redisRoomBatchReader.findAllById(
+            roomPage.getContent().stream().map(Room::getRoomId).toList());
         List<RoomResponse> roomResponses = roomPage.getContent().stream()
-            .map(room -> {
-                RedisRoom redisRoom = redisRoomRepository.findById(room.getRoomId()).orElse(null);
-                return RoomResponse.fromEntity(room, redisRoom);
-            })
+            .map(room -> RoomResponse.fromEntity(room, redisRooms.get(room.getRoomId())))
             .toList();
 
         return new PageResponse(
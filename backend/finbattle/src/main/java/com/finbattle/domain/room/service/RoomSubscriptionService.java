@@ -14,11 +14,11 @@ import com.finbattle.domain.room.dto.RoomResponse;
 import com.finbattle.domain.room.dto.RoomStatus;
 import com.finbattle.domain.room.model.RedisRoom;
 import com.finbattle.domain.room.model.Room;
+import com.finbattle.domain.room.repository.RedisRoomMembershipRepository;
 import com.finbattle.domain.room.repository.RedisRoomRepository;
 import com.finbattle.domain.room.repository.RoomRepository;
 import com.finbattle.global.common.exception.exception.BusinessException;
 import com.finbattle.global.common.redis.RedisPublisher;
-import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -33,6 +33,8 @@ public class RoomSubscriptionService {
     private final ObjectMapper objectMapper = new ObjectMapper();
     private final MemberRepository memberRepository;
     private final RoomRepository roomRepository;
+    private final LobbyIndexService lobbyIndexService;
+    private final RedisRoomMembershipRepository redisRoomMembershipRepository;
 
     /**
      * 방을 생성하고 Redis에 저장 후 이벤트 발행
@@ -57,6 +59,7 @@ public class RoomSubscriptionService {
         redisRoom.getMembers().add(host);
 
         redisRoomRepository.save(redisRoom);
+        lobbyIndexService.updatePlayerCount(response.getRoomId(), redisRoom.getMembers().size());
 
         publishEvent(MessageType.CREATE, response.getRoomId(), redisRoom);
     }
@@ -74,36 +77,30 @@ public class RoomSubscriptionService {
      * 방 참가 처리 후 Redis 저장 및 이벤트 발행
      */
     public void joinRoom(Long roomId, Long userId) {
-        RedisRoom redisRoom = getRedisRoom(roomId);
+        Member m = memberRepository.findByMemberId(userId)
+            .orElseThrow(() -> new BusinessException(MEMBER_NOT_FOUND));
 
-        if (redisRoom.getStatus() != RoomStatus.OPEN) {
+        // 상태/정원/중복 검사와 추가를 Redis 에서 한 번에 처리 (동시 입장으로 정원 초과 방지)
+        long result = redisRoomMembershipRepository.join(roomId, userId, m.getNickname(),
+            m.getMainCat(), "UNREADY");
+        if (result == RedisRoomMembershipRepository.NOT_FOUND) {
+            publishEvent(MessageType.JOIN_FAIL, roomId, new FailResponse("방이 존재하지 않습니다."));
+            throw new IllegalStateException("방이 존재하지 않습니다.");
+        }
+        if (result == RedisRoomMembershipRepository.NOT_OPEN) {
             publishEvent(MessageType.JOIN_FAIL, roomId, new FailResponse("방이 닫혀있습니다."));
             throw new IllegalStateException("방에 입장할 수 없는 상태입니다.");
         }
-
-        if (redisRoom.getMembers().size() >= redisRoom.getMaxPeople()) {
+        if (result == RedisRoomMembershipRepository.FULL) {
             publishEvent(MessageType.JOIN_FAIL, roomId, new FailResponse("방 정원이 초과되었습니다."));
             throw new IllegalStateException("방 정원이 초과되었습니다.");
         }
-
-        boolean alreadyIn = redisRoom.getMembers().stream()
-            .anyMatch(m -> userId.equals(m.getMemberId()));
-        if (alreadyIn) {
+        if (result == RedisRoomMembershipRepository.ALREADY_JOINED) {
             publishEvent(MessageType.JOIN_FAIL, roomId, new FailResponse("이미 입장한 유저입니다."));
             throw new IllegalStateException("이미 방에 입장해 있습니다.");
         }
 
-        Member m = memberRepository.findByMemberId(userId)
-            .orElseThrow(() -> new BusinessException(MEMBER_NOT_FOUND));
-
-        RedisRoomMember member = new RedisRoomMember();
-        member.setMemberId(userId);
-        member.setNickname(m.getNickname());
-        member.setMainCat(m.getMainCat());
-        member.setStatus("UNREADY");
-        redisRoom.getMembers().add(member);
-
-        redisRoomRepository.save(redisRoom);
+        lobbyIndexService.updatePlayerCount(roomId, (int) result);
         publishEvent(MessageType.READY, roomId, userId);
     }
 
@@ -111,31 +108,30 @@ public class RoomSubscriptionService {
      * 방에서 유저 제거 후 Redis 저장 및 이벤트 발행
      */
     public void leaveRoom(Long roomId, Long userId) {
-        RedisRoom redisRoom = getRedisRoom(roomId);
-        if (redisRoom == null) {
+        long remaining = redisRoomMembershipRepository.leave(roomId, userId);
+        if (remaining == RedisRoomMembershipRepository.NOT_FOUND) {
             // ✅ MessageType.DELETE 사용
             publishEvent(MessageType.DELETED, roomId, null);
             return;
         }
+        if (remaining == RedisRoomMembershipRepository.NOT_MEMBER) {
+            log.info("유저 {}는 방 {}에 없습니다.", userId, roomId);
+            return;
+        }
 
-        // 1) 멤버 목록 수정
-        List<RedisRoomMember> members = redisRoom.getMembers();
-        members.removeIf(m -> m.getMemberId().equals(userId));
-
-        // 2) 방 인원이 0명이면 방 삭제
-        if (members.isEmpty()) {
+        // 방 인원이 0명이면 방 삭제
+        if (remaining == 0) {
             Room room = roomRepository.findById(roomId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 roomId의 room없음"));
             room.setStatus(RoomStatus.CLOSED);
             roomRepository.save(room);
+            lobbyIndexService.remove(roomId, room.getSubjectType());
             deleteRoom(roomId);
             return;
         }
 
-        // 3) Redis에 다시 저장
-        redisRoomRepository.save(redisRoom);
+        lobbyIndexService.updatePlayerCount(roomId, (int) remaining);
 
-        // 4) 이벤트 발행
         // ✅ MessageType.LEAVE 사용
         publishEvent(MessageType.LEAVE, roomId, userId);
     }
@@ -144,29 +140,24 @@ public class RoomSubscriptionService {
      * 유저 강퇴 처리 후 Redis 저장 및 이벤트 발행
      */
     public void kickUser(Long roomId, Long hostId, Long targetUserId) {
-        RedisRoom redisRoom = getRedisRoom(roomId);
-        if (redisRoom == null) {
+        long remaining = redisRoomMembershipRepository.kick(roomId, hostId, targetUserId);
+        if (remaining == RedisRoomMembershipRepository.NOT_FOUND) {
             // ✅ MessageType.KICK_FAIL 사용
             publishEvent(MessageType.KICK_FAIL, roomId, new FailResponse("방이 존재하지 않습니다."));
             throw new IllegalStateException("방이 존재하지 않습니다.");
         }
-
-        if (hostId != redisRoom.getHost().getMemberId()) {
+        if (remaining == RedisRoomMembershipRepository.NOT_HOST) {
             publishEvent(MessageType.KICK_FAIL, roomId,
                 new FailResponse("방장 권한을 가진 사람만 강퇴할 수 있습니다."));
             throw new IllegalStateException("방장 권한을 가진 사람만 강퇴할 수 있습니다.");
         }
-
-        List<RedisRoomMember> members = redisRoom.getMembers();
-        boolean removed = members.removeIf(m -> m.getMemberId().equals(targetUserId));
-        if (!removed) {
+        if (remaining == RedisRoomMembershipRepository.NOT_MEMBER) {
             // ✅ MessageType.KICK_FAIL 사용
             publishEvent(MessageType.KICK_FAIL, roomId, new FailResponse("유저가 존재하지 않습니다."));
             throw new IllegalStateException("해당 유저가 방에 없습니다.");
         }
 
-        // 기존 RoomContainer를 가져와서 members 갱신
-        redisRoomRepository.save(redisRoom);
+        lobbyIndexService.updatePlayerCount(roomId, (int) remaining);
 
         // ✅ MessageType.KICK 사용
         publishEvent(MessageType.KICK, roomId, targetUserId);
@@ -196,27 +187,16 @@ public class RoomSubscriptionService {
      * 유저 준비 상태 변경 후 Redis 저장 및 이벤트 발행
      */
     public void setUserReady(Long roomId, Long userId) {
-        RedisRoom redisRoom = getRedisRoom(roomId);
-        if (redisRoom == null) {
+        long result = redisRoomMembershipRepository.setStatus(roomId, userId, "READY");
+        if (result == RedisRoomMembershipRepository.NOT_FOUND) {
             throw new IllegalStateException("방이 존재하지 않습니다.");
         }
-
-        List<RedisRoomMember> members = redisRoom.getMembers();
-        RedisRoomMember member = members.stream()
-            .filter(m -> m.getMemberId().equals(userId))
-            .findFirst()
-            .orElse(null);
-        if (member == null) {
+        if (result == RedisRoomMembershipRepository.NOT_MEMBER) {
             throw new IllegalStateException("해당 유저는 방에 없습니다.");
         }
 
-        member.setStatus("READY");
-
-        // 변경된 멤버 목록을 다시 세팅
-        redisRoomRepository.save(redisRoom);
-
         // ✅ MessageType.READY 사용
-        publishEvent(MessageType.READY, roomId, redisRoom);
+        publishEvent(MessageType.READY, roomId, getRedisRoom(roomId));
     }
 
     /**
@@ -230,18 +210,14 @@ public class RoomSubscriptionService {
      * Redis에서 방 유저 준비 해제
      */
     public void setUserUnReady(Long roomId, Long userId) {
-        RedisRoom redisRoom = getRedisRoom(roomId);
-
-        List<RedisRoomMember> members = redisRoom.getMembers();
-        RedisRoomMember member = members.stream()
-            .filter(m -> userId.equals(m.getMemberId()))
-            .findFirst()
-            .orElseThrow(() -> new IllegalStateException("해당 유저는 방에 없습니다."));
+        long result = redisRoomMembershipRepository.setStatus(roomId, userId, "UNREADY");
+        if (result == RedisRoomMembershipRepository.NOT_FOUND
+            || result == RedisRoomMembershipRepository.NOT_MEMBER) {
+            throw new IllegalStateException("해당 유저는 방에 없습니다.");
+        }
 
-        if ("READY".equals(member.getStatus())) {
-            member.setStatus("UNREADY");
-            redisRoomRepository.save(redisRoom);
-            publishEvent(MessageType.UNREADY, roomId, redisRoom);
+        if (result == 1) {
+            publishEvent(MessageType.UNREADY, roomId, getRedisRoom(roomId));
             log.info("✅ 유저 {}의 상태를 UNREADY 로 변경", userId);
         } else {
             log.info("ℹ️ 유저 {}는 이미 UNREADY 상태입니다.", userId);
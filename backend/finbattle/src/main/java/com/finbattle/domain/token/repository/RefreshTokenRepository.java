@@ -2,7 +2,6 @@ package com.finbattle.domain.token.repository;
 
 import com.finbattle.domain.token.dto.TokenData;
 import java.util.Optional;
-import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -40,10 +39,4 @@ public class RefreshTokenRepository {
         redisTemplate.delete(KEY + memberId);
     }
 
-    public long countActiveUsers() {
-        return Optional.ofNullable(redisTemplate.keys("refresh_token:*"))
-            .map(Set::size)
-            .orElse(0);
-    }
-
 }
@@ -5,6 +5,7 @@ import com.finbattle.domain.token.repository.RefreshTokenRepository;
 import com.finbattle.global.common.Util.JWTUtil;
 import com.finbattle.global.common.exception.exception.BusinessException;
 import com.finbattle.global.common.model.dto.BaseResponseStatus;
+import com.finbattle.global.common.model.dto.JwtClaims;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -34,8 +35,8 @@ public class TokenService {
     }
 
     public String reissueAccessToken(String refreshToken) {
-        jwtUtil.validateRefreshToken(refreshToken);
-        Long memberId = jwtUtil.getRefreshMemberId(refreshToken);
+        JwtClaims claims = jwtUtil.parseRefreshToken(refreshToken);
+        Long memberId = claims.memberId();
 
         // 저장된 리프레시 토큰 조회
         TokenData tokenData = refreshTokenRepository.findByToken(memberId)
@@ -46,8 +47,7 @@ public class TokenService {
             throw new BusinessException(BaseResponseStatus.REFRESH_TOKEN_INVALID);
         }
 
-        String providerId = jwtUtil.getRefreshProviderId(refreshToken);
-        String accessToken = jwtUtil.createAccessToken(providerId, memberId);
+        String accessToken = jwtUtil.createAccessToken(claims.providerId(), memberId);
         log.info("Access Token refresh 성공!");
 
         return accessToken;
@@ -2,10 +2,17 @@ package com.finbattle.global.common.Util;
 
 import com.finbattle.global.common.exception.exception.BusinessException;
 import com.finbattle.global.common.model.dto.BaseResponseStatus;
+import com.finbattle.global.common.model.dto.JwtClaims;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import lombok.extern.slf4j.Slf4j;
@@ -18,34 +25,83 @@ public class JWTUtil {
 
     private SecretKey secretAccess;
     private SecretKey secretRefresh;
+    // JwtParser 는 불변이고 스레드 안전하므로 키마다 한 번만 만든다
+    private final JwtParser accessParser;
+    private final JwtParser refreshParser;
+    // 최근 검증한 access token -> claim. 만료 시각이 지나면 다시 쓰지 않는다
+    private final Map<String, JwtClaims> verifiedAccessTokens;
+    private final int verifiedCacheSize;
+    // 가득 찼을 때 정리는 한 스레드만 한다
+    private final ReentrantLock evictionLock = new ReentrantLock();
     @Value("${spring.jwt.access-token-validity}")
     private long accessTokenValidity;
     @Value("${spring.jwt.refresh-token-validity}")
     private long refreshTokenValidity;
 
     public JWTUtil(@Value("${spring.jwt.secret-access}") String access,
-        @Value("${spring.jwt.secret-refresh}") String refresh) {
+        @Value("${spring.jwt.secret-refresh}") String refresh,
+        @Value("${spring.jwt.verified-cache-size:10000}") int verifiedCacheSize) {
         secretAccess = new SecretKeySpec(access.getBytes(StandardCharsets.UTF_8),
             Jwts.SIG.HS256.key().build().getAlgorithm());
         secretRefresh = new SecretKeySpec(refresh.getBytes(StandardCharsets.UTF_8),
             Jwts.SIG.HS256.key().build().getAlgorithm());
+        accessParser = Jwts.parser().verifyWith(secretAccess).build();
+        refreshParser = Jwts.parser().verifyWith(secretRefresh).build();
+        this.verifiedCacheSize = verifiedCacheSize;
+        verifiedAccessTokens = verifiedCacheSize > 0 ? new ConcurrentHashMap<>() : null;
     }
 
 
     public Long getAccessMemberId(String token) {
-        return getMemberId(token, secretAccess);
+        return getMemberId(token, accessParser);
     }
 
     public String getAccessProviderId(String token) {
-        return getProviderId(token, secretAccess);
+        return getProviderId(token, accessParser);
     }
 
     public Long getRefreshMemberId(String token) {
-        return getMemberId(token, secretRefresh);
+        return getMemberId(token, refreshParser);
     }
 
     public String getRefreshProviderId(String token) {
-        return getProviderId(token, secretRefresh);
+        return getProviderId(token, refreshParser);
+    }
+
+    /**
+     * access token 검증과 claim 추출을 한 번에 수행
+     * <p>
+     * 최근 검증한 토큰은 만료 시각만 비교하고 서명 검증을 건너뛴다. 실패 시 예외는 validateAccessToken 과 같다.
+     */
+    public JwtClaims parseAccessToken(String token) {
+        if (verifiedAccessTokens == null) {
+            return parseToken(token, accessParser);
+        }
+        JwtClaims cached = verifiedAccessTokens.get(token);
+        if (cached != null) {
+            if (!cached.isExpired(System.currentTimeMillis())) {
+                return cached;
+            }
+            verifiedAccessTokens.remove(token);
+            throw new BusinessException(BaseResponseStatus.JWT_EXPIRED);
+        }
+        JwtClaims claims = parseToken(token, accessParser);
+        if (verifiedAccessTokens.size() >= verifiedCacheSize) {
+            evictVerifiedTokens();
+        }
+        verifiedAccessTokens.put(token, claims);
+        return claims;
+    }
+
+    /**
+     * refresh token 검증과 claim 추출을 한 번에 수행. 실패 시 예외는 validateRefreshToken 과 같다
+     */
+    public JwtClaims parseRefreshToken(String token) {
+        try {
+            return parseToken(token, refreshParser);
+        } catch (Exception e) {
+            throw new BusinessException(BaseResponseStatus.REFRESH_TOKEN_INVALID);
+        }
     }
 
 
@@ -70,39 +126,70 @@ public class JWTUtil {
     }
 
     public boolean validateAccessToken(String token) {
-        return validateToken(token, secretAccess);
+        return validateToken(token, accessParser);
     }
 
     public boolean validateRefreshToken(String token) {
         try {
-            return validateToken(token, secretRefresh);
+            return validateToken(token, refreshParser);
         } catch (Exception e) {
             throw new BusinessException(BaseResponseStatus.REFRESH_TOKEN_INVALID);
         }
     }
 
-    private Long getMemberId(String token, SecretKey secretkey) {
-        return Jwts.parser().verifyWith(secretkey).build()
-            .parseSignedClaims(token).getPayload()
+    private Long getMemberId(String token, JwtParser parser) {
+        return parser.parseSignedClaims(token).getPayload()
             .get("memberId", Long.class);
     }
 
-    private String getProviderId(String token, SecretKey secretkey) {
-        return Jwts.parser().verifyWith(secretkey).build()
-            .parseSignedClaims(token).getPayload()
+    private String getProviderId(String token, JwtParser parser) {
+        return parser.parseSignedClaims(token).getPayload()
             .get("providerId", String.class);
     }
 
+    private JwtClaims parseToken(String token, JwtParser parser) {
+        try {
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            Date expiration = claims.getExpiration();
+            return new JwtClaims(claims.get("memberId", Long.class),
+                claims.get("providerId", String.class),
+                expiration != null ? expiration.getTime() : Long.MAX_VALUE);
+        } catch (ExpiredJwtException e) {
+            throw new BusinessException(BaseResponseStatus.JWT_EXPIRED);
+        } catch (Exception e) {
+            throw new BusinessException(BaseResponseStatus.JWT_INVALID);
+        }
+    }
+
+    /*
+     * 만료된 토큰을 먼저 지우고, 그래도 가득 차 있으면 임의의 항목을 지워 90% 까지 줄인다. 읽기(get)는 잠그지 않으므로
+     * 요청 스레드끼리 캐시에서 줄을 서지 않는다. 지워진 토큰은 다음 요청에서 서명을 다시 검증할 뿐이다.
+     */
+    private void evictVerifiedTokens() {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            long now = System.currentTimeMillis();
+            verifiedAccessTokens.values().removeIf(claims -> claims.isExpired(now));
+            int target = verifiedCacheSize - Math.max(1, verifiedCacheSize / 10);
+            Iterator<String> iterator = verifiedAccessTokens.keySet().iterator();
+            while (verifiedAccessTokens.size() > target && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
 
     /**
      * JWT 전체 유효성 검증 (서명 & 만료 여부 확인)
      */
-    private boolean validateToken(String token, SecretKey secretKey) {
+    private boolean validateToken(String token, JwtParser parser) {
         try {
-            Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token);
+            parser.parseSignedClaims(token);
             return true;
         } catch (ExpiredJwtException e) {
             throw new BusinessException(BaseResponseStatus.JWT_EXPIRED);
@@ -110,4 +197,4 @@ public class JWTUtil {
             throw new BusinessException(BaseResponseStatus.JWT_INVALID);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,48 @@
+package com.finbattle.global.common.Util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * DB 트랜잭션 결과에 맞춰 Redis 등 트랜잭션 밖의 변경을 실행/되돌린다
+ * <p>
+ * 트랜잭션이 없으면 afterCommit 은 바로 실행하고 onRollback 은 등록하지 않는다.
+ */
+public final class TransactionCallbacks {
+
+    private TransactionCallbacks() {
+    }
+
+    /**
+     * 커밋된 뒤에 실행. 롤백되면 실행하지 않는다
+     */
+    public static void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    /**
+     * 롤백되면 실행 (이미 반영한 트랜잭션 밖의 변경을 되돌리는 용도)
+     */
+    public static void onRollback(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    task.run();
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,226 @@
+package com.finbattle.global.common.actor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 방 단위 actor 런타임
+ * <p>
+ * 방마다 mailbox 를 하나씩 두고, 같은 방으로 들어온 메시지(정답 제출, 타임아웃, 힌트, 다음 문제)는 들어온 순서대로 한 번에
+ * 하나씩만 실행된다. mailbox 자체는 스레드를 갖지 않고 고정 크기 carrier 풀 위에서 돌기 때문에 방이 수만 개여도 스레드
+ * 수는 늘어나지 않는다.
+ * <p>
+ * mailbox 는 게임 시작 시 {@link #open(Long)} 으로만 만들어진다. 열리지 않았거나 이미 {@link #release(Long)} 된 방으로
+ * 온 메시지(늦게 도착한 정답, 채점 결과, 스냅샷 요청, 임의의 roomId)는 버리고 카운트만 남긴다.
+ */
+@Slf4j
+@Component
+public class RoomActorSystem {
+
+    // 한 mailbox 가 carrier 를 잡고 연속으로 처리할 최대 메시지 수 (다른 방 기아 방지)
+    private static final int THROUGHPUT = 32;
+
+    private final ExecutorService carriers;
+    private final Map<Long, Mailbox> mailboxes = new ConcurrentHashMap<>();
+    private final AtomicInteger queuedMessages = new AtomicInteger();
+    private final Timer processingTimer;
+    private final Timer waitTimer;
+    private final Counter droppedCounter;
+
+    public RoomActorSystem(MeterRegistry meterRegistry,
+        @Value("${game.actor.carrier-threads:0}") int carrierThreads) {
+        int threads = carrierThreads > 0 ? carrierThreads
+            : Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.carriers = Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "room-actor-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("game.actor.mailbox.depth", queuedMessages, AtomicInteger::get)
+            .description("모든 방 mailbox 에 쌓인 메시지 수")
+            .register(meterRegistry);
+        Gauge.builder("game.actor.rooms", mailboxes, Map::size)
+            .description("mailbox 를 가진 방 수")
+            .register(meterRegistry);
+        this.processingTimer = Timer.builder("game.actor.message.processing")
+            .description("방 메시지 처리 시간")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        this.waitTimer = Timer.builder("game.actor.message.wait")
+            .description("방 메시지가 mailbox 에서 대기한 시간")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        this.droppedCounter = Counter.builder("game.actor.message.dropped")
+            .description("열린 mailbox 가 없어서 버린 방 메시지 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 게임 시작(또는 복구) 시 방 mailbox 생성. 이미 열려 있으면 그대로 둔다
+     */
+    public void open(Long roomId) {
+        mailboxes.compute(roomId, (id, current) -> {
+            if (current == null) {
+                return new Mailbox(id, null);
+            }
+            // release 대기 중인 mailbox 는 재사용하지 않고, 닫힌 뒤에 돌기 시작하는 새 mailbox 로 바꾼다
+            return current.releasing ? new Mailbox(id, current) : current;
+        });
+    }
+
+    public boolean isOpen(Long roomId) {
+        return mailboxes.containsKey(roomId);
+    }
+
+    /**
+     * 방 mailbox 에 메시지 추가. 호출 스레드는 기다리지 않는다
+     *
+     * @return 열린 mailbox 가 없어서 메시지를 버렸으면 false
+     */
+    public boolean tell(Long roomId, Runnable message) {
+        Mailbox mailbox = mailboxes.get(roomId);
+        if (mailbox == null || !mailbox.enqueue(new Envelope(message, System.nanoTime()))) {
+            droppedCounter.increment();
+            log.debug("열린 mailbox 가 없어 메시지를 버림 roomId={}", roomId);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 게임 종료 시 mailbox 제거. 앞서 들어온 메시지가 모두 처리된 뒤에 닫히고, 그 뒤로 들어온 메시지는 버린다
+     * <p>
+     * 닫힌 mailbox 는 더 이상 메시지를 실행하지 않으므로 같은 roomId 로 다시 open 해도 두 mailbox 가 동시에 돌지 않는다.
+     */
+    public void release(Long roomId) {
+        Mailbox mailbox = mailboxes.get(roomId);
+        if (mailbox == null || mailbox.releasing) {
+            return;
+        }
+        mailbox.releasing = true;
+        mailbox.enqueue(new Envelope(mailbox::close, System.nanoTime()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        carriers.shutdown();
+        try {
+            if (!carriers.awaitTermination(5, TimeUnit.SECONDS)) {
+                carriers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            carriers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Envelope(Runnable message, long enqueuedAt) {
+
+    }
+
+    private final class Mailbox implements Runnable {
+
+        private final Long roomId;
+        private final Queue<Envelope> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        // 이 mailbox 가 닫히기 전에 같은 방으로 다시 열린 mailbox. 앞의 것이 닫힐 때까지 실행을 미룬다
+        private volatile Mailbox predecessor;
+        private volatile Mailbox successor;
+        private volatile boolean releasing;
+        // release 메시지가 실행되면 true. 이후 메시지는 실행하지 않는다
+        private volatile boolean closed;
+
+        private Mailbox(Long roomId, Mailbox predecessor) {
+            this.roomId = roomId;
+            this.predecessor = predecessor;
+            if (predecessor != null) {
+                predecessor.successor = this;
+            }
+        }
+
+        private void close() {
+            closed = true;
+            mailboxes.remove(roomId, this);
+            Mailbox next = successor;
+            if (next != null) {
+                next.trySchedule();
+            }
+        }
+
+        private boolean enqueue(Envelope envelope) {
+            if (closed) {
+                return false;
+            }
+            queue.add(envelope);
+            queuedMessages.incrementAndGet();
+            trySchedule();
+            return true;
+        }
+
+        private void trySchedule() {
+            Mailbox previous = predecessor;
+            if (previous != null) {
+                if (!previous.closed) {
+                    return;
+                }
+                predecessor = null;
+            }
+            if (scheduled.compareAndSet(false, true)) {
+                carriers.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                for (int i = 0; i < THROUGHPUT; i++) {
+                    Envelope envelope = queue.poll();
+                    if (envelope == null) {
+                        break;
+                    }
+                    queuedMessages.decrementAndGet();
+                    if (closed) {
+                        // release 뒤에 들어온 메시지
+                        droppedCounter.increment();
+                        continue;
+                    }
+                    process(envelope);
+                }
+            } finally {
+                scheduled.set(false);
+                if (!queue.isEmpty()) {
+                    trySchedule();
+                }
+            }
+        }
+
+        private void process(Envelope envelope) {
+            long start = System.nanoTime();
+            waitTimer.record(start - envelope.enqueuedAt(), TimeUnit.NANOSECONDS);
+            try {
+                envelope.message().run();
+            } catch (Exception e) {
+                log.error("방 메시지 처리 실패 roomId={}", roomId, e);
+            } finally {
+                processingTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.finbattle.global.common.batch;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.TaskScheduler;
+
+/**
+ * 로그성 데이터를 모아 두었다가 한 번에 쓰는 버퍼
+ * <p>
+ * offer 는 큐에 넣기만 하고 바로 반환한다. batchSize 만큼 쌓이거나 flushInterval 이 지나면 공용 스케줄러에서 writer 로
+ * 묶어서 넘긴다. 용량을 넘거나 close 뒤에 들어온 항목은 버리고 dropped 로 센다 (요청 스레드를 막지 않는 것이 우선).
+ *
+ * @param <T> 저장할 항목
+ */
+@Slf4j
+public class WriteBehindBuffer<T> {
+
+    private final String name;
+    private final int capacity;
+    private final int batchSize;
+    private final Consumer<List<T>> writer;
+
+    private final Queue<T> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private volatile boolean closed;
+    private final TaskScheduler scheduler;
+    private final ScheduledFuture<?> flushTask;
+
+    private final Timer flushTimer;
+    private final DistributionSummary batchSizeSummary;
+    private final Counter droppedCounter;
+    private final Counter failedCounter;
+
+    public WriteBehindBuffer(String name, int capacity, int batchSize, long flushIntervalMs,
+        Consumer<List<T>> writer, TaskScheduler scheduler, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.writer = writer;
+        this.scheduler = scheduler;
+
+        Gauge.builder("writebehind.pending", size, AtomicInteger::get)
+            .tag("buffer", name)
+            .description("기록 대기 중인 항목 수")
+            .register(meterRegistry);
+        this.flushTimer = Timer.builder("writebehind.flush")
+            .tag("buffer", name)
+            .description("배치 기록 소요 시간")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("writebehind.batch.size")
+            .tag("buffer", name)
+            .description("한 번에 기록한 항목 수")
+            .register(meterRegistry);
+        this.droppedCounter = Counter.builder("writebehind.dropped")
+            .tag("buffer", name)
+            .description("버퍼가 가득 찼거나 닫힌 뒤 들어와 버린 항목 수")
+            .register(meterRegistry);
+        this.failedCounter = Counter.builder("writebehind.failed")
+            .tag("buffer", name)
+            .description("기록 실패로 잃은 항목 수")
+            .register(meterRegistry);
+
+        Duration flushInterval = Duration.ofMillis(flushIntervalMs);
+        this.flushTask = scheduler.scheduleWithFixedDelay(this::flushAll,
+            Instant.now().plus(flushInterval), flushInterval);
+    }
+
+    /**
+     * 버퍼에 추가. 가득 찼거나 이미 닫혔으면 false
+     */
+    public boolean offer(T item) {
+        if (closed) {
+            droppedCounter.increment();
+            return false;
+        }
+        if (size.incrementAndGet() > capacity) {
+            size.decrementAndGet();
+            droppedCounter.increment();
+            return false;
+        }
+        queue.add(item);
+        // close 의 마지막 flush 와 엇갈렸으면 아무도 기록하지 않으므로 되돌린다 (이미 기록됐으면 remove 가 false)
+        if (closed && queue.remove(item)) {
+            size.decrementAndGet();
+            droppedCounter.increment();
+            return false;
+        }
+        if (size.get() >= batchSize && flushRequested.compareAndSet(false, true)) {
+            requestFlush();
+        }
+        return true;
+    }
+
+    /**
+     * 종료 시 남은 항목을 모두 기록. 이후 offer 는 버린다
+     */
+    public void close() {
+        closed = true;
+        flushTask.cancel(false);
+        flushAll();
+    }
+
+    private void requestFlush() {
+        try {
+            scheduler.schedule(() -> {
+                flushRequested.set(false);
+                flushAll();
+            }, Instant.now());
+        } catch (TaskRejectedException e) {
+            // 스케줄러가 종료 중이면 남은 항목은 close 에서 기록한다
+            flushRequested.set(false);
+            log.debug("[{}] flush 예약 거절: {}", name, e.getMessage());
+        }
+    }
+
+    private synchronized void flushAll() {
+        while (!queue.isEmpty()) {
+            List<T> batch = new ArrayList<>(Math.min(batchSize, size.get()));
+            T item;
+            while (batch.size() < batchSize && (item = queue.poll()) != null) {
+                batch.add(item);
+            }
+            size.addAndGet(-batch.size());
+            if (batch.isEmpty()) {
+                return;
+            }
+            write(batch);
+        }
+    }
+
+    private void write(List<T> batch) {
+        long start = System.nanoTime();
+        try {
+            writer.accept(batch);
+            batchSizeSummary.record(batch.size());
+        } catch (Exception e) {
+            log.error("[{}] 배치 기록 실패 ({}건)", name, batch.size(), e);
+            failedCounter.increment(batch.size());
+        } finally {
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
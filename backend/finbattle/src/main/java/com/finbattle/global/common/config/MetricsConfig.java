@@ -1,8 +1,9 @@
 package com.finbattle.global.common.config;
 
-import com.finbattle.domain.token.repository.RefreshTokenRepository;
 import com.finbattle.global.common.metrics.ActiveUsersMetrics;
 import com.finbattle.global.common.metrics.CacheMetrics;
+import com.finbattle.global.common.metrics.WebSocketMetrics;
+import com.finbattle.global.common.presence.PresenceService;
 import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -19,7 +20,12 @@ public class MetricsConfig {
 
     @Bean
     public ActiveUsersMetrics activeUserGauge(MeterRegistry meterRegistry,
-        RefreshTokenRepository refreshTokenRepository) {
-        return new ActiveUsersMetrics(meterRegistry, refreshTokenRepository);
+        PresenceService presenceService) {
+        return new ActiveUsersMetrics(meterRegistry, presenceService);
+    }
+
+    @Bean
+    public WebSocketMetrics webSocketMetrics(MeterRegistry meterRegistry) {
+        return new WebSocketMetrics(meterRegistry);
     }
 }
@@ -6,13 +6,18 @@ import com.fasterxml.jackson.annotation.PropertyAccessor;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
 import com.finbattle.global.common.redis.RedisChatSubscriber;
+import com.finbattle.global.common.redis.RedisGameCommandSubscriber;
 import com.finbattle.global.common.redis.RedisGameSubscriber;
+import com.finbattle.global.common.redis.RedisLobbySubscriber;
+import com.finbattle.global.common.redis.RedisMatchSubscriber;
 import com.finbattle.global.common.redis.RedisRoomSubscriber;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.PatternTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
@@ -55,14 +60,32 @@ public class RedisConfig {
         RedisConnectionFactory connectionFactory,
         RedisChatSubscriber chatSubscriber,
         RedisGameSubscriber gameSubscriber,
-        RedisRoomSubscriber roomSubscriber
+        RedisRoomSubscriber roomSubscriber,
+        RedisLobbySubscriber lobbySubscriber,
+        RedisMatchSubscriber matchSubscriber,
+        RedisGameCommandSubscriber gameCommandSubscriber,
+        @Value("${game.node-id}") String nodeId,
+        @Value("${redis.pubsub.mode:dynamic}") String pubSubMode,
+        @Value("${websocket.broker.mode:simple}") String brokerMode
     ) {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(connectionFactory);
 
-        container.addMessageListener(chatSubscriber, new PatternTopic("chat:*"));
-        container.addMessageListener(gameSubscriber, new PatternTopic("game:*"));
-        container.addMessageListener(roomSubscriber, new PatternTopic("room:*"));
+        // dynamic 모드에서는 방 채널을 RedisChannelSubscriptionManager 가 STOMP 구독에 맞춰 붙였다 뗀다
+        // 외부 broker 모드에서는 방 이벤트가 Redis 를 거치지 않는다
+        if ("pattern".equalsIgnoreCase(pubSubMode) && !"relay".equalsIgnoreCase(brokerMode)) {
+            container.addMessageListener(chatSubscriber, new PatternTopic("chat:*"));
+            container.addMessageListener(gameSubscriber, new PatternTopic("game:*"));
+            container.addMessageListener(roomSubscriber, new PatternTopic("room:*"));
+            container.addMessageListener(lobbySubscriber, new PatternTopic("lobby:*"));
+        }
+        // 매칭 결과는 사용자가 어느 노드에 접속해 있든 받을 수 있도록 모든 노드가 구독
+        if (!"relay".equalsIgnoreCase(brokerMode)) {
+            container.addMessageListener(matchSubscriber,
+                new ChannelTopic(RedisMatchSubscriber.CHANNEL));
+        }
+        // 이 노드가 소유한 방으로 넘어오는 게임 명령
+        container.addMessageListener(gameCommandSubscriber, new ChannelTopic("game-node:" + nodeId));
 
         return container;
     }
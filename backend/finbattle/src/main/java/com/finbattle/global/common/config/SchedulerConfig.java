@@ -0,0 +1,30 @@
+package com.finbattle.global.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * 주기 작업(스냅샷 flush, presence heartbeat, 로비 이벤트, write-behind 버퍼)과 문제 덱 채우기가 함께 쓰는 스케줄러
+ * <p>
+ * 컴포넌트마다 단일 스레드 executor 를 만들지 않고 이 풀 하나를 공유한다. 게임 루프의 지연 작업은 GameTimer 를 쓴다.
+ */
+@Configuration
+public class SchedulerConfig {
+
+    public static final String BACKGROUND_SCHEDULER = "backgroundScheduler";
+
+    @Bean(name = BACKGROUND_SCHEDULER)
+    public ThreadPoolTaskScheduler backgroundScheduler(
+        @Value("${scheduler.background.pool-size:4}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("background-");
+        scheduler.setDaemon(true);
+        // 종료 시 각 컴포넌트가 남은 작업을 직접 flush 하므로 대기 중인 주기 작업은 기다리지 않는다
+        scheduler.setWaitForTasksToCompleteOnShutdown(false);
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+}
@@ -1,32 +1,110 @@
 package com.finbattle.global.common.config;
 
+import com.finbattle.global.common.handler.BrokerRelayHeaderInterceptor;
 import com.finbattle.global.common.handler.StompHandler;
 import com.finbattle.global.common.handler.WebSocketHandshakeInterceptor;
+import com.finbattle.global.common.metrics.WebSocketMetrics;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.config.StompBrokerRelayRegistration;
+import org.springframework.messaging.support.MessageHandlingRunnable;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.messaging.context.SecurityContextChannelInterceptor;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
 
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    // 대기열이 가득 차도 버리지 않는 세션/구독 수명주기 프레임 (각각 세션당 한 번이라 양이 적다)
+    private static final Set<SimpMessageType> LIFECYCLE_FRAMES = EnumSet.of(
+        SimpMessageType.CONNECT, SimpMessageType.CONNECT_ACK, SimpMessageType.DISCONNECT,
+        SimpMessageType.DISCONNECT_ACK, SimpMessageType.SUBSCRIBE, SimpMessageType.UNSUBSCRIBE);
+
     private final StompHandler stompHandler;
     private final WebSocketHandshakeInterceptor webSocketHandshakeInterceptor;
+    private final WebSocketMetrics webSocketMetrics;
+
+    // simple: JVM 내장 broker (기본값) | relay: 외부 STOMP broker(ActiveMQ, Artemis 등)로 중계
+    @Value("${websocket.broker.mode:simple}")
+    private String brokerMode;
+    @Value("${websocket.broker.relay.host:localhost}")
+    private String relayHost;
+    @Value("${websocket.broker.relay.port:61613}")
+    private int relayPort;
+    @Value("${websocket.broker.relay.login:guest}")
+    private String relayLogin;
+    @Value("${websocket.broker.relay.passcode:guest}")
+    private String relayPasscode;
+    @Value("${websocket.broker.relay.virtual-host:}")
+    private String relayVirtualHost;
+
+    // STOMP 채널 실행기 크기
+    @Value("${websocket.channel.inbound.core-pool-size:8}")
+    private int inboundCorePoolSize;
+    @Value("${websocket.channel.inbound.max-pool-size:32}")
+    private int inboundMaxPoolSize;
+    @Value("${websocket.channel.inbound.queue-capacity:10000}")
+    private int inboundQueueCapacity;
+    @Value("${websocket.channel.outbound.core-pool-size:8}")
+    private int outboundCorePoolSize;
+    @Value("${websocket.channel.outbound.max-pool-size:32}")
+    private int outboundMaxPoolSize;
+    @Value("${websocket.channel.outbound.queue-capacity:10000}")
+    private int outboundQueueCapacity;
+
+    // 느린 클라이언트 제한. 넘으면 Spring 이 세션을 닫는다
+    @Value("${websocket.transport.send-buffer-size-limit-kb:512}")
+    private int sendBufferSizeLimitKb;
+    @Value("${websocket.transport.send-time-limit-ms:15000}")
+    private int sendTimeLimitMs;
+    // 답안, 채팅 프레임은 몇 KB 를 넘지 않는다 (Spring 기본값 64KB 보다 작게)
+    @Value("${websocket.transport.message-size-limit-kb:16}")
+    private int messageSizeLimitKb;
 
     public WebSocketConfig(StompHandler stompHandler,
-        WebSocketHandshakeInterceptor webSocketHandshakeInterceptor) {
+        WebSocketHandshakeInterceptor webSocketHandshakeInterceptor,
+        WebSocketMetrics webSocketMetrics) {
         this.stompHandler = stompHandler;
         this.webSocketHandshakeInterceptor = webSocketHandshakeInterceptor;
+        this.webSocketMetrics = webSocketMetrics;
     }
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
         // 클라이언트가 구독할 때 사용할 prefix
-        registry.enableSimpleBroker("/topic", "/queue");
+        if ("relay".equalsIgnoreCase(brokerMode)) {
+            StompBrokerRelayRegistration relay = registry.enableStompBrokerRelay("/topic", "/queue")
+                .setRelayHost(relayHost)
+                .setRelayPort(relayPort)
+                .setClientLogin(relayLogin)
+                .setClientPasscode(relayPasscode)
+                .setSystemLogin(relayLogin)
+                .setSystemPasscode(relayPasscode)
+                // 다른 노드에 접속한 사용자에게 보내는 /user 메시지도 broker 를 통해 전달
+                .setUserDestinationBroadcast("/topic/unresolved-user")
+                .setUserRegistryBroadcast("/topic/simp-user-registry");
+            if (!relayVirtualHost.isBlank()) {
+                relay.setVirtualHost(relayVirtualHost);
+            }
+            registry.configureBrokerChannel().interceptors(new BrokerRelayHeaderInterceptor());
+        } else {
+            registry.enableSimpleBroker("/topic", "/queue");
+        }
         // 클라이언트가 메시지 보낼 때 사용할 prefix
         registry.setApplicationDestinationPrefixes("/app");
     }
@@ -43,7 +121,75 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor(channelExecutor("inbound", inboundCorePoolSize,
+            inboundMaxPoolSize, inboundQueueCapacity));
         registration.interceptors(new SecurityContextChannelInterceptor());
         registration.interceptors(stompHandler);
     }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor(channelExecutor("outbound", outboundCorePoolSize,
+            outboundMaxPoolSize, outboundQueueCapacity));
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendBufferSizeLimit(sendBufferSizeLimitKb * 1024)
+            .setSendTimeLimit(sendTimeLimitMs)
+            .setMessageSizeLimit(messageSizeLimitKb * 1024)
+            .addDecoratorFactory(this::countNotReliableCloses);
+    }
+
+    /*
+     * 대기열이 가득 차면 메시지를 버리고 센다. 호출한 스레드(WebSocket 수신/브로커 스레드)에서 대신 처리하면 그 스레드를
+     * 쓰는 다른 세션까지 함께 멈추기 때문이다. 거절은 채널 send 의 예외로 올라가서 Spring 이 로그를 남긴다.
+     *
+     * 버려질 수 있는 것은 SEND(답안, 채팅), 서버가 보내는 MESSAGE, HEARTBEAT 뿐이다. CONNECT/DISCONNECT 와
+     * SUBSCRIBE/UNSUBSCRIBE 는 잃으면 presence, 구독 수, broker 세션이 어긋나므로 거절하지 않고 호출한 스레드에서 처리한다.
+     */
+    ThreadPoolTaskExecutor channelExecutor(String channel, int corePoolSize,
+        int maxPoolSize, int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("client-" + channel + "-");
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setKeepAliveSeconds(60);
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            if (isLifecycleFrame(task) && !pool.isShutdown()) {
+                task.run();
+                return;
+            }
+            webSocketMetrics.channelRejected(channel);
+            throw new RejectedExecutionException("STOMP " + channel + " 채널 대기열 초과");
+        });
+        webSocketMetrics.bindChannelExecutor(channel, executor);
+        return executor;
+    }
+
+    private static boolean isLifecycleFrame(Runnable task) {
+        if (!(task instanceof MessageHandlingRunnable handling)) {
+            return false;
+        }
+        SimpMessageType type = SimpMessageHeaderAccessor.getMessageType(
+            handling.getMessage().getHeaders());
+        return type != null && LIFECYCLE_FRAMES.contains(type);
+    }
+
+    /*
+     * 전송 버퍼나 전송 시간 제한을 넘긴 세션은 Spring 이 SESSION_NOT_RELIABLE 로 닫는다. 그 수를 센다.
+     */
+    private WebSocketHandler countNotReliableCloses(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus)
+                throws Exception {
+                if (closeStatus.getCode() == CloseStatus.SESSION_NOT_RELIABLE.getCode()) {
+                    webSocketMetrics.sessionNotReliable();
+                }
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
 }
@@ -3,6 +3,7 @@ package com.finbattle.global.common.filter;
 import com.finbattle.domain.member.dto.AuthenticUser;
 import com.finbattle.domain.oauth.dto.AuthenticatedUser;
 import com.finbattle.global.common.Util.JWTUtil;
+import com.finbattle.global.common.model.dto.JwtClaims;
 import com.finbattle.global.common.model.enums.PublicEndpoint;
 import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.FilterChain;
@@ -38,9 +39,8 @@ public class JWTFilter extends OncePerRequestFilter {
 //        log.info("✅ requestUri: {} | startsWith 결과: {}", requestUri, !matchedPatterns.isEmpty());
 //        log.info("✅ 매칭된 패턴들: {}", matchedPatterns);
 
-        // ✅ `matches()`를 사용하여 정확한 패턴 매칭 수행
-        return PublicEndpoint.getAll().stream()
-            .anyMatch(pattern -> requestUri.matches(pattern.replace("**", ".*")));
+        // ✅ 시작 시 만들어 둔 공개 경로 목록으로 매칭 (요청마다 정규식을 만들지 않음)
+        return PublicEndpoint.matches(requestUri);
 
     }
 
@@ -53,9 +53,8 @@ public class JWTFilter extends OncePerRequestFilter {
                 log.warn("JWT가 없습니다.");
                 request.setAttribute("exception", "JWT_MISSING");  // JWT 자체가 없는 경우 추가
             } else {
-                if (jwtUtil.validateAccessToken(accessToken)) {
-                    authenticateUser(accessToken);
-                }
+                // 서명 검증과 claim 추출을 한 번에
+                authenticateUser(jwtUtil.parseAccessToken(accessToken));
             }
         } catch (ExpiredJwtException e) {
             log.warn("Expired JWT Token: {}", e.getMessage());
@@ -78,14 +77,10 @@ public class JWTFilter extends OncePerRequestFilter {
         return null;
     }
 
-    private void authenticateUser(String token) {
-        // JWT 토큰에서 사용자 정보 추출
-        String providerId = jwtUtil.getAccessProviderId(token);
-        Long memberId = jwtUtil.getAccessMemberId(token);
-
+    private void authenticateUser(JwtClaims claims) {
         AuthenticUser memberDto = AuthenticUser.builder()
-            .providerId(providerId)
-            .memberId(memberId)
+            .providerId(claims.providerId())
+            .memberId(claims.memberId())
             .build();
 
         // Spring Security 인증 객체 생성 및 설정
@@ -0,0 +1,35 @@
+package com.finbattle.global.common.handler;
+
+import java.util.List;
+import java.util.Map;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.NativeMessageHeaderAccessor;
+
+/**
+ * relay 모드 broker 채널에서 broker 가 붙인 라우팅 헤더를 지운다
+ * <p>
+ * 다른 노드 사용자에게 가는 /user 메시지는 /topic/unresolved-user 로 받은 메시지의 헤더를 그대로 복사해
+ * /queue/{name}-user{sessionId} 로 다시 보낸다. Artemis 는 받은 메시지에 destination-type=MULTICAST 를 붙이고 SEND 의
+ * 이 헤더를 prefix 보다 우선하므로, 지우지 않으면 anycast 큐를 구독한 사용자에게 도착하지 않는다.
+ */
+public class BrokerRelayHeaderInterceptor implements ChannelInterceptor {
+
+    static final String DESTINATION_TYPE = "destination-type";
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        @SuppressWarnings("unchecked")
+        Map<String, List<String>> nativeHeaders = (Map<String, List<String>>) message.getHeaders()
+            .get(NativeMessageHeaderAccessor.NATIVE_HEADERS);
+        if (nativeHeaders == null || !nativeHeaders.containsKey(DESTINATION_TYPE)) {
+            return message;
+        }
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        accessor.removeNativeHeader(DESTINATION_TYPE);
+        return MessageBuilder.createMessage(message.getPayload(), accessor.getMessageHeaders());
+    }
+}
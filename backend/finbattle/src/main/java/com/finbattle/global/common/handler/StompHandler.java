@@ -2,6 +2,8 @@ package com.finbattle.global.common.handler;
 
 import com.finbattle.domain.chat.model.StompPrincipal;
 import com.finbattle.global.common.Util.JWTUtil;
+import com.finbattle.global.common.model.dto.JwtClaims;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.Message;
@@ -10,15 +12,26 @@ import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.messaging.support.MessageHeaderAccessor;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
+/**
+ * STOMP 인증
+ * <p>
+ * CONNECT 에서만 JWT 서명을 검증하고 accessor.setUser 로 사용자를 넣는다. Spring 은 CONNECT 에서 정한 사용자를 세션에
+ * 묶어 이후 프레임의 simpUser 헤더로 넣어 주므로, SEND 는 세션 속성에 저장한 토큰 만료 시각만 비교한다. 사용자가 없는
+ * 프레임은 기존처럼 Authorization 헤더를 검증한다.
+ * <p>
+ * SecurityContextHolder 는 건드리지 않는다. preSend 는 WebSocket 수신 스레드에서 돌고 @MessageMapping 은 inbound 실행기
+ * 스레드에서 돌아서 ThreadLocal 로는 전달되지 않고, 지우지 않으면 수신 스레드에 남는다. @AuthenticationPrincipal
+ * StompPrincipal 인자는 simpUser 헤더에서 채워진다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class StompHandler implements ChannelInterceptor {
 
+    private static final String EXPIRES_AT_ATTR = "stomp.expiresAt";
+
     private final JWTUtil jwtUtil;
 
     @Override
@@ -27,35 +40,50 @@ public class StompHandler implements ChannelInterceptor {
         StompHeaderAccessor accessor = MessageHeaderAccessor
             .getAccessor(message, StompHeaderAccessor.class);
 
-        // CONNECT 또는 SEND 명령일 경우에만 처리
-        if (StompCommand.CONNECT.equals(accessor.getCommand()) ||
-            StompCommand.SEND.equals(accessor.getCommand())) {
-
-            String authHeader = accessor.getFirstNativeHeader("Authorization");
-
-            if (authHeader != null && authHeader.startsWith("Bearer ")) {
-                String token = authHeader.substring(7); // "Bearer " 제거
-                try {
-                    // JWT 검증 및 사용자 정보 추출
-                    Long memberId = jwtUtil.getAccessMemberId(token);
-                    String providerId = jwtUtil.getAccessProviderId(token);
-
-                    // 인증 객체 생성 후 SecurityContext에 저장
-                    StompPrincipal stompPrincipal = new StompPrincipal(memberId);
-                    UsernamePasswordAuthenticationToken authToken =
-                        new UsernamePasswordAuthenticationToken(stompPrincipal, null,
-                            null);
-                    SecurityContextHolder.getContext().setAuthentication(authToken);
-                    accessor.setUser(stompPrincipal);
-
-                } catch (Exception e) {
-                    throw new IllegalArgumentException(
-                        "Invalid WebSocket token: " + e.getMessage());
-                }
+        if (StompCommand.CONNECT.equals(accessor.getCommand())) {
+            Authenticated authenticated = verify(accessor);
+            Map<String, Object> attributes = accessor.getSessionAttributes();
+            if (attributes != null) {
+                attributes.put(EXPIRES_AT_ATTR, authenticated.expiresAt());
+            }
+            accessor.setUser(authenticated.principal());
+        } else if (StompCommand.SEND.equals(accessor.getCommand())) {
+            if (accessor.getUser() instanceof StompPrincipal) {
+                checkNotExpired(accessor);
             } else {
-                throw new IllegalArgumentException("Missing or invalid Authorization header");
+                accessor.setUser(verify(accessor).principal());
             }
         }
         return message;
     }
+
+    /**
+     * CONNECT 때 검증한 토큰이 만료됐으면 거부한다
+     */
+    private void checkNotExpired(StompHeaderAccessor accessor) {
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        if (attributes != null && attributes.get(EXPIRES_AT_ATTR) instanceof Long expiresAt
+            && expiresAt <= System.currentTimeMillis()) {
+            throw new IllegalArgumentException("Invalid WebSocket token: expired");
+        }
+    }
+
+    private Authenticated verify(StompHeaderAccessor accessor) {
+        String authHeader = accessor.getFirstNativeHeader("Authorization");
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            throw new IllegalArgumentException("Missing or invalid Authorization header");
+        }
+        String token = authHeader.substring(7); // "Bearer " 제거
+        try {
+            // JWT 검증 및 사용자 정보 추출 (서명 검증 1회)
+            JwtClaims claims = jwtUtil.parseAccessToken(token);
+            return new Authenticated(new StompPrincipal(claims.memberId()), claims.expiresAt());
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Invalid WebSocket token: " + e.getMessage());
+        }
+    }
+
+    private record Authenticated(StompPrincipal principal, long expiresAt) {
+
+    }
 }
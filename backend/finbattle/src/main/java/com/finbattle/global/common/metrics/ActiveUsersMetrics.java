@@ -1,6 +1,6 @@
 package com.finbattle.global.common.metrics;
 
-import com.finbattle.domain.token.repository.RefreshTokenRepository;
+import com.finbattle.global.common.presence.PresenceService;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 
@@ -8,11 +8,10 @@ public class ActiveUsersMetrics {
 
     private final Gauge activeUsersGauge;
 
-    public ActiveUsersMetrics(MeterRegistry meterRegistry,
-        RefreshTokenRepository refreshTokenRepository) {
+    public ActiveUsersMetrics(MeterRegistry meterRegistry, PresenceService presenceService) {
         this.activeUsersGauge = Gauge.builder("current_active_users",
-                refreshTokenRepository,
-                r -> r.countActiveUsers() // 실제 Gauge 값
+                presenceService,
+                PresenceService::getActiveUserCount // heartbeat 때 갱신한 값 (scrape 시 Redis 호출 없음)
             )
             .description("현재 동시 접속자 수")
             .register(meterRegistry);
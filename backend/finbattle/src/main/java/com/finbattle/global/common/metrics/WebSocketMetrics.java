@@ -0,0 +1,49 @@
+package com.finbattle.global.common.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+public class WebSocketMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final Counter notReliableSessions;
+
+    public WebSocketMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.notReliableSessions = Counter.builder("websocket.session.not_reliable")
+            .description("전송 버퍼/시간 제한을 넘겨 SESSION_NOT_RELIABLE 로 닫힌 세션 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * STOMP 채널 실행기(clientInbound, clientOutbound) 상태
+     */
+    public void bindChannelExecutor(String channel, ThreadPoolTaskExecutor executor) {
+        Gauge.builder("websocket.channel.queue.depth", executor,
+                ThreadPoolTaskExecutor::getQueueSize)
+            .tag("channel", channel)
+            .description("채널 실행기 대기열 길이")
+            .register(meterRegistry);
+        Gauge.builder("websocket.channel.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+            .tag("channel", channel)
+            .description("채널 실행기에서 처리 중인 스레드 수")
+            .register(meterRegistry);
+        Gauge.builder("websocket.channel.pool.size", executor, ThreadPoolTaskExecutor::getPoolSize)
+            .tag("channel", channel)
+            .description("채널 실행기 스레드 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 대기열이 가득 차 버린 메시지
+     */
+    public void channelRejected(String channel) {
+        meterRegistry.counter("websocket.channel.rejected", "channel", channel).increment();
+    }
+
+    public void sessionNotReliable() {
+        notReliableSessions.increment();
+    }
+}
@@ -0,0 +1,13 @@
+package com.finbattle.global.common.model.dto;
+
+/**
+ * 서명 검증을 마친 JWT 의 claim
+ *
+ * @param expiresAt 만료 시각 (epoch ms)
+ */
+public record JwtClaims(Long memberId, String providerId, long expiresAt) {
+
+    public boolean isExpired(long now) {
+        return expiresAt <= now;
+    }
+}
@@ -1,6 +1,9 @@
 package com.finbattle.global.common.model.enums;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -25,9 +28,40 @@ public enum PublicEndpoint {
     ACTUATOR("/actuator/**"),
     WEBSOCKET("/ws/firechat");
 
+    private static final String WILDCARD = "**";
+    private static final List<String> ALL = Arrays.stream(values())
+        .map(PublicEndpoint::getUrl)
+        .toList();
+    // 요청마다 정규식을 만들지 않도록 시작 시 정확히 일치하는 경로와 접두사(** 앞부분)로 나눠 둔다
+    private static final Set<String> EXACT_PATHS = ALL.stream()
+        .filter(url -> !url.endsWith(WILDCARD))
+        .collect(Collectors.toUnmodifiableSet());
+    private static final String[] PREFIXES = ALL.stream()
+        .filter(url -> url.endsWith(WILDCARD))
+        .map(url -> url.substring(0, url.length() - WILDCARD.length()))
+        .toArray(String[]::new);
+
     private final String url;
 
     public static List<String> getAll() {
-        return List.of(values()).stream().map(PublicEndpoint::getUrl).toList();
+        return ALL;
+    }
+
+    /**
+     * 인증 없이 허용되는 경로인지 확인. 패턴의 ** 는 경로 끝에만 오며 그 뒤 어떤 문자열과도 일치한다
+     */
+    public static boolean matches(String requestUri) {
+        if (requestUri == null) {
+            return false;
+        }
+        if (EXACT_PATHS.contains(requestUri)) {
+            return true;
+        }
+        for (String prefix : PREFIXES) {
+            if (requestUri.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
     }
 }
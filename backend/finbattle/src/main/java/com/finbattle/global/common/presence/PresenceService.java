@@ -0,0 +1,292 @@
+package com.finbattle.global.common.presence;
+
+import com.finbattle.global.common.config.SchedulerConfig;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.security.Principal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+/**
+ * WebSocket 접속 기준 접속자 집계
+ * <p>
+ * 노드는 자기 STOMP 세션을 메모리에 들고 있고, heartbeat 주기마다 접속 중인 사용자를 presence:users, 방을 보고 있는
+ * 사용자를 presence:room:{roomId} sorted set 에 (score = 마지막 heartbeat 시각) 한 번에 기록한다. 항목은
+ * {memberId}:{nodeId} 라서 한 노드의 연결 해제가 다른 노드에 접속 중인 같은 사용자를 지우지 않는다.
+ * <p>
+ * 접속자 수는 score 가 ttl 안에 있는 항목만 사용자별로 한 번 센다. 그래서 죽은 노드의 항목은 지워지기 전에도 ttl 이 지나면
+ * 세지 않는다. ttl 이 지난 항목은 그 키를 기록하는 노드의 heartbeat 가 지우고, 방 키에는 ttl 만큼 만료 시간을 걸어서
+ * 죽은 노드만 기록하던 방도 사라진다.
+ * <p>
+ * 전체 접속자 수는 heartbeat 때 읽어 캐시해 두고, 메트릭 scrape 는 Redis 를 호출하지 않는다. 구독 해제와 연결 해제 때
+ * 같은 사용자가 남아 있는지는 사용자별 세션 수, (사용자, 방)별 구독 수로 바로 판단한다.
+ */
+@Slf4j
+@Component
+public class PresenceService {
+
+    private static final String USERS_KEY = "presence:users";
+    private static final String ROOM_KEY = "presence:room:";
+    private static final String ROOM_DESTINATION = "/topic/room/";
+
+    // ttl 안에 기록된 항목의 사용자 수 ({memberId}:{nodeId} 에서 memberId 기준으로 중복 제거)
+    private static final RedisScript<Long> COUNT = new DefaultRedisScript<>(
+        "local entries = redis.call('ZRANGEBYSCORE', KEYS[1], ARGV[1], '+inf') "
+            + "local seen = {} "
+            + "local count = 0 "
+            + "for _, entry in ipairs(entries) do "
+            + "  local member = string.match(entry, '^([^:]+):') "
+            + "  if member and not seen[member] then "
+            + "    seen[member] = true "
+            + "    count = count + 1 "
+            + "  end "
+            + "end "
+            + "return count",
+        Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final String nodeId;
+    private final long ttlMs;
+    private final ScheduledFuture<?> heartbeat;
+
+    // 이 노드의 STOMP 세션
+    private final Map<String, LocalSession> sessions = new ConcurrentHashMap<>();
+    // heartbeat 로 기록한 방. 사용자가 모두 빠지면 정리한다
+    private final Set<Long> trackedRooms = ConcurrentHashMap.newKeySet();
+    // memberId -> 이 노드의 세션 수
+    private final Map<Long, Integer> sessionCounts = new ConcurrentHashMap<>();
+    // (memberId, roomId) -> 이 노드에서 그 방을 구독 중인 수
+    private final Map<RoomWatch, Integer> watchCounts = new ConcurrentHashMap<>();
+    private volatile long activeUsers;
+
+    public PresenceService(StringRedisTemplate stringRedisTemplate, MeterRegistry meterRegistry,
+        @Qualifier(SchedulerConfig.BACKGROUND_SCHEDULER) TaskScheduler scheduler,
+        @Value("${game.node-id}") String nodeId,
+        @Value("${presence.heartbeat-ms:15000}") long heartbeatMs,
+        @Value("${presence.ttl-ms:45000}") long ttlMs) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.nodeId = nodeId;
+        this.ttlMs = ttlMs;
+
+        Gauge.builder("presence.sessions.local", sessions, Map::size)
+            .description("이 노드의 WebSocket 세션 수")
+            .register(meterRegistry);
+
+        Duration interval = Duration.ofMillis(heartbeatMs);
+        this.heartbeat = scheduler.scheduleWithFixedDelay(this::heartbeat,
+            Instant.now().plus(interval), interval);
+    }
+
+    /**
+     * 클러스터 전체 접속자 수 (마지막 heartbeat 기준)
+     */
+    public long getActiveUserCount() {
+        return activeUsers;
+    }
+
+    /**
+     * 방을 보고 있는 접속자 수 (ttl 안에 기록된 사용자)
+     */
+    public long countOnline(Long roomId) {
+        return count(ROOM_KEY + roomId, System.currentTimeMillis());
+    }
+
+    @EventListener
+    public void onConnected(SessionConnectedEvent event) {
+        Long memberId = memberIdOf(event.getUser());
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(event.getMessage().getHeaders());
+        if (memberId == null || sessionId == null) {
+            return;
+        }
+        if (sessions.putIfAbsent(sessionId, new LocalSession(memberId)) == null) {
+            increment(sessionCounts, memberId);
+        }
+        touch(USERS_KEY, memberId);
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        LocalSession session = sessions.get(accessor.getSessionId());
+        Long roomId = roomIdOf(accessor.getDestination());
+        if (session == null || roomId == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        Long previous = session.rooms().put(accessor.getSubscriptionId(), roomId);
+        if (previous != null) {
+            decrement(watchCounts, new RoomWatch(session.memberId(), previous));
+        }
+        increment(watchCounts, new RoomWatch(session.memberId(), roomId));
+        trackedRooms.add(roomId);
+        touch(ROOM_KEY + roomId, session.memberId());
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        LocalSession session = sessions.get(accessor.getSessionId());
+        if (session == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        Long roomId = session.rooms().remove(accessor.getSubscriptionId());
+        if (roomId != null && decrement(watchCounts, new RoomWatch(session.memberId(), roomId))) {
+            leave(ROOM_KEY + roomId, session.memberId());
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        LocalSession session = sessions.remove(event.getSessionId());
+        if (session == null) {
+            return;
+        }
+        for (Long roomId : session.rooms().values()) {
+            if (decrement(watchCounts, new RoomWatch(session.memberId(), roomId))) {
+                leave(ROOM_KEY + roomId, session.memberId());
+            }
+        }
+        // 같은 사용자가 이 노드에 다른 세션으로 남아 있으면 유지
+        if (decrement(sessionCounts, session.memberId())) {
+            leave(USERS_KEY, session.memberId());
+        }
+    }
+
+    private void heartbeat() {
+        long now = System.currentTimeMillis();
+        Set<String> members = new HashSet<>();
+        Map<Long, Set<String>> roomMembers = new HashMap<>();
+        for (LocalSession session : sessions.values()) {
+            String member = entry(session.memberId());
+            members.add(member);
+            for (Long roomId : session.rooms().values()) {
+                roomMembers.computeIfAbsent(roomId, id -> new HashSet<>()).add(member);
+            }
+        }
+        Set<Long> rooms = Set.copyOf(trackedRooms);
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection redis = (StringRedisConnection) connection;
+                for (String member : members) {
+                    redis.zAdd(USERS_KEY, now, member);
+                }
+                redis.zRemRangeByScore(USERS_KEY, 0, now - ttlMs);
+                roomMembers.forEach((roomId, ids) -> {
+                    ids.forEach(member -> redis.zAdd(ROOM_KEY + roomId, now, member));
+                    redis.pExpire(ROOM_KEY + roomId, ttlMs);
+                });
+                for (Long roomId : rooms) {
+                    redis.zRemRangeByScore(ROOM_KEY + roomId, 0, now - ttlMs);
+                }
+                return null;
+            });
+            activeUsers = count(USERS_KEY, now);
+        } catch (Exception e) {
+            log.warn("접속자 heartbeat 기록 실패: {}", e.getMessage());
+        }
+        // 이 노드에서 더 이상 보고 있지 않은 방은 다음 주기부터 정리 대상에서 뺀다
+        trackedRooms.retainAll(roomMembers.keySet());
+    }
+
+    private static <K> void increment(Map<K, Integer> counts, K key) {
+        counts.merge(key, 1, Integer::sum);
+    }
+
+    /**
+     * 1 줄이고, 0 이 되어 지웠으면 true
+     */
+    private static <K> boolean decrement(Map<K, Integer> counts, K key) {
+        return counts.computeIfPresent(key, (k, count) -> count > 1 ? count - 1 : null) == null;
+    }
+
+    private void touch(String key, Long memberId) {
+        try {
+            stringRedisTemplate.opsForZSet()
+                .add(key, entry(memberId), System.currentTimeMillis());
+            if (key.startsWith(ROOM_KEY)) {
+                stringRedisTemplate.expire(key, Duration.ofMillis(ttlMs));
+            }
+        } catch (Exception e) {
+            log.warn("접속 기록 실패 key={}: {}", key, e.getMessage());
+        }
+    }
+
+    private void leave(String key, Long memberId) {
+        try {
+            // 이 노드의 항목만 지운다. 다른 노드에 남은 연결은 그 노드가 계속 기록한다
+            stringRedisTemplate.opsForZSet().remove(key, entry(memberId));
+        } catch (Exception e) {
+            log.warn("접속 해제 기록 실패 key={}: {}", key, e.getMessage());
+        }
+    }
+
+    private long count(String key, long now) {
+        Long count = stringRedisTemplate.execute(COUNT, List.of(key), "(" + (now - ttlMs));
+        return count != null ? count : 0;
+    }
+
+    private String entry(Long memberId) {
+        return memberId + ":" + nodeId;
+    }
+
+    private static Long memberIdOf(Principal user) {
+        if (user == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(user.getName());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static Long roomIdOf(String destination) {
+        if (destination == null || !destination.startsWith(ROOM_DESTINATION)) {
+            return null;
+        }
+        try {
+            return Long.valueOf(destination.substring(ROOM_DESTINATION.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeat.cancel(false);
+    }
+
+    private record RoomWatch(Long memberId, Long roomId) {
+
+    }
+
+    private record LocalSession(Long memberId, Map<String, Long> rooms) {
+
+        private LocalSession(Long memberId) {
+            this(memberId, new ConcurrentHashMap<>());
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.finbattle.global.common.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게임 이벤트 발행. game.events.transport 설정에 따라 pub/sub(game:{roomId}) 또는 Redis Stream 으로 보낸다
+ */
+@Component
+@RequiredArgsConstructor
+public class GameEventPublisher {
+
+    private final RedisPublisher redisPublisher;
+    private final RedisGameEventStream gameEventStream;
+
+    public void publish(Long roomId, byte[] payload) {
+        if (gameEventStream.isEnabled()) {
+            gameEventStream.append(roomId, payload);
+            return;
+        }
+        redisPublisher.publishRaw("game:" + roomId, payload);
+    }
+
+    /**
+     * 게임 종료 시 호출. stream 은 재전송 보관 기간이 지나면 지워진다
+     */
+    public void close(Long roomId) {
+        if (gameEventStream.isEnabled()) {
+            gameEventStream.expire(roomId);
+        }
+    }
+}
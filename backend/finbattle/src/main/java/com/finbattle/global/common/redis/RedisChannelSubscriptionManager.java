@@ -0,0 +1,308 @@
+package com.finbattle.global.common.redis;
+
+import com.finbattle.domain.quiz.model.SubjectType;
+import com.finbattle.domain.room.service.LobbyEventPublisher;
+import com.finbattle.global.common.config.SchedulerConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+/**
+ * 이 노드에 STOMP 구독자가 있는 방의 Redis 채널만 구독
+ * <p>
+ * /topic/game/{roomId}, /topic/chat/{roomId}, /topic/room/{roomId}, /topic/lobby/{subjectType} 첫 구독이
+ * 들어오면 game:{roomId} 등의 채널을 구독하고, 마지막 구독이 빠지면(UNSUBSCRIBE, 연결 종료) 해제한다.
+ * 패턴 구독(game:* 등)과 달리 다른 노드에만 접속한 방의 이벤트는 받지 않는다.
+ * <p>
+ * 방 id 는 숫자, 로비는 SubjectType 이름 또는 ALL 만 받는다. 그 밖의 destination 과 세션당 구독 한도를 넘는 구독은 Redis
+ * 채널을 만들지 않고 redis.pubsub.subscribe.rejected 로 센다. Redis 구독/해제는 채널별 lock 안에서 하고,
+ * ConcurrentHashMap 갱신 함수 안에서는 하지 않는다.
+ * <p>
+ * redis.pubsub.mode=pattern 이면 기존처럼 RedisConfig 에서 패턴으로 구독한다. game.events.transport=stream 이면 게임
+ * 이벤트는 채널 대신 방 stream 을 읽도록 RedisGameEventStream 에 알린다.
+ */
+@Slf4j
+@Component
+public class RedisChannelSubscriptionManager {
+
+    private static final String GAME_PREFIX = "game:";
+    private static final Pattern NUMERIC_ID = Pattern.compile("\\d{1,18}");
+    private static final Set<String> LOBBY_IDS = Stream.concat(
+            Arrays.stream(SubjectType.values()).map(Enum::name),
+            Stream.of(LobbyEventPublisher.ALL))
+        .collect(Collectors.toUnmodifiableSet());
+
+    private final RedisMessageListenerContainer container;
+    private final RedisGameEventStream gameEventStream;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final boolean dynamic;
+    private final boolean brokerRelay;
+    private final List<Route> routes;
+    private final int maxPerSession;
+    private final Counter invalidCounter;
+    private final Counter limitCounter;
+    private final ScheduledFuture<?> totalChannelsRefresh;
+
+    // Redis 채널별 로컬 STOMP 구독 수
+    private final Map<String, ChannelRef> channelRefs = new ConcurrentHashMap<>();
+    // sessionId -> (subscriptionId -> Redis 채널)
+    private final Map<String, Map<String, String>> sessionSubscriptions = new ConcurrentHashMap<>();
+    // PUBSUB CHANNELS 는 전체 채널을 훑으므로 scrape 마다 부르지 않고 주기적으로 읽어 둔다
+    private volatile double totalChannels = Double.NaN;
+
+    public RedisChannelSubscriptionManager(RedisMessageListenerContainer container,
+        StringRedisTemplate stringRedisTemplate, MeterRegistry meterRegistry,
+        RedisGameSubscriber gameSubscriber, RedisChatSubscriber chatSubscriber,
+        RedisRoomSubscriber roomSubscriber, RedisLobbySubscriber lobbySubscriber,
+        RedisGameEventStream gameEventStream,
+        @Qualifier(SchedulerConfig.BACKGROUND_SCHEDULER) TaskScheduler scheduler,
+        @Value("${redis.pubsub.mode:dynamic}") String mode,
+        @Value("${websocket.broker.mode:simple}") String brokerMode,
+        @Value("${redis.pubsub.max-subscriptions-per-session:32}") int maxPerSession,
+        @Value("${redis.pubsub.total-channels-refresh-ms:60000}") long totalChannelsRefreshMs) {
+        this.container = container;
+        this.gameEventStream = gameEventStream;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.dynamic = !"pattern".equalsIgnoreCase(mode);
+        this.brokerRelay = "relay".equalsIgnoreCase(brokerMode);
+        this.maxPerSession = maxPerSession;
+        Predicate<String> roomId = id -> NUMERIC_ID.matcher(id).matches();
+        this.routes = List.of(
+            new Route("/topic/game/", GAME_PREFIX, gameSubscriber, roomId),
+            new Route("/topic/chat/", "chat:", chatSubscriber, roomId),
+            new Route("/topic/room/", "room:", roomSubscriber, roomId),
+            new Route("/topic/lobby/", "lobby:", lobbySubscriber, LOBBY_IDS::contains));
+
+        Gauge.builder("redis.pubsub.channels.local", channelRefs, Map::size)
+            .description("이 노드가 구독 중인 방 채널 수")
+            .register(meterRegistry);
+        Gauge.builder("redis.pubsub.channels.total", this, manager -> manager.totalChannels)
+            .description("Redis 전체에서 구독자가 있는 채널 수 (주기적으로 갱신)")
+            .register(meterRegistry);
+        this.invalidCounter = Counter.builder("redis.pubsub.subscribe.rejected")
+            .tag("reason", "invalid")
+            .description("Redis 채널을 만들지 않은 STOMP 구독 수")
+            .register(meterRegistry);
+        this.limitCounter = Counter.builder("redis.pubsub.subscribe.rejected")
+            .tag("reason", "limit")
+            .description("Redis 채널을 만들지 않은 STOMP 구독 수")
+            .register(meterRegistry);
+
+        Duration refresh = Duration.ofMillis(totalChannelsRefreshMs);
+        this.totalChannelsRefresh = scheduler.scheduleWithFixedDelay(
+            () -> totalChannels = countAllChannels(), Instant.now().plus(refresh), refresh);
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        // 외부 broker 모드에서는 발행한 노드가 broker 로 바로 보내므로 방 채널을 구독하지 않는다
+        if (brokerRelay) {
+            return;
+        }
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        String destination = accessor.getDestination();
+        Route route = routeOf(destination);
+        if (route == null || accessor.getSessionId() == null
+            || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        String id = destination.substring(route.destinationPrefix().length());
+        if (!route.validId().test(id)) {
+            log.debug("허용하지 않는 구독 destination: {}", destination);
+            invalidCounter.increment();
+            return;
+        }
+        String channel = route.channelPrefix() + id;
+        // pattern 모드에서도 stream 으로 받는 게임 이벤트는 여기서 관리한다
+        if (!dynamic && !isStreamChannel(channel)) {
+            return;
+        }
+        Map<String, String> subscriptions = sessionSubscriptions
+            .computeIfAbsent(accessor.getSessionId(), sessionId -> new ConcurrentHashMap<>());
+        // STOMP inbound 는 세션별로 순서대로 처리되므로 한도 검사와 put 사이에 같은 세션의 구독이 끼어들지 않는다
+        if (!subscriptions.containsKey(accessor.getSubscriptionId())
+            && subscriptions.size() >= maxPerSession) {
+            log.warn("세션 구독 한도 초과 sessionId={}, destination={}", accessor.getSessionId(),
+                destination);
+            limitCounter.increment();
+            return;
+        }
+        String previous = subscriptions.put(accessor.getSubscriptionId(), channel);
+        if (previous != null) {
+            release(previous);
+        }
+        try {
+            acquire(channel);
+        } catch (RuntimeException e) {
+            subscriptions.remove(accessor.getSubscriptionId(), channel);
+            log.warn("Redis 채널 구독 실패 {}: {}", channel, e.getMessage());
+        }
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        Map<String, String> subscriptions = sessionSubscriptions.get(accessor.getSessionId());
+        if (subscriptions == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        String channel = subscriptions.remove(accessor.getSubscriptionId());
+        if (channel != null) {
+            release(channel);
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Map<String, String> subscriptions = sessionSubscriptions.remove(event.getSessionId());
+        if (subscriptions != null) {
+            subscriptions.values().forEach(this::release);
+        }
+    }
+
+    /*
+     * 첫 구독이면 Redis 채널을 구독한다. 해제 중인 항목을 만나면 해제가 끝나고 맵에서 빠진 뒤 새 항목으로 다시 시도하므로,
+     * 같은 채널의 구독과 해제 순서가 뒤바뀌지 않는다.
+     */
+    private void acquire(String channel) {
+        while (true) {
+            ChannelRef ref = channelRefs.computeIfAbsent(channel, key -> new ChannelRef());
+            synchronized (ref) {
+                if (ref.removed) {
+                    continue;
+                }
+                if (ref.count == 0) {
+                    try {
+                        subscribe(channel);
+                    } catch (RuntimeException e) {
+                        ref.removed = true;
+                        channelRefs.remove(channel, ref);
+                        throw e;
+                    }
+                }
+                ref.count++;
+                return;
+            }
+        }
+    }
+
+    private void release(String channel) {
+        ChannelRef ref = channelRefs.get(channel);
+        if (ref == null) {
+            return;
+        }
+        synchronized (ref) {
+            if (ref.removed || --ref.count > 0) {
+                return;
+            }
+            ref.removed = true;
+            try {
+                unsubscribe(channel);
+            } catch (RuntimeException e) {
+                log.warn("Redis 채널 구독 해제 실패 {}: {}", channel, e.getMessage());
+            } finally {
+                channelRefs.remove(channel, ref);
+            }
+        }
+    }
+
+    private void subscribe(String channel) {
+        if (isStreamChannel(channel)) {
+            gameEventStream.watch(Long.valueOf(channel.substring(GAME_PREFIX.length())));
+        } else {
+            container.addMessageListener(listenerOf(channel), new ChannelTopic(channel));
+        }
+        log.debug("Redis 채널 구독: {}", channel);
+    }
+
+    private void unsubscribe(String channel) {
+        if (isStreamChannel(channel)) {
+            gameEventStream.unwatch(Long.valueOf(channel.substring(GAME_PREFIX.length())));
+        } else {
+            container.removeMessageListener(listenerOf(channel), new ChannelTopic(channel));
+        }
+        log.debug("Redis 채널 구독 해제: {}", channel);
+    }
+
+    private Route routeOf(String destination) {
+        if (destination == null) {
+            return null;
+        }
+        for (Route route : routes) {
+            String prefix = route.destinationPrefix();
+            if (destination.startsWith(prefix) && destination.length() > prefix.length()) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    // stream 전송 모드에서는 게임 이벤트를 pub/sub 대신 Redis Stream 에서 읽는다
+    private boolean isStreamChannel(String channel) {
+        return gameEventStream.isEnabled() && channel.startsWith(GAME_PREFIX);
+    }
+
+    private MessageListener listenerOf(String channel) {
+        for (Route route : routes) {
+            if (channel.startsWith(route.channelPrefix())) {
+                return route.listener();
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 채널: " + channel);
+    }
+
+    private double countAllChannels() {
+        try {
+            Object channels = stringRedisTemplate.execute((RedisCallback<Object>) connection ->
+                connection.execute("PUBSUB", "CHANNELS".getBytes()));
+            return channels instanceof List<?> list ? list.size() : Double.NaN;
+        } catch (Exception e) {
+            return Double.NaN;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        totalChannelsRefresh.cancel(false);
+    }
+
+    private record Route(String destinationPrefix, String channelPrefix, MessageListener listener,
+                         Predicate<String> validId) {
+
+    }
+
+    // 채널별 구독 수. removed 는 구독 해제가 끝나 맵에서 빠지는 항목
+    private static final class ChannelRef {
+
+        private int count;
+        private boolean removed;
+    }
+}
@@ -0,0 +1,38 @@
+package com.finbattle.global.common.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finbattle.domain.game.dto.GameCommand;
+import com.finbattle.domain.game.service.GameService;
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다른 노드가 이 노드 소유의 방으로 넘겨준 게임 명령(정답 제출)을 받아 처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisGameCommandSubscriber implements MessageListener {
+
+    private final ObjectMapper objectMapper;
+    private final GameService gameService;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            String msgBody = new String(message.getBody(), StandardCharsets.UTF_8);
+            if (msgBody.startsWith("\"") && msgBody.endsWith("\"")) {
+                msgBody = objectMapper.readValue(msgBody, String.class);
+            }
+            GameCommand command = objectMapper.readValue(msgBody, GameCommand.class);
+            gameService.checkQuizAnswer(command.getRoomId(), command.getUserAnswer(),
+                command.getMemberId());
+        } catch (Exception e) {
+            log.error("❌ RedisGameCommandSubscriber: 게임 명령 처리 중 오류 발생", e);
+        }
+    }
+}
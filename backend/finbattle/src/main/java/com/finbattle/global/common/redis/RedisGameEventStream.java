@@ -0,0 +1,256 @@
+package com.finbattle.global.common.redis;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * 방 단위 Redis Stream(game:stream:{roomId}) 으로 게임 이벤트를 주고받는 전송 방식
+ * <p>
+ * 노드마다 자기 nodeId 로 consumer group 을 만들어서, 이 노드에 /topic/game/{roomId} 구독자가 있는 방의 stream 만
+ * 읽어 전달한다. 각 이벤트에는 stream id 를 event-id 헤더로 붙이고, 재접속한 클라이언트는 마지막으로 받은 id 이후의
+ * 이벤트를 /user/queue/game/{roomId} 로 다시 받을 수 있다. stream 은 MAXLEN 으로 길이를 제한한다.
+ * <p>
+ * XADD 할 때마다 idle-ttl 로 만료 시간을 다시 걸어서, 종료 처리 없이 멈춘 게임의 stream 도 이벤트가 끊기면 지워진다.
+ * 게임이 정상 종료되면 {@link #expire} 가 더 짧은 보관 기간으로 덮어쓴다. 재전송은 방 멤버만 요청할 수 있다
+ * (GameController).
+ */
+@Slf4j
+@Component
+public class RedisGameEventStream {
+
+    public static final String EVENT_ID_HEADER = "event-id";
+
+    private static final String STREAM_KEY = "game:stream:";
+    private static final byte[] FIELD = "e".getBytes(StandardCharsets.UTF_8);
+    private static final int READ_COUNT = 100;
+    private static final int MAX_REPLAY = 200;
+
+    // XADD MAXLEN ~ 와 EXPIRE 를 한 번에. 반환값은 stream id
+    private static final RedisScript<String> APPEND = new DefaultRedisScript<>(
+        "local id = redis.call('XADD', KEYS[1], 'MAXLEN', '~', ARGV[1], '*', 'e', ARGV[2]) "
+            + "redis.call('EXPIRE', KEYS[1], ARGV[3]) "
+            + "return id",
+        String.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final boolean enabled;
+    private final boolean brokerRelay;
+    private final String group;
+    private final byte[] maxLen;
+    private final byte[] idleTtlSeconds;
+    private final long retentionSeconds;
+    private final long blockMs;
+
+    // 이 노드에서 읽고 있는 방
+    private final Set<Long> watchedRooms = ConcurrentHashMap.newKeySet();
+    private volatile boolean running;
+    private Thread relayThread;
+
+    public RedisGameEventStream(StringRedisTemplate stringRedisTemplate,
+        SimpMessagingTemplate messagingTemplate,
+        @Value("${game.events.transport:pubsub}") String transport,
+        @Value("${game.node-id}") String nodeId,
+        @Value("${game.events.stream.max-len:500}") long maxLen,
+        @Value("${game.events.stream.retention-sec:600}") long retentionSeconds,
+        @Value("${game.events.stream.idle-ttl-sec:3600}") long idleTtlSeconds,
+        @Value("${game.events.stream.block-ms:1000}") long blockMs,
+        @Value("${websocket.broker.mode:simple}") String brokerMode) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.messagingTemplate = messagingTemplate;
+        this.enabled = "stream".equalsIgnoreCase(transport);
+        this.group = "node:" + nodeId;
+        this.maxLen = bytes(maxLen);
+        this.idleTtlSeconds = bytes(idleTtlSeconds);
+        this.retentionSeconds = retentionSeconds;
+        this.blockMs = blockMs;
+        this.brokerRelay = "relay".equalsIgnoreCase(brokerMode);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @PostConstruct
+    public void start() {
+        // 외부 broker 를 쓰면 발행한 노드가 바로 전달하므로 stream 을 읽을 필요가 없다
+        if (!enabled || brokerRelay) {
+            return;
+        }
+        running = true;
+        relayThread = new Thread(this::relayLoop, "game-event-stream");
+        relayThread.setDaemon(true);
+        relayThread.start();
+    }
+
+    /**
+     * 이벤트 추가 (XADD MAXLEN ~, EXPIRE idle-ttl)
+     */
+    public RecordId append(Long roomId, byte[] payload) {
+        String id = stringRedisTemplate.execute(APPEND, RedisSerializer.byteArray(),
+            RedisSerializer.string(), List.of(STREAM_KEY + roomId), maxLen, payload,
+            idleTtlSeconds);
+        if (id == null) {
+            return null;
+        }
+        if (brokerRelay) {
+            send("/topic/game/" + roomId, id, payload);
+        }
+        return RecordId.of(id);
+    }
+
+    /**
+     * 게임 종료 후 재접속 재전송을 위해 잠시 남겨두었다가 만료
+     */
+    public void expire(Long roomId) {
+        stringRedisTemplate.expire(STREAM_KEY + roomId, Duration.ofSeconds(retentionSeconds));
+    }
+
+    /**
+     * 로컬 구독자가 생긴 방. 지금부터 발행되는 이벤트를 읽는다
+     */
+    public void watch(Long roomId) {
+        byte[] key = streamKey(roomId);
+        try {
+            stringRedisTemplate.execute((RedisCallback<String>) connection ->
+                connection.streamCommands().xGroupCreate(key, group, ReadOffset.latest(), true));
+        } catch (Exception e) {
+            // BUSYGROUP: 이미 있는 group 은 마지막으로 읽은 위치부터 이어서 읽는다
+            log.debug("consumer group 이미 존재 roomId={}: {}", roomId, e.getMessage());
+        }
+        watchedRooms.add(roomId);
+    }
+
+    public void unwatch(Long roomId) {
+        watchedRooms.remove(roomId);
+    }
+
+    /**
+     * lastEventId 이후 이벤트를 요청한 사용자에게만 다시 보낸다
+     */
+    public void replay(Long roomId, String lastEventId, String user) {
+        Range<String> range = lastEventId == null || lastEventId.isBlank()
+            ? Range.unbounded()
+            : Range.of(Range.Bound.exclusive(lastEventId), Range.Bound.unbounded());
+        byte[] key = streamKey(roomId);
+        List<ByteRecord> records = stringRedisTemplate.execute(
+            (RedisCallback<List<ByteRecord>>) connection -> connection.streamCommands()
+                .xRange(key, range, Limit.limit().count(MAX_REPLAY)));
+        if (records == null) {
+            return;
+        }
+        String destination = "/user/" + user + "/queue/game/" + roomId;
+        for (ByteRecord record : records) {
+            send(destination, record);
+        }
+    }
+
+    private void relayLoop() {
+        String consumer = group;
+        while (running) {
+            try {
+                if (watchedRooms.isEmpty()) {
+                    Thread.sleep(blockMs);
+                    continue;
+                }
+                StreamOffset<byte[]>[] offsets = watchedRooms.stream()
+                    .map(roomId -> StreamOffset.create(streamKey(roomId),
+                        ReadOffset.lastConsumed()))
+                    .toArray(StreamOffset[]::new);
+                List<ByteRecord> records = stringRedisTemplate.execute(
+                    (RedisCallback<List<ByteRecord>>) connection -> connection.streamCommands()
+                        .xReadGroup(Consumer.from(group, consumer),
+                            StreamReadOptions.empty().count(READ_COUNT)
+                                .block(Duration.ofMillis(blockMs)).noack(),
+                            offsets));
+                if (records == null) {
+                    continue;
+                }
+                for (ByteRecord record : records) {
+                    String stream = new String(record.getStream(), StandardCharsets.UTF_8);
+                    send("/topic/game/" + stream.substring(STREAM_KEY.length()), record);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                if (running) {
+                    log.warn("게임 이벤트 stream 읽기 실패: {}", e.getMessage());
+                    sleepQuietly();
+                }
+            }
+        }
+    }
+
+    private void send(String destination, ByteRecord record) {
+        // Map<byte[], byte[]> 라서 get 으로는 찾을 수 없다
+        record.getValue().entrySet().stream()
+            .filter(entry -> Arrays.equals(entry.getKey(), FIELD))
+            .map(Map.Entry::getValue)
+            .findFirst()
+            .ifPresent(payload -> send(destination, record.getId().getValue(), payload));
+    }
+
+    private void send(String destination, String eventId, byte[] payload) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(
+            SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setNativeHeader(EVENT_ID_HEADER, eventId);
+        accessor.setLeaveMutable(true);
+        MessageHeaders headers = accessor.getMessageHeaders();
+        messagingTemplate.send(destination, MessageBuilder.createMessage(payload, headers));
+    }
+
+    private void sleepQuietly() {
+        try {
+            Thread.sleep(blockMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static byte[] bytes(long value) {
+        return String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] streamKey(Long roomId) {
+        return (STREAM_KEY + roomId).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (relayThread != null) {
+            relayThread.interrupt();
+        }
+    }
+}
@@ -1,23 +1,29 @@
 package com.finbattle.global.common.redis;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.type.TypeFactory;
-import com.finbattle.domain.game.dto.EventMessage;
-import com.finbattle.domain.game.dto.EventType;
-import com.finbattle.domain.game.dto.GameMemberStatus;
 import java.nio.charset.StandardCharsets;
-import java.util.List;
-import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.connection.Message;
 import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
 
+/**
+ * game:{roomId} 채널의 이벤트를 /topic/game/{roomId} 로 그대로 전달
+ * <p>
+ * 발행 쪽에서 EventMessage 를 JSON 바이트로 한 번만 직렬화하므로 여기서는 파싱하지 않는다. roomId 는 채널 이름에서 얻는다.
+ */
 @Slf4j
 @Component
 public class RedisGameSubscriber implements MessageListener {
 
+    private static final String CHANNEL_PREFIX = "game:";
+
     private final ObjectMapper objectMapper;
     private final SimpMessagingTemplate messagingTemplate; // WebSocket 전송용
 
@@ -29,53 +35,29 @@ public class RedisGameSubscriber implements MessageListener {
     @Override
     public void onMessage(Message message, byte[] pattern) {
         try {
-            String msgBody = new String(message.getBody(), StandardCharsets.UTF_8);
-            //log.info("✅ Redis Pub/Sub 메시지 수신: Channel={}, Message={}", new String(pattern), msgBody);
+            String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+            String roomId = channel.substring(CHANNEL_PREFIX.length());
+            byte[] body = message.getBody();
 
-            if (msgBody.startsWith("\"") && msgBody.endsWith("\"")) {
-                msgBody = objectMapper.readValue(msgBody, String.class); // JSON 문자열 → 실제 JSON
+            // 이전 방식(serializer 로 한 번 더 감싼 JSON 문자열)으로 발행된 메시지는 한 번만 풀어준다
+            if (body.length > 0 && body[0] == '"') {
+                body = objectMapper.readValue(body, String.class).getBytes(StandardCharsets.UTF_8);
             }
 
-            var rootNode = objectMapper.readTree(msgBody);
-
-            var event = EventType.valueOf(rootNode.get("event").asText());
-            var roomId = rootNode.get("roomId").asLong();
-            var dataNode = rootNode.get("data");
-
-            // EventMessage로 역직렬화
-            Object data = null;
-
-            switch (event) {
-                case TWO_ATTACK:
-                    // data는 List<GameMemberStatus>
-                    data = objectMapper.readValue(
-                        dataNode.toString(),
-                        TypeFactory.defaultInstance()
-                            .constructCollectionType(List.class, GameMemberStatus.class)
-                    );
-                    break;
-                case MULTIPLE_QUIZ, SHORT_QUIZ, ESSAY_QUIZ, QUIZ_RESULT, ONE_ATTACK, FIRST_HINT,
-                    SECOND_HINT, REWARD:
-                    // data는 Map<String, Object>
-                    data = objectMapper.readValue(
-                        dataNode.toString(),
-                        TypeFactory.defaultInstance()
-                            .constructMapType(Map.class, String.class, Object.class)
-                    );
-                    break;
-                default:
-                    throw new UnsupportedOperationException("Unsupported event type: " + event);
-            }
-
-            EventMessage<Object> eventMessage = new EventMessage<>(event, roomId, data);
-
             // WebSocket으로 메시지 전송
-            String destination = "/topic/game/" + eventMessage.getRoomId();
-            messagingTemplate.convertAndSend(destination, eventMessage);
-            //log.info("🔵 WebSocket 전송: Destination={}, Event={}, Data={}", destination, eventMessage.getEvent(), eventMessage.getData());
+            messagingTemplate.send("/topic/game/" + roomId, MessageBuilder.createMessage(body,
+                jsonHeaders()));
 
         } catch (Exception e) {
             log.error("❌ RedisGameSubscriber: WebSocket 전송 중 오류 발생", e);
         }
     }
-}
\ No newline at end of file
+
+    private static MessageHeaders jsonHeaders() {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(
+            SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        return accessor.getMessageHeaders();
+    }
+}
@@ -0,0 +1,41 @@
+package com.finbattle.global.common.redis;
+
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * lobby:{subjectType} 채널의 변경분 배열을 /topic/lobby/{subjectType} 로 그대로 전달
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisLobbySubscriber implements MessageListener {
+
+    private static final String CHANNEL_PREFIX = "lobby:";
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(
+                SimpMessageType.MESSAGE);
+            accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+            accessor.setLeaveMutable(true);
+            messagingTemplate.send("/topic/lobby/" + channel.substring(CHANNEL_PREFIX.length()),
+                MessageBuilder.createMessage(message.getBody(), accessor.getMessageHeaders()));
+        } catch (Exception e) {
+            log.error("로비 변경 WebSocket 전송 실패", e);
+        }
+    }
+}
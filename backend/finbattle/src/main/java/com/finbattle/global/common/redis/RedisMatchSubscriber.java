@@ -0,0 +1,48 @@
+package com.finbattle.global.common.redis;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * match:notify 채널의 매칭 결과를 두 사용자의 /user/queue/match 로 전달
+ * <p>
+ * 모든 노드가 받지만 사용자 세션이 있는 노드에서만 실제로 전송된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisMatchSubscriber implements MessageListener {
+
+    public static final String CHANNEL = "match:notify";
+
+    private final ObjectMapper objectMapper;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            byte[] body = message.getBody();
+            JsonNode memberIds = objectMapper.readTree(body).path("memberIds");
+            for (JsonNode memberId : memberIds) {
+                SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(
+                    SimpMessageType.MESSAGE);
+                accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+                accessor.setLeaveMutable(true);
+                messagingTemplate.send("/user/" + memberId.asText() + "/queue/match",
+                    MessageBuilder.createMessage(body, accessor.getMessageHeaders()));
+            }
+        } catch (Exception e) {
+            log.error("매칭 결과 전송 실패", e);
+        }
+    }
+}
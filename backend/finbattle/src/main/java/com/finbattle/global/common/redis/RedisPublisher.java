@@ -1,20 +1,115 @@
 package com.finbattle.global.common.redis;
 
-import lombok.RequiredArgsConstructor;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class RedisPublisher {
 
     private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisSerializer<Object> valueSerializer;
+    private final RedisGameSubscriber gameSubscriber;
+    private final RedisChatSubscriber chatSubscriber;
+    private final RedisRoomSubscriber roomSubscriber;
+    private final RedisLobbySubscriber lobbySubscriber;
+    private final RedisMatchSubscriber matchSubscriber;
+
+    // 외부 broker 를 쓰면 모든 노드가 같은 broker 를 보므로 방 이벤트는 Redis 를 거치지 않고 발행한 노드에서 바로 넘긴다
+    @Value("${websocket.broker.mode:simple}")
+    private String brokerMode;
+
+    // RedisConfig 의 RedisTemplate<String, Object> 는 value serializer 로 Jackson2JsonRedisSerializer<Object> 를 쓴다.
+    // getValueSerializer() 가 RedisSerializer<?> 를 돌려주므로 생성 시 한 번만 형을 맞춘다
+    @SuppressWarnings("unchecked")
+    public RedisPublisher(RedisTemplate<String, Object> redisTemplate,
+        RedisGameSubscriber gameSubscriber, RedisChatSubscriber chatSubscriber,
+        RedisRoomSubscriber roomSubscriber, RedisLobbySubscriber lobbySubscriber,
+        RedisMatchSubscriber matchSubscriber) {
+        this.redisTemplate = redisTemplate;
+        this.valueSerializer = (RedisSerializer<Object>) redisTemplate.getValueSerializer();
+        this.gameSubscriber = gameSubscriber;
+        this.chatSubscriber = chatSubscriber;
+        this.roomSubscriber = roomSubscriber;
+        this.lobbySubscriber = lobbySubscriber;
+        this.matchSubscriber = matchSubscriber;
+    }
 
     //  메시지를 객체(여기서는 문자열)를 발행
     public void publish(String channel, Object message) {
         //log.info("🚀 Redis Pub/Sub 발행: Channel={}, Message={}", channel, message);
+        MessageListener local = localListener(channel);
+        if (local != null) {
+            byte[] body = valueSerializer.serialize(message);
+            local.onMessage(new DefaultMessage(channel.getBytes(StandardCharsets.UTF_8), body),
+                null);
+            return;
+        }
         redisTemplate.convertAndSend(channel, message);
     }
+
+    /**
+     * 이미 직렬화된 JSON 바이트를 serializer 를 거치지 않고 그대로 발행
+     */
+    public void publishRaw(String channel, byte[] payload) {
+        byte[] rawChannel = channel.getBytes(StandardCharsets.UTF_8);
+        MessageListener local = localListener(channel);
+        if (local != null) {
+            local.onMessage(new DefaultMessage(rawChannel, payload), null);
+            return;
+        }
+        redisTemplate.execute((RedisCallback<Long>) connection ->
+            connection.publish(rawChannel, payload));
+    }
+
+    /**
+     * 여러 메시지를 한 번의 pipeline 으로 발행. 목록 순서대로 발행된다
+     */
+    public void publishAll(List<Outgoing> messages) {
+        if ("relay".equalsIgnoreCase(brokerMode)) {
+            messages.forEach(message -> publish(message.channel(), message.message()));
+            return;
+        }
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Outgoing message : messages) {
+                connection.publish(message.channel().getBytes(StandardCharsets.UTF_8),
+                    valueSerializer.serialize(message.message()));
+            }
+            return null;
+        });
+    }
+
+    private MessageListener localListener(String channel) {
+        if (!"relay".equalsIgnoreCase(brokerMode)) {
+            return null;
+        }
+        if (channel.startsWith("game:")) {
+            return gameSubscriber;
+        }
+        if (channel.startsWith("chat:")) {
+            return chatSubscriber;
+        }
+        if (channel.startsWith("room:")) {
+            return roomSubscriber;
+        }
+        if (channel.startsWith("lobby:")) {
+            return lobbySubscriber;
+        }
+        if (channel.startsWith("match:")) {
+            return matchSubscriber;
+        }
+        return null;
+    }
+
+    public record Outgoing(String channel, Object message) {
+
+    }
 }
@@ -0,0 +1,82 @@
+package com.finbattle.global.common.timer;
+
+import com.finbattle.global.common.actor.RoomActorSystem;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게임 루프에서 쓰는 모든 지연 작업(퀴즈 타임아웃, 힌트, 다음 문제, 게임 시작 지연)이 거쳐가는 공용 타이머
+ * <p>
+ * 만료 시점에는 방 mailbox 에 넣기만 하므로 tick 스레드에서 바로 실행해도 막히지 않는다.
+ */
+@Slf4j
+@Component
+public class GameTimer {
+
+    private final HashedWheelTimer timer;
+    private final RoomActorSystem actorSystem;
+    private final Map<Long, RoomTimer> roomTimers = new ConcurrentHashMap<>();
+
+    public GameTimer(MeterRegistry meterRegistry, RoomActorSystem actorSystem,
+        @Value("${game.timer.tick-ms:100}") long tickMs,
+        @Value("${game.timer.wheel-size:512}") int wheelSize) {
+        this.actorSystem = actorSystem;
+        this.timer = new HashedWheelTimer("game-timer", tickMs, TimeUnit.MILLISECONDS, wheelSize,
+            Runnable::run);
+
+        Gauge.builder("game.timer.pending", timer, HashedWheelTimer::pendingTimeouts)
+            .description("실행 대기 중인 게임 타이머 수")
+            .register(meterRegistry);
+        Gauge.builder("game.timer.tick.lag", timer, HashedWheelTimer::tickLagMillis)
+            .description("마지막 tick 의 지연 시간(ms)")
+            .baseUnit("milliseconds")
+            .register(meterRegistry);
+        Gauge.builder("game.timer.rooms", roomTimers, Map::size)
+            .description("타이머 핸들을 가진 방 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 방 타이머 핸들 조회 (없으면 생성)
+     */
+    public RoomTimer room(Long roomId) {
+        return roomTimers.computeIfAbsent(roomId, id -> new RoomTimer(id, timer, actorSystem));
+    }
+
+    public void schedule(Long roomId, TimerKind kind, Runnable task, long delay,
+        TimeUnit unit) {
+        room(roomId).schedule(kind, task, delay, unit);
+    }
+
+    /**
+     * 방에 걸린 타이머 중 지정한 종류만 취소하고 핸들은 유지
+     */
+    public void cancel(Long roomId, TimerKind kind) {
+        RoomTimer roomTimer = roomTimers.get(roomId);
+        if (roomTimer != null) {
+            roomTimer.cancel(kind);
+        }
+    }
+
+    /**
+     * 게임 종료 시 타이머 취소 후 핸들 제거
+     */
+    public void release(Long roomId) {
+        RoomTimer roomTimer = roomTimers.remove(roomId);
+        if (roomTimer != null) {
+            roomTimer.cancelAll();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timer.stop();
+    }
+}
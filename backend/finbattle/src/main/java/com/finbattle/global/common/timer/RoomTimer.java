@@ -0,0 +1,91 @@
+package com.finbattle.global.common.timer;
+
+import com.finbattle.global.common.actor.RoomActorSystem;
+import com.finbattle.global.common.timer.HashedWheelTimer.Timeout;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.Getter;
+
+/**
+ * 방 하나에 걸린 타이머(퀴즈 타임아웃, 힌트, 다음 문제 지연)를 종류별로 묶어서 취소하기 위한 핸들
+ * <p>
+ * 만료된 작업은 직접 실행하지 않고 방 mailbox 로 넘겨서 정답 처리와 같은 순서 보장을 받는다.
+ */
+public class RoomTimer {
+
+    @Getter
+    private final Long roomId;
+    private final HashedWheelTimer timer;
+    private final RoomActorSystem actorSystem;
+    private final List<Entry> entries = new ArrayList<>();
+
+    RoomTimer(Long roomId, HashedWheelTimer timer, RoomActorSystem actorSystem) {
+        this.roomId = roomId;
+        this.timer = timer;
+        this.actorSystem = actorSystem;
+    }
+
+    public synchronized Timeout schedule(TimerKind kind, Runnable task, long delay,
+        TimeUnit unit) {
+        // mailbox 에서 실행까지 끝난 타이머는 정리
+        entries.removeIf(entry -> entry.finished);
+        Entry entry = new Entry(kind);
+        entry.timeout = timer.newTimeout(() -> actorSystem.tell(roomId, () -> {
+            try {
+                // mailbox 에 이미 들어간 작업이 취소 이후에 실행되는 것을 막는다
+                if (!entry.cancelled) {
+                    task.run();
+                }
+            } finally {
+                entry.finished = true;
+            }
+        }), delay, unit);
+        entries.add(entry);
+        return entry.timeout;
+    }
+
+    /**
+     * 지정한 종류의 타이머만 취소 (다른 종류는 그대로 둔다)
+     */
+    public synchronized void cancel(TimerKind kind) {
+        Iterator<Entry> it = entries.iterator();
+        while (it.hasNext()) {
+            Entry entry = it.next();
+            if (entry.kind == kind) {
+                entry.cancel();
+                it.remove();
+            }
+        }
+    }
+
+    public synchronized void cancelAll() {
+        for (Entry entry : entries) {
+            entry.cancel();
+        }
+        entries.clear();
+    }
+
+    public synchronized boolean hasPending() {
+        entries.removeIf(entry -> entry.finished);
+        return !entries.isEmpty();
+    }
+
+    private static final class Entry {
+
+        private final TimerKind kind;
+        private Timeout timeout;
+        private volatile boolean cancelled;
+        private volatile boolean finished;
+
+        private Entry(TimerKind kind) {
+            this.kind = kind;
+        }
+
+        private void cancel() {
+            cancelled = true;
+            timeout.cancel();
+        }
+    }
+}
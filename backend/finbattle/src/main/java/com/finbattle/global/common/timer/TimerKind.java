@@ -0,0 +1,13 @@
+package com.finbattle.global.common.timer;
+
+/**
+ * 방 타이머 종류. 같은 방에 걸린 타이머 중 특정 종류만 골라서 취소할 때 쓴다.
+ */
+public enum TimerKind {
+    // 게임 시작 지연 (START 이벤트 후 3초)
+    START_DELAY,
+    // 퀴즈 타임아웃과 힌트
+    QUIZ,
+    // 정답 처리 후 다음 문제 출제 지연
+    NEXT_QUIZ
+}
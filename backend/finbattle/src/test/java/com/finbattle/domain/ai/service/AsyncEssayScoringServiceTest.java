@@ -0,0 +1,70 @@
+package com.finbattle.domain.ai.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class AsyncEssayScoringServiceTest {
+
+    private final EssayAiScoringService essayAiScoringService = mock(EssayAiScoringService.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private AsyncEssayScoringService service;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        service.shutdown();
+    }
+
+    @Test
+    void 채점_결과를_그대로_돌려준다() throws Exception {
+        service = new AsyncEssayScoringService(essayAiScoringService, registry, 1, 1, 1000);
+        when(essayAiScoringService.scoreEssayAnswer(anyString(), anyString())).thenReturn(0);
+
+        assertThat(service.scoreAsync("q", "a").get(1, TimeUnit.SECONDS)).isZero();
+        assertThat(fallbackCount()).isZero();
+    }
+
+    @Test
+    void 채점_실패는_0점이_아니라_채점_불가로_완료된다() throws Exception {
+        service = new AsyncEssayScoringService(essayAiScoringService, registry, 1, 1, 1000);
+        when(essayAiScoringService.scoreEssayAnswer(anyString(), anyString()))
+            .thenThrow(new RuntimeException("AI 응답 파싱 실패"));
+
+        assertThat(service.scoreAsync("q", "a").get(1, TimeUnit.SECONDS))
+            .isEqualTo(AsyncEssayScoringService.SCORING_UNAVAILABLE);
+        assertThat(fallbackCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 시간_초과와_대기열_초과도_채점_불가로_완료된다() throws Exception {
+        service = new AsyncEssayScoringService(essayAiScoringService, registry, 1, 1, 200);
+        when(essayAiScoringService.scoreEssayAnswer(anyString(), anyString())).thenAnswer(i -> {
+            release.await();
+            return 90;
+        });
+
+        var running = service.scoreAsync("q", "a");
+        var queued = service.scoreAsync("q", "a");
+        var rejected = service.scoreAsync("q", "a");
+
+        assertThat(rejected.getNow(null)).isEqualTo(AsyncEssayScoringService.SCORING_UNAVAILABLE);
+        assertThat(running.get(1, TimeUnit.SECONDS))
+            .isEqualTo(AsyncEssayScoringService.SCORING_UNAVAILABLE);
+        assertThat(queued.get(1, TimeUnit.SECONDS))
+            .isEqualTo(AsyncEssayScoringService.SCORING_UNAVAILABLE);
+        assertThat(fallbackCount()).isEqualTo(3);
+    }
+
+    private double fallbackCount() {
+        return registry.get("game.essay.fallback").counter().count();
+    }
+}
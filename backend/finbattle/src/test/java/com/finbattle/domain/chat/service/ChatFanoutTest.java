@@ -0,0 +1,77 @@
+package com.finbattle.domain.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.finbattle.global.common.redis.RedisPublisher;
+import com.finbattle.global.common.redis.RedisPublisher.Outgoing;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+class ChatFanoutTest {
+
+    private final RedisPublisher redisPublisher = mock(RedisPublisher.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private ThreadPoolTaskScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    void 버퍼가_가득_차면_앞지르지_않고_버린다() {
+        // 창을 길게 잡고 batchSize 를 용량보다 크게 해서 close 전에는 기록되지 않게 한다
+        ChatFanout fanout = new ChatFanout(redisPublisher, registry, scheduler, 60_000, 2, 100);
+
+        fanout.publish("1", "a");
+        fanout.publish("1", "b");
+        fanout.publish("1", "c");
+
+        verify(redisPublisher, never()).publish(anyString(), any());
+        fanout.shutdown();
+        verify(redisPublisher).publishAll(
+            List.of(new Outgoing("chat:1", "a"), new Outgoing("chat:1", "b")));
+        assertThat(registry.get("writebehind.dropped").tag("buffer", "chat_fanout").counter()
+            .count()).isEqualTo(1);
+    }
+
+    @Test
+    void 닉네임_캐시는_세션_단위로_지운다() {
+        ChatNicknameCache cache = new ChatNicknameCache();
+        cache.put("s1", 1L, "고양이");
+        cache.put("s2", 1L, "고양이");
+        cache.put("s3", 2L, "강아지");
+
+        // 같은 회원의 다른 세션이 끊겨도 남은 세션의 항목은 그대로
+        cache.onDisconnect(new SessionDisconnectEvent(this,
+            MessageBuilder.withPayload(new byte[0]).build(), "s1", CloseStatus.NORMAL));
+        assertThat(cache.get("s1", 1L)).isNull();
+        assertThat(cache.get("s2", 1L)).isEqualTo("고양이");
+        // 다른 회원이 세션 id 를 대도 돌려주지 않는다
+        assertThat(cache.get("s2", 2L)).isNull();
+
+        cache.evictMember(1L);
+        assertThat(cache.get("s2", 1L)).isNull();
+        assertThat(cache.get("s3", 2L)).isEqualTo("강아지");
+        assertThat(cache.size()).isEqualTo(1);
+    }
+}
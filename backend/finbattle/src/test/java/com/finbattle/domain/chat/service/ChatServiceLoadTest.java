@@ -0,0 +1,189 @@
+package com.finbattle.domain.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finbattle.domain.chat.dto.ChatMessage;
+import com.finbattle.domain.room.dto.RedisRoomMember;
+import com.finbattle.domain.room.model.RedisRoom;
+import com.finbattle.domain.room.service.RoomSubscriptionService;
+import com.finbattle.global.common.redis.RedisChatSubscriber;
+import com.finbattle.global.common.redis.RedisGameSubscriber;
+import com.finbattle.global.common.redis.RedisLobbySubscriber;
+import com.finbattle.global.common.redis.RedisMatchSubscriber;
+import com.finbattle.global.common.redis.RedisPublisher;
+import com.finbattle.global.common.redis.RedisRoomSubscriber;
+import com.finbattle.support.EmbeddedRedisSupport;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * 5천 개 방에서 동시에 채팅할 때 한 노드의 처리량 측정
+ * <p>
+ * 방마다 두 세션이 번갈아 보내고, 구독 쪽에서 방별 순서와 누락을 확인한다. window-ms 0 (메시지마다 발행) 과 5 (pipeline 발행)
+ * 를 비교해 로그로 남긴다. 처리량 측정이라 기본 test 에서는 빼고 benchmark task 로 돌린다.
+ */
+@Slf4j
+@Tag("benchmark")
+class ChatServiceLoadTest extends EmbeddedRedisSupport {
+
+    private static final int ROOMS = 5_000;
+    private static final int MESSAGES_PER_ROOM = 4;
+    private static final int SENDERS = 8;
+    private static final String READY_CHANNEL = "chat:ready";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final RoomSubscriptionService roomSubscriptionService =
+        mock(RoomSubscriptionService.class);
+    private ThreadPoolTaskScheduler scheduler;
+    private RedisMessageListenerContainer container;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.initialize();
+
+        container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.afterPropertiesSet();
+        container.start();
+
+        when(roomSubscriptionService.getRedisRoom(anyLong())).thenAnswer(i -> {
+            RedisRoom room = new RedisRoom();
+            room.setRoomId(i.getArgument(0));
+            room.getMembers().add(member(1L, "host"));
+            room.getMembers().add(member(2L, "guest"));
+            return room;
+        });
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        container.destroy();
+        scheduler.shutdown();
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, 5})
+    void 방_5천_개_동시_채팅(long windowMs) throws Exception {
+        int total = ROOMS * MESSAGES_PER_ROOM;
+        CountDownLatch subscribed = new CountDownLatch(1);
+        CountDownLatch received = new CountDownLatch(total);
+        Map<String, Integer> lastSeq = new ConcurrentHashMap<>();
+        AtomicInteger outOfOrder = new AtomicInteger();
+        container.addMessageListener((message, pattern) -> {
+            if (READY_CHANNEL.equals(new String(message.getChannel()))) {
+                subscribed.countDown();
+                return;
+            }
+            try {
+                // RedisTemplate 의 Jackson serializer 가 JSON 문자열을 한 번 더 감싼다
+                String json = objectMapper.readValue(message.getBody(), String.class);
+                JsonNode chat = objectMapper.readTree(json);
+                int seq = chat.get("content").asInt();
+                Integer prev = lastSeq.put(chat.get("roomId").asText(), seq);
+                if (prev != null && prev + 1 != seq) {
+                    outOfOrder.incrementAndGet();
+                }
+            } catch (Exception e) {
+                outOfOrder.incrementAndGet();
+            }
+            received.countDown();
+        }, new PatternTopic("chat:*"));
+        awaitSubscribed(subscribed);
+
+        ChatFanout fanout = new ChatFanout(publisher(), new SimpleMeterRegistry(), scheduler,
+            windowMs, 50_000, 200);
+        ChatService chatService = new ChatService(mock(ChatLogWriter.class),
+            new ChatNicknameCache(), fanout, roomSubscriptionService);
+
+        // 방은 한 발신 스레드가 맡아 순서대로 보낸다 (host/guest 세션이 번갈아)
+        List<Thread> senders = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int s = 0; s < SENDERS; s++) {
+            int sender = s;
+            Thread thread = new Thread(() -> {
+                for (int seq = 0; seq < MESSAGES_PER_ROOM; seq++) {
+                    for (int room = sender; room < ROOMS; room += SENDERS) {
+                        long memberId = seq % 2 == 0 ? 1L : 2L;
+                        String sessionId = room + "-" + memberId;
+                        chatService.processChatMessage(
+                            new ChatMessage(String.valueOf(seq), String.valueOf(room), null),
+                            memberId, sessionId);
+                    }
+                }
+            });
+            thread.start();
+            senders.add(thread);
+        }
+        for (Thread t : senders) {
+            t.join();
+        }
+        long publishNanos = System.nanoTime() - start;
+        assertThat(received.await(60, TimeUnit.SECONDS)).isTrue();
+        long totalNanos = System.nanoTime() - start;
+        fanout.shutdown();
+
+        log.info("window={}ms, 방 {}개, 메시지 {}개: 발행 {} msg/s, 수신 {} msg/s", windowMs, ROOMS,
+            total, Math.round(total / (publishNanos / 1e9)),
+            Math.round(total / (totalNanos / 1e9)));
+        assertThat(outOfOrder.get()).isZero();
+        assertThat(lastSeq).hasSize(ROOMS);
+        assertThat(lastSeq.values()).containsOnly(MESSAGES_PER_ROOM - 1);
+        // 닉네임은 세션마다 한 번만 방 정보에서 읽는다
+        verify(roomSubscriptionService, atMost(ROOMS * 2)).getRedisRoom(anyLong());
+    }
+
+    // 구독이 Redis 에 반영될 때까지 확인 메시지를 보내 본다
+    private static void awaitSubscribed(CountDownLatch subscribed) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (subscribed.getCount() > 0 && System.nanoTime() < deadline) {
+            redisTemplate.convertAndSend(READY_CHANNEL, "ready");
+            subscribed.await(50, TimeUnit.MILLISECONDS);
+        }
+        assertThat(subscribed.getCount()).isZero();
+    }
+
+    private RedisPublisher publisher() {
+        RedisTemplate<String, Object> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(new Jackson2JsonRedisSerializer<>(objectMapper, Object.class));
+        template.afterPropertiesSet();
+        return new RedisPublisher(template, mock(RedisGameSubscriber.class),
+            mock(RedisChatSubscriber.class), mock(RedisRoomSubscriber.class),
+            mock(RedisLobbySubscriber.class), mock(RedisMatchSubscriber.class));
+    }
+
+    private static RedisRoomMember member(Long memberId, String nickname) {
+        RedisRoomMember member = new RedisRoomMember();
+        member.setMemberId(memberId);
+        member.setNickname(nickname);
+        return member;
+    }
+}
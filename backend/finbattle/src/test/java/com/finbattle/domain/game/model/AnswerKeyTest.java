@@ -0,0 +1,115 @@
+package com.finbattle.domain.game.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.finbattle.domain.quiz.dto.MultipleChoiceQuizDto;
+import com.finbattle.domain.quiz.dto.QuizOptionDto;
+import com.finbattle.domain.quiz.dto.ShortAnswerQuizDto;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class AnswerKeyTest {
+
+    // "간" 을 초성/중성/종성으로 푼 입력 (NFD)
+    private static final String DECOMPOSED_GAN = "\u1100\u1161\u11AB";
+
+    @ParameterizedTest
+    @CsvSource({
+        "'ABC', 'abc'",
+        "'ＡＢＣ', 'abc'",
+        "'  금 리  인 상 ', '금리인상'",
+        "'Ｅ　Ｔ　Ｆ', 'etf'",
+        "'ｶﾀｶﾅ', 'カタカナ'",
+        "'①', '1'",
+    })
+    void normalize_는_전각_대소문자_공백을_통일한다(String input, String expected) {
+        assertThat(AnswerKey.normalize(input)).isEqualTo(expected);
+    }
+
+    @Test
+    void normalize_는_풀어쓴_자모_시퀀스를_완성형으로_합친다() {
+        assertThat(AnswerKey.normalize(DECOMPOSED_GAN)).isEqualTo("간");
+    }
+
+    @Test
+    void normalize_는_따로_입력한_호환_자모를_합치지_않는다() {
+        assertThat(AnswerKey.normalize("가ㄴ")).isNotEqualTo("간");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"금리인상", "금리 인상", " 금리인상 ", "금리\t인상"})
+    void 단답형은_공백을_무시하고_비교한다(String userAnswer) {
+        assertThat(key("금리 인상").isCorrectShortAnswer(0, userAnswer)).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"ETF", "etf", "Etf", "ＥＴＦ", "ｅｔｆ", "E T F"})
+    void 단답형은_전각과_대소문자를_구분하지_않는다(String userAnswer) {
+        assertThat(key("ETF").isCorrectShortAnswer(0, userAnswer)).isTrue();
+    }
+
+    @Test
+    void 단답형은_풀어쓴_자모로_입력해도_정답이다() {
+        assertThat(key("간").isCorrectShortAnswer(0, DECOMPOSED_GAN)).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", " ", "금리", "금리인상률", "금리인하", "가ㄴ"})
+    void 단답형_오답(String userAnswer) {
+        assertThat(key("금리인상").isCorrectShortAnswer(0, userAnswer)).isFalse();
+        assertThat(key("간").isCorrectShortAnswer(0, userAnswer)).isFalse();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"ＥＴＦ ２０２４", "간", "①②", "Straße", "ǅ", "ﬁ", "Ⅻ", "가ㄴ"})
+    void 글자_단위_비교는_정규화_후_비교와_결과가_같다(String userAnswer) {
+        String[] answers = {"etf2024", "간", "12", "strasse", "dž", "fi", "xii", "\uAC00\u1102"};
+        for (String answer : answers) {
+            assertThat(key(answer).isCorrectShortAnswer(0, userAnswer))
+                .as("answer=%s, userAnswer=%s", answer, userAnswer)
+                .isEqualTo(AnswerKey.normalize(answer).equals(AnswerKey.normalize(userAnswer)));
+        }
+    }
+
+    @Test
+    void 범위를_벗어난_슬롯이나_null_은_오답() {
+        AnswerKey key = key("정답");
+        assertThat(key.isCorrectShortAnswer(1, "정답")).isFalse();
+        assertThat(key.isCorrectShortAnswer(-1, "정답")).isFalse();
+        assertThat(key.isCorrectShortAnswer(0, null)).isFalse();
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1, 1", "4, 4", "0, -1", "5, -1", "12, -1", "a, -1", "'', -1", "１, -1"})
+    void parseChoice_는_1부터_4까지_한_글자만_인정한다(String input, int expected) {
+        assertThat(AnswerKey.parseChoice(input)).isEqualTo(expected);
+    }
+
+    @Test
+    void 객관식은_정답_보기_번호만_인정한다() {
+        GameData gameData = new GameData();
+        MultipleChoiceQuizDto quiz = new MultipleChoiceQuizDto("문제", "힌트1", "힌트2", List.of(
+            new QuizOptionDto(1L, 1L, 1, "보기1", false),
+            new QuizOptionDto(2L, 1L, 2, "보기2", false),
+            new QuizOptionDto(3L, 1L, 3, "보기3", true),
+            new QuizOptionDto(4L, 1L, 4, "보기4", false)));
+        MultipleChoiceQuizDto noOptions = new MultipleChoiceQuizDto("문제", "힌트1", "힌트2", null);
+        gameData.setMultipleChoiceQuizList(List.of(quiz, noOptions));
+        AnswerKey key = AnswerKey.compile(gameData);
+
+        assertThat(key.isCorrectChoice(0, 3)).isTrue();
+        assertThat(key.isCorrectChoice(0, 1)).isFalse();
+        assertThat(key.isCorrectChoice(1, 0)).isFalse();
+        assertThat(key.isCorrectChoice(5, 3)).isFalse();
+    }
+
+    private static AnswerKey key(String shortAnswer) {
+        GameData gameData = new GameData();
+        gameData.setShortAnswerQuizList(
+            List.of(new ShortAnswerQuizDto("문제", shortAnswer, "힌트1", "힌트2")));
+        return AnswerKey.compile(gameData);
+    }
+}
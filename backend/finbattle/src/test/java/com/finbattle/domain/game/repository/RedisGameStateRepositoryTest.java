@@ -0,0 +1,228 @@
+package com.finbattle.domain.game.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finbattle.domain.game.dto.AnswerVerdict;
+import com.finbattle.domain.game.dto.AnswerVerdict.Outcome;
+import com.finbattle.domain.game.dto.GameMemberStatus;
+import com.finbattle.domain.game.model.EssayCorrected;
+import com.finbattle.domain.game.model.GameData;
+import com.finbattle.domain.quiz.dto.EssayQuizDto;
+import com.finbattle.domain.quiz.dto.MultipleChoiceQuizDto;
+import com.finbattle.domain.quiz.dto.QuizOptionDto;
+import com.finbattle.domain.quiz.dto.ShortAnswerQuizDto;
+import com.finbattle.domain.quiz.model.QuizMode;
+import com.finbattle.domain.quiz.model.SubjectType;
+import com.finbattle.support.EmbeddedRedisSupport;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisKeyValueAdapter;
+import org.springframework.data.redis.core.RedisKeyValueTemplate;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.mapping.RedisMappingContext;
+import org.springframework.data.redis.repository.support.RedisRepositoryFactory;
+
+class RedisGameStateRepositoryTest extends EmbeddedRedisSupport {
+
+    private static final long ROOM_ID = 21L;
+
+    private RedisGameRepository legacyRepository;
+    private RedisGameStateRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        RedisTemplate<byte[], byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.afterPropertiesSet();
+        RedisKeyValueAdapter adapter = new RedisKeyValueAdapter(template,
+            new RedisMappingContext());
+        legacyRepository = new RedisRepositoryFactory(new RedisKeyValueTemplate(adapter,
+            new RedisMappingContext())).getRepository(RedisGameRepository.class);
+        repository = new RedisGameStateRepository(redisTemplate, legacyRepository,
+            new ObjectMapper());
+    }
+
+    @Test
+    void 새_구조는_문제_정보와_진행_상태를_그대로_복원한다() {
+        GameData original = game();
+        repository.create(original);
+
+        GameData restored = repository.findById(ROOM_ID).orElseThrow();
+
+        assertSameGame(restored, original);
+    }
+
+    @Test
+    void 진행_중_변경은_상태_hash_에만_쌓이고_복원된다() {
+        GameData original = game();
+        repository.create(original);
+        original.setQuizNum(6);
+        original.setCurrentQuizNum(4);
+        original.getEssayCorrectedList().add(
+            new EssayCorrected(1L, 80, LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS)));
+        repository.saveProgress(original);
+        repository.decrementLife(ROOM_ID, 2L);
+
+        GameData restored = repository.findById(ROOM_ID).orElseThrow();
+
+        original.getGameMemberStatusList().get(1).setLife(4);
+        assertSameGame(restored, original);
+    }
+
+    @Test
+    void 이전_구조로_저장된_게임은_읽을_때_새_구조로_옮긴다() {
+        GameData original = game();
+        legacyRepository.save(original);
+
+        GameData restored = repository.findById(ROOM_ID).orElseThrow();
+
+        assertSameGame(restored, original);
+        assertThat(legacyRepository.findById(ROOM_ID)).isEmpty();
+        assertThat(redisTemplate.hasKey("game:content:" + ROOM_ID)).isTrue();
+        assertThat(repository.findAllRoomIds()).containsExactly(ROOM_ID);
+        // 옮긴 뒤에는 새 구조에서 읽는다
+        assertSameGame(repository.findById(ROOM_ID).orElseThrow(), original);
+    }
+
+    @Test
+    void 동시에_들어온_정답은_첫_제출_하나만_인정된다() throws Exception {
+        repository.create(game());
+        int submissions = 64;
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<AnswerVerdict>> futures = new ArrayList<>();
+        for (int i = 0; i < submissions; i++) {
+            long memberId = i % 2 == 0 ? 1L : 2L;
+            futures.add(executor.submit(() -> {
+                start.await();
+                return repository.adjudicate(ROOM_ID, 0, memberId, 3L - memberId);
+            }));
+        }
+        start.countDown();
+
+        List<AnswerVerdict> verdicts = new ArrayList<>();
+        for (Future<AnswerVerdict> future : futures) {
+            verdicts.add(future.get(5, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        List<AnswerVerdict> accepted = verdicts.stream().filter(AnswerVerdict::accepted).toList();
+        assertThat(accepted).hasSize(1);
+        assertThat(verdicts).filteredOn(v -> v.outcome() == Outcome.ALREADY_ANSWERED)
+            .hasSize(submissions - 1);
+        // 진 쪽 라이프만 한 번 깎인다
+        long loser = accepted.get(0).attackedMemberId();
+        GameData restored = repository.findById(ROOM_ID).orElseThrow();
+        assertThat(restored.getGameMemberStatusList())
+            .allSatisfy(member -> assertThat(member.getLife())
+                .isEqualTo(member.getMemberId() == loser ? 4 : 5));
+    }
+
+    @Test
+    void 지난_문제에_대한_정답은_판정하지_않는다() {
+        repository.create(game());
+        repository.saveCurrentQuiz(ROOM_ID, 3, 1);
+
+        AnswerVerdict verdict = repository.adjudicate(ROOM_ID, 0, 1L, 2L);
+
+        assertThat(verdict.outcome()).isEqualTo(Outcome.STALE);
+        assertThat(repository.findById(ROOM_ID).orElseThrow().getGameMemberStatusList())
+            .allSatisfy(member -> assertThat(member.getLife()).isEqualTo(5));
+    }
+
+    /*
+     * 답안 하나가 Redis 로 보내는 바이트 비교 (INFO stats 의 total_net_input_bytes 차이)
+     * 이전 구조는 정답마다 GameData 전체를 다시 저장했고, 지금은 판정 Lua 호출 하나만 보낸다.
+     */
+    @Test
+    void 정답_하나당_기록량은_이전_구조보다_작다() {
+        GameData gameData = game();
+        repository.create(gameData);
+
+        long before = netInputBytes();
+        legacyRepository.save(gameData);
+        long legacyBytes = netInputBytes() - before - infoCommandBytes();
+
+        before = netInputBytes();
+        AnswerVerdict verdict = repository.adjudicate(ROOM_ID, 0, 1L, 2L);
+        long currentBytes = netInputBytes() - before - infoCommandBytes();
+
+        assertThat(verdict.accepted()).isTrue();
+        assertThat(currentBytes).as("정답 하나당 바이트 legacy=%d, current=%d", legacyBytes,
+            currentBytes).isLessThan(legacyBytes / 4);
+    }
+
+    private long netInputBytes() {
+        Properties stats = redisTemplate.execute(
+            connection -> connection.serverCommands().info("stats"), true);
+        return Long.parseLong(stats.getProperty("total_net_input_bytes"));
+    }
+
+    private long infoCommandBytes() {
+        long first = netInputBytes();
+        return netInputBytes() - first;
+    }
+
+    private static void assertSameGame(GameData actual, GameData expected) {
+        assertThat(actual.getRoomId()).isEqualTo(expected.getRoomId());
+        assertThat(actual.getQuizNum()).isEqualTo(expected.getQuizNum());
+        assertThat(actual.getCurrentQuizNum()).isEqualTo(expected.getCurrentQuizNum());
+        assertThat(actual.getGameMemberStatusList()).usingRecursiveComparison()
+            .isEqualTo(expected.getGameMemberStatusList());
+        assertThat(actual.getEssayCorrectedList()).usingRecursiveComparison()
+            .isEqualTo(expected.getEssayCorrectedList());
+        assertThat(actual.getMultipleChoiceQuizList()).usingRecursiveComparison()
+            .isEqualTo(expected.getMultipleChoiceQuizList());
+        assertThat(actual.getShortAnswerQuizList()).usingRecursiveComparison()
+            .isEqualTo(expected.getShortAnswerQuizList());
+        assertThat(actual.getEssayQuiz()).usingRecursiveComparison()
+            .isEqualTo(expected.getEssayQuiz());
+    }
+
+    private static GameData game() {
+        GameData gameData = new GameData();
+        gameData.setRoomId(ROOM_ID);
+        gameData.setQuizNum(0);
+        gameData.setCurrentQuizNum(0);
+        gameData.setGameMemberStatusList(new ArrayList<>(List.of(
+            new GameMemberStatus(1L, "orange", "고양이1", 5),
+            new GameMemberStatus(2L, "black", "고양이2", 5))));
+        List<MultipleChoiceQuizDto> multiple = new ArrayList<>();
+        for (long i = 1; i <= 5; i++) {
+            MultipleChoiceQuizDto quiz = new MultipleChoiceQuizDto("객관식 문제 " + i, "첫 힌트",
+                "둘째 힌트", new ArrayList<>(List.of(
+                new QuizOptionDto(i * 10 + 1, i, 1, "보기 1", true),
+                new QuizOptionDto(i * 10 + 2, i, 2, "보기 2", false))));
+            quiz.setQuizId(i);
+            quiz.setQuizMode(QuizMode.MULTIPLE_CHOICE);
+            quiz.setSubjectType(SubjectType.values()[0]);
+            multiple.add(quiz);
+        }
+        gameData.setMultipleChoiceQuizList(multiple);
+        List<ShortAnswerQuizDto> shorts = new ArrayList<>();
+        for (long i = 6; i <= 8; i++) {
+            ShortAnswerQuizDto quiz = new ShortAnswerQuizDto("주관식 문제 " + i, "정답" + i, "첫 힌트",
+                "둘째 힌트");
+            quiz.setQuizId(i);
+            quiz.setQuizMode(QuizMode.SHORT_ANSWER);
+            shorts.add(quiz);
+        }
+        gameData.setShortAnswerQuizList(shorts);
+        EssayQuizDto essay = new EssayQuizDto("서술형 문제", "첫 힌트", "둘째 힌트");
+        essay.setQuizId(9L);
+        essay.setQuizMode(QuizMode.ESSAY);
+        gameData.setEssayQuiz(essay);
+        return gameData;
+    }
+}
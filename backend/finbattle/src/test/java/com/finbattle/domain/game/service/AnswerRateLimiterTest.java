@@ -0,0 +1,184 @@
+package com.finbattle.domain.game.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class AnswerRateLimiterTest {
+
+    private static final long WINDOW_MS = 200;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void window_안의_두번째_제출은_막고_지나면_다시_받는다() throws Exception {
+        AnswerRateLimiter limiter = limiter(1024);
+
+        assertThat(limiter.tryAcquire(1L, 10L)).isTrue();
+        assertThat(limiter.tryAcquire(1L, 10L)).isFalse();
+        assertThat(limiter.tryAcquire(1L, 11L)).isTrue();
+        assertThat(limiter.tryAcquire(2L, 10L)).isTrue();
+
+        Thread.sleep(WINDOW_MS + 50);
+        assertThat(limiter.tryAcquire(1L, 10L)).isTrue();
+        assertThat(throttled()).isEqualTo(1);
+    }
+
+    @Test
+    void reset_하면_window_안이어도_다시_받는다() {
+        AnswerRateLimiter limiter = limiter(1024);
+
+        assertThat(limiter.tryAcquire(1L, 10L)).isTrue();
+        limiter.reset(1L, 10L);
+
+        assertThat(limiter.tryAcquire(1L, 10L)).isTrue();
+    }
+
+    @Test
+    void 같은_사용자의_동시_제출은_하나만_통과한다() throws Exception {
+        for (int round = 0; round < 50; round++) {
+            AnswerRateLimiter limiter = limiter(16);
+            // 만료된 다른 키로 칸을 채워 두어 재사용 경로도 함께 경쟁시킨다
+            if (round % 2 == 1) {
+                for (long member = 100; member < 116; member++) {
+                    limiter.tryAcquire(9L, member);
+                }
+                Thread.sleep(WINDOW_MS + 20);
+            }
+            assertThat(concurrentAcquires(limiter, 1L, 10L, 32)).isEqualTo(1);
+        }
+        assertThat(overflow()).isZero();
+    }
+
+    @Test
+    void 만료된_칸을_다른_키가_동시에_재사용해도_키마다_하나씩_통과한다() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        try {
+            for (int round = 0; round < 20; round++) {
+                AnswerRateLimiter limiter = limiter(16);
+                for (long member = 100; member < 116; member++) {
+                    limiter.tryAcquire(9L, member);
+                }
+                Thread.sleep(WINDOW_MS + 20);
+
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<Boolean>> first = new ArrayList<>();
+                List<Future<Boolean>> second = new ArrayList<>();
+                for (int i = 0; i < 16; i++) {
+                    first.add(executor.submit(() -> {
+                        start.await();
+                        return limiter.tryAcquire(1L, 10L);
+                    }));
+                    second.add(executor.submit(() -> {
+                        start.await();
+                        return limiter.tryAcquire(2L, 20L);
+                    }));
+                }
+                start.countDown();
+
+                assertThat(countAcquired(first)).isEqualTo(1);
+                assertThat(countAcquired(second)).isEqualTo(1);
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(overflow()).isZero();
+    }
+
+    @Test
+    void 만료된_칸은_다른_키가_다시_쓴다() throws Exception {
+        AnswerRateLimiter limiter = limiter(16);
+        for (long member = 1; member <= 16; member++) {
+            assertThat(limiter.tryAcquire(1L, member)).isTrue();
+        }
+        Thread.sleep(WINDOW_MS + 50);
+
+        for (long member = 101; member <= 116; member++) {
+            assertThat(limiter.tryAcquire(2L, member)).isTrue();
+            assertThat(limiter.tryAcquire(2L, member)).isFalse();
+        }
+        assertThat(overflow()).isZero();
+    }
+
+    @Test
+    void 테이블이_가득_차면_막지_않고_통과시킨다() {
+        AnswerRateLimiter limiter = limiter(16);
+        for (long member = 1; member <= 16; member++) {
+            limiter.tryAcquire(1L, member);
+        }
+
+        assertThat(limiter.tryAcquire(2L, 1L)).isTrue();
+        assertThat(limiter.tryAcquire(2L, 1L)).isTrue();
+        assertThat(overflow()).isEqualTo(2);
+    }
+
+    @Test
+    void 경합이_심해도_재귀_없이_끝난다() throws Exception {
+        AnswerRateLimiter limiter = limiter(16);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 16; t++) {
+            long room = t + 1;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (long member = 0; member < 20_000; member++) {
+                    limiter.tryAcquire(room, member);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+    }
+
+    private int concurrentAcquires(AnswerRateLimiter limiter, Long roomId, Long memberId,
+        int threads) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return limiter.tryAcquire(roomId, memberId);
+            }));
+        }
+        start.countDown();
+        int acquired = countAcquired(futures);
+        executor.shutdown();
+        return acquired;
+    }
+
+    private static int countAcquired(List<Future<Boolean>> futures) throws Exception {
+        int acquired = 0;
+        for (Future<Boolean> future : futures) {
+            if (future.get(5, TimeUnit.SECONDS)) {
+                acquired++;
+            }
+        }
+        return acquired;
+    }
+
+    private AnswerRateLimiter limiter(int capacity) {
+        return new AnswerRateLimiter(null, registry, WINDOW_MS, capacity, "local");
+    }
+
+    private double throttled() {
+        return registry.get("game.answer.throttled").counter().count();
+    }
+
+    private double overflow() {
+        return registry.get("game.answer.limiter.overflow").counter().count();
+    }
+}
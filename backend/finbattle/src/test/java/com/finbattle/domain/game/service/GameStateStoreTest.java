@@ -0,0 +1,230 @@
+package com.finbattle.domain.game.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finbattle.domain.game.dto.AnswerVerdict;
+import com.finbattle.domain.game.dto.GameMemberStatus;
+import com.finbattle.domain.game.dto.GameOwnershipLostEvent;
+import com.finbattle.domain.game.dto.GameRemovedEvent;
+import com.finbattle.domain.game.dto.GameTakenOverEvent;
+import com.finbattle.domain.game.model.GameData;
+import com.finbattle.domain.game.repository.RedisGameRepository;
+import com.finbattle.domain.game.repository.RedisGameStateRepository;
+import com.finbattle.global.common.actor.RoomActorSystem;
+import com.finbattle.support.EmbeddedRedisSupport;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+class GameStateStoreTest extends EmbeddedRedisSupport {
+
+    private static final long ROOM_ID = 11L;
+    private static final long LEASE_MS = 1000;
+
+    private final List<Object> eventsA = new CopyOnWriteArrayList<>();
+    private final List<Object> eventsB = new CopyOnWriteArrayList<>();
+    private final List<AutoCloseable> closeables = new ArrayList<>();
+    private ThreadPoolTaskScheduler scheduler;
+    private GameStateStore nodeA;
+    private GameStateStore nodeB;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(2);
+        scheduler.initialize();
+        nodeA = store("node-a", eventsA);
+        nodeB = store("node-b", eventsB);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        nodeA.shutdown();
+        nodeB.shutdown();
+        for (AutoCloseable closeable : closeables) {
+            closeable.close();
+        }
+        scheduler.shutdown();
+    }
+
+    @Test
+    void lease_가_살아있으면_다른_노드는_게임을_올리지_않는다() {
+        nodeA.create(game());
+
+        assertThat(nodeB.claim(ROOM_ID)).isFalse();
+        assertThat(nodeB.find(ROOM_ID)).isEmpty();
+        assertThat(nodeB.ownerOf(ROOM_ID)).isEqualTo("node-a");
+        assertThat(eventsB).isEmpty();
+    }
+
+    @Test
+    void lease_가_만료되면_다른_노드가_스냅샷에서_이어받는다() throws Exception {
+        nodeA.create(game());
+        awaitLeaseExpired();
+
+        assertThat(nodeB.ownerOf(ROOM_ID)).isNull();
+        assertThat(nodeB.claim(ROOM_ID)).isTrue();
+
+        assertThat(nodeB.ownerOf(ROOM_ID)).isEqualTo("node-b");
+        assertThat(nodeB.find(ROOM_ID)).get()
+            .extracting(gameData -> gameData.getGameMemberStatusList().size())
+            .isEqualTo(2);
+        assertThat(eventsB).singleElement().isInstanceOf(GameTakenOverEvent.class);
+    }
+
+    @Test
+    void 진행_중이_아닌_방은_lease_를_잡지_않는다() {
+        assertThat(nodeB.claim(999L)).isFalse();
+
+        assertThat(redisTemplate.hasKey("game:owner:999")).isFalse();
+        assertThat(eventsB).isEmpty();
+    }
+
+    @Test
+    void heartbeat_가_lease_를_연장하는_동안에는_인수되지_않는다() throws Exception {
+        nodeA.create(game());
+        nodeA.start();
+        Thread.sleep(LEASE_MS * 2);
+
+        assertThat(nodeB.claim(ROOM_ID)).isFalse();
+        assertThat(redisTemplate.opsForValue().get("game:owner:" + ROOM_ID)).isEqualTo("node-a");
+    }
+
+    @Test
+    void lease_를_빼앗긴_노드는_heartbeat_에서_손을_뗀다() throws Exception {
+        nodeA.create(game());
+        awaitLeaseExpired();
+        assertThat(nodeB.claim(ROOM_ID)).isTrue();
+
+        nodeA.start();
+
+        awaitUntil(() -> nodeA.find(ROOM_ID).isEmpty());
+        assertThat(eventsA).singleElement().isInstanceOf(GameOwnershipLostEvent.class);
+        assertThat(nodeB.find(ROOM_ID)).isPresent();
+    }
+
+    @Test
+    void 게임_종료는_자기_lease_만_지운다() throws Exception {
+        nodeA.create(game());
+        awaitLeaseExpired();
+        assertThat(nodeB.claim(ROOM_ID)).isTrue();
+        nodeB.start();
+
+        // A 는 이미 소유자가 아니므로 B 의 lease 를 지우면 안 된다
+        nodeA.remove(ROOM_ID);
+
+        assertThat(redisTemplate.opsForValue().get("game:owner:" + ROOM_ID)).isEqualTo("node-b");
+    }
+
+    @Test
+    void 게임을_지우면_GameRemovedEvent_로_로컬_상태_정리를_알린다() {
+        nodeA.create(game());
+
+        nodeA.remove(ROOM_ID);
+
+        assertThat(nodeA.find(ROOM_ID)).isEmpty();
+        assertThat(redisTemplate.hasKey("game:state:" + ROOM_ID)).isFalse();
+        assertThat(eventsA).singleElement().isEqualTo(new GameRemovedEvent(ROOM_ID));
+    }
+
+    @Test
+    void Redis_장애_중_로컬에서_깎은_라이프는_flush_때_기록된다() {
+        RedisGameStateRepository repository = spy(repository());
+        GameStateStore store = store("node-c", repository, new ArrayList<>());
+        GameData gameData = game();
+        store.create(gameData);
+        doThrow(new RedisConnectionFailureException("down"))
+            .when(repository).adjudicate(eq(ROOM_ID), eq(0), anyLong(), anyLong());
+        doThrow(new RedisConnectionFailureException("down"))
+            .when(repository).decrementLife(eq(ROOM_ID), anyLong());
+
+        AnswerVerdict verdict = store.adjudicate(gameData, 1L);
+        store.decrementLife(ROOM_ID, gameData.getGameMemberStatusList().get(0));
+
+        assertThat(verdict.accepted()).isTrue();
+        // 두 번째 감소는 실패했으므로 아직 Redis 에 없다
+        assertThat(life(1L)).isEqualTo("5");
+        store.shutdown();
+        assertThat(life(1L)).isEqualTo("4");
+        assertThat(life(2L)).isEqualTo("4");
+    }
+
+    @Test
+    void Redis_가_돌아오면_로컬_감소분을_먼저_쓰고_이어서_깎는다() {
+        RedisGameStateRepository repository = spy(repository());
+        GameStateStore store = store("node-c", repository, new ArrayList<>());
+        GameData gameData = game();
+        store.create(gameData);
+        GameMemberStatus member = gameData.getGameMemberStatusList().get(1);
+        doThrow(new RedisConnectionFailureException("down"))
+            .when(repository).decrementLife(eq(ROOM_ID), anyLong());
+        store.decrementLife(ROOM_ID, member);
+
+        doCallRealMethod().when(repository).decrementLife(eq(ROOM_ID), anyLong());
+        store.decrementLife(ROOM_ID, member);
+
+        assertThat(member.getLife()).isEqualTo(3);
+        assertThat(life(2L)).isEqualTo("3");
+        store.shutdown();
+    }
+
+    private void awaitLeaseExpired() throws InterruptedException {
+        awaitUntil(() -> !redisTemplate.hasKey("game:owner:" + ROOM_ID));
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+
+    private String life(long memberId) {
+        return (String) redisTemplate.opsForHash().get("game:state:" + ROOM_ID, "life:" + memberId);
+    }
+
+    private RedisGameStateRepository repository() {
+        return new RedisGameStateRepository(redisTemplate, mock(RedisGameRepository.class),
+            new ObjectMapper());
+    }
+
+    private GameStateStore store(String nodeId, List<Object> events) {
+        return store(nodeId, repository(), events);
+    }
+
+    private GameStateStore store(String nodeId, RedisGameStateRepository repository,
+        List<Object> events) {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        RoomActorSystem actorSystem = new RoomActorSystem(registry, 1);
+        closeables.add(actorSystem::shutdown);
+        return new GameStateStore(repository, redisTemplate, actorSystem, events::add, registry,
+            scheduler, nodeId, 60_000, LEASE_MS, false);
+    }
+
+    private static GameData game() {
+        GameData gameData = new GameData();
+        gameData.setRoomId(ROOM_ID);
+        gameData.setQuizNum(0);
+        gameData.setCurrentQuizNum(0);
+        gameData.setGameMemberStatusList(new ArrayList<>(List.of(
+            new GameMemberStatus(1L, "cat", "one", 5),
+            new GameMemberStatus(2L, "cat", "two", 5))));
+        return gameData;
+    }
+}
@@ -0,0 +1,144 @@
+package com.finbattle.domain.quiz.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.finbattle.domain.quiz.dto.QuizDeck;
+import com.finbattle.domain.quiz.dto.QuizDto;
+import com.finbattle.domain.quiz.model.EssayQuiz;
+import com.finbattle.domain.quiz.model.MultipleChoiceQuiz;
+import com.finbattle.domain.quiz.model.ShortAnswerQuiz;
+import com.finbattle.domain.quiz.model.SubjectType;
+import com.finbattle.domain.quiz.repository.EssayQuizRepository;
+import com.finbattle.domain.quiz.repository.MultipleChoiceQuizRepository;
+import com.finbattle.domain.quiz.repository.QuizOptionRepository;
+import com.finbattle.domain.quiz.repository.ShortAnswerQuizRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.TaskScheduler;
+
+/**
+ * 덱 꺼내기/채우기와, 캐시된 문제 id 가 그사이 삭제된 경우 확인. 덱 채우기는 호출한 스레드에서 바로 실행한다
+ */
+class QuizDeckServiceTest {
+
+    private static final SubjectType SUBJECT = SubjectType.FIN_POLICY;
+    private static final int POOL_SIZE = 2;
+
+    private final MultipleChoiceQuizRepository multipleRepository =
+        mock(MultipleChoiceQuizRepository.class);
+    private final ShortAnswerQuizRepository shortRepository = mock(ShortAnswerQuizRepository.class);
+    private final EssayQuizRepository essayRepository = mock(EssayQuizRepository.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    // DB 에서 지워진 객관식 문제
+    private final Set<Long> deleted = new HashSet<>();
+    private QuizDeckService service;
+
+    @BeforeEach
+    void setUp() {
+        when(multipleRepository.findIdsBySubject(SUBJECT)).thenReturn(ids(1, 10));
+        when(shortRepository.findIdsBySubject(SUBJECT)).thenReturn(ids(101, 106));
+        when(essayRepository.findIdsBySubject(SUBJECT)).thenReturn(ids(201, 202));
+        when(multipleRepository.findAllById(any())).thenAnswer(inv -> {
+            Iterable<Long> requested = inv.getArgument(0);
+            List<MultipleChoiceQuiz> found = new ArrayList<>();
+            for (Long id : requested) {
+                if (!deleted.contains(id)) {
+                    MultipleChoiceQuiz quiz = new MultipleChoiceQuiz();
+                    quiz.setQuizId(id);
+                    found.add(quiz);
+                }
+            }
+            return found;
+        });
+        when(shortRepository.findAllById(any())).thenAnswer(inv -> {
+            Iterable<Long> requested = inv.getArgument(0);
+            List<ShortAnswerQuiz> found = new ArrayList<>();
+            for (Long id : requested) {
+                ShortAnswerQuiz quiz = new ShortAnswerQuiz();
+                quiz.setQuizId(id);
+                found.add(quiz);
+            }
+            return found;
+        });
+        when(essayRepository.findById(anyLong())).thenAnswer(inv -> {
+            EssayQuiz quiz = new EssayQuiz();
+            quiz.setQuizId(inv.getArgument(0));
+            return Optional.of(quiz);
+        });
+        QuizOptionRepository optionRepository = mock(QuizOptionRepository.class);
+        when(optionRepository.findByQuizIdInOrderByQuizOptionIdAsc(any())).thenReturn(List.of());
+
+        TaskScheduler scheduler = mock(TaskScheduler.class);
+        when(scheduler.schedule(any(Runnable.class), any(Instant.class))).thenAnswer(inv -> {
+            ((Runnable) inv.getArgument(0)).run();
+            return null;
+        });
+        service = new QuizDeckService(multipleRepository, shortRepository, essayRepository,
+            optionRepository, registry, scheduler, POOL_SIZE, 300_000);
+    }
+
+    @Test
+    void 덱을_꺼내면_다시_채우고_직전_문제와_겹치지_않는_덱을_준다() {
+        QuizDeck first = service.takeDeck(SUBJECT, List.of(1L, 2L));
+
+        assertThat(first.multipleChoiceQuizList()).hasSize(5);
+        assertThat(first.shortAnswerQuizList()).hasSize(3);
+        assertThat(first.essayQuiz()).isNotNull();
+        assertThat(poolSize()).isEqualTo(POOL_SIZE);
+        assertThat(registry.get("game.deck.miss").counter().count()).isEqualTo(1);
+
+        QuizDeck second = service.takeDeck(SUBJECT, List.of(2L, 3L));
+
+        assertThat(Collections.disjoint(first.quizIds(), second.quizIds())).isTrue();
+        assertThat(poolSize()).isEqualTo(POOL_SIZE);
+    }
+
+    @Test
+    void 캐시된_id_가_삭제됐으면_id_목록을_다시_읽어_만든다() {
+        // 캐시에는 1..5 만 있는데 5 는 그사이 삭제되고 6 이 추가됐다
+        when(multipleRepository.findIdsBySubject(SUBJECT))
+            .thenReturn(ids(1, 5), List.of(1L, 2L, 3L, 4L, 6L));
+        deleted.add(5L);
+
+        QuizDeck deck = service.takeDeck(SUBJECT, List.of(1L));
+
+        assertThat(deck.multipleChoiceQuizList()).extracting(QuizDto::getQuizId)
+            .containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 6L);
+        verify(multipleRepository, times(2)).findIdsBySubject(SUBJECT);
+    }
+
+    @Test
+    void 다시_읽어도_모자라면_덱을_만들지_않는다() {
+        when(multipleRepository.findIdsBySubject(SUBJECT)).thenReturn(ids(1, 5));
+        deleted.add(5L);
+
+        assertThatThrownBy(() -> service.takeDeck(SUBJECT, List.of(1L)))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("퀴즈가 부족합니다");
+        assertThat(poolSize()).isZero();
+    }
+
+    private double poolSize() {
+        return registry.get("game.deck.pool").tag("subject", SUBJECT.name()).gauge().value();
+    }
+
+    private static List<Long> ids(long from, long to) {
+        return LongStream.rangeClosed(from, to).boxed().toList();
+    }
+}
@@ -0,0 +1,148 @@
+package com.finbattle.domain.room.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.finbattle.domain.quiz.model.SubjectType;
+import com.finbattle.domain.room.dto.RedisRoomMember;
+import com.finbattle.domain.room.dto.RoomStatus;
+import com.finbattle.domain.room.model.RedisRoom;
+import com.finbattle.support.EmbeddedRedisSupport;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.redis.core.RedisKeyValueAdapter;
+import org.springframework.data.redis.core.RedisKeyValueTemplate;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.mapping.RedisMappingContext;
+import org.springframework.data.redis.repository.support.RedisRepositoryFactory;
+
+/**
+ * RedisRoomBatchReader 가 Spring Data Redis 가 저장한 hash 를 RedisRoomRepository.findById 와 똑같이 푸는지 확인
+ * <p>
+ * 방은 실제 repository 로 저장하므로 필드 이름(host.nickname, members.[10].memberId 등)은 Spring Data 의 형식 그대로다.
+ */
+@Slf4j
+class RedisRoomBatchReaderTest extends EmbeddedRedisSupport {
+
+    private RedisKeyValueAdapter adapter;
+    private RedisRoomRepository redisRoomRepository;
+    private RedisRoomBatchReader reader;
+
+    @BeforeEach
+    void setUp() {
+        RedisTemplate<byte[], byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.afterPropertiesSet();
+        RedisMappingContext mappingContext = new RedisMappingContext();
+        adapter = new RedisKeyValueAdapter(template, mappingContext);
+        redisRoomRepository = new RedisRepositoryFactory(
+            new RedisKeyValueTemplate(adapter, mappingContext))
+            .getRepository(RedisRoomRepository.class);
+        reader = new RedisRoomBatchReader(redisTemplate);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        adapter.destroy();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2, 12})
+    void repository_findById_와_같은_방을_만든다(int memberCount) {
+        RedisRoom saved = room(1L, memberCount);
+        redisRoomRepository.save(saved);
+
+        RedisRoom decoded = reader.findAllById(List.of(1L)).get(1L);
+
+        assertThat(decoded).isEqualTo(redisRoomRepository.findById(1L).orElseThrow());
+        // 10번째 이후 멤버도 index 순서를 지킨다 (members.[10] 이 members.[2] 앞에 오지 않음)
+        assertThat(decoded.getMembers()).extracting(RedisRoomMember::getMemberId)
+            .containsExactlyElementsOf(
+                saved.getMembers().stream().map(RedisRoomMember::getMemberId).toList());
+    }
+
+    @Test
+    void 비어_있는_필드는_null_로_두고_없는_방은_빠진다() {
+        RedisRoom saved = room(1L, 2);
+        saved.setHost(null);
+        saved.getMembers().get(1).setNickname(null);
+        saved.getMembers().get(1).setMainCat(null);
+        redisRoomRepository.save(saved);
+        redisRoomRepository.save(room(3L, 1));
+
+        Map<Long, RedisRoom> rooms = reader.findAllById(List.of(1L, 2L, 3L));
+
+        assertThat(rooms).containsOnlyKeys(1L, 3L);
+        assertThat(rooms.get(1L)).isEqualTo(redisRoomRepository.findById(1L).orElseThrow());
+        assertThat(rooms.get(1L).getHost()).isNull();
+        assertThat(rooms.get(1L).getMembers().get(1).getNickname()).isNull();
+        assertThat(rooms.get(3L)).isEqualTo(redisRoomRepository.findById(3L).orElseThrow());
+        assertThat(reader.findAllById(List.of())).isEmpty();
+    }
+
+    /**
+     * 로비 한 페이지 분량을 방마다 findById 로 읽을 때와 pipeline 한 번으로 읽을 때의 시간 비교
+     */
+    @Test
+    @Tag("benchmark")
+    void pipeline_한_번이_방마다_findById_보다_빠르다() {
+        int rooms = 200;
+        int rounds = 20;
+        List<Long> roomIds = LongStream.rangeClosed(1, rooms).boxed().toList();
+        roomIds.forEach(id -> redisRoomRepository.save(room(id, 2)));
+        Function<List<Long>, Map<Long, RedisRoom>> sequential = ids -> ids.stream()
+            .map(id -> redisRoomRepository.findById(id).orElseThrow())
+            .collect(Collectors.toMap(RedisRoom::getRoomId, Function.identity()));
+
+        assertThat(reader.findAllById(roomIds)).isEqualTo(sequential.apply(roomIds));
+        // JIT 와 커넥션 준비
+        long sequentialNanos = measure(rounds, () -> sequential.apply(roomIds));
+        long pipelinedNanos = measure(rounds, () -> reader.findAllById(roomIds));
+        sequentialNanos = measure(rounds, () -> sequential.apply(roomIds));
+        pipelinedNanos = measure(rounds, () -> reader.findAllById(roomIds));
+
+        log.info("방 {}개 읽기 평균: findById 순차 {}us, pipeline {}us ({}배)", rooms,
+            TimeUnit.NANOSECONDS.toMicros(sequentialNanos / rounds),
+            TimeUnit.NANOSECONDS.toMicros(pipelinedNanos / rounds),
+            String.format("%.1f", (double) sequentialNanos / pipelinedNanos));
+        assertThat(pipelinedNanos).isLessThan(sequentialNanos);
+    }
+
+    private static long measure(int rounds, Runnable task) {
+        long start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            task.run();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static RedisRoom room(Long roomId, int memberCount) {
+        RedisRoom room = new RedisRoom();
+        room.setRoomId(roomId);
+        room.setMaxPeople(Math.max(2, memberCount));
+        room.setSubjectType(SubjectType.FIN_POLICY);
+        room.setStatus(RoomStatus.OPEN);
+        for (int i = 0; i < memberCount; i++) {
+            RedisRoomMember member = new RedisRoomMember();
+            member.setMemberId(100L + i);
+            member.setNickname("닉네임" + i);
+            member.setMainCat("cat" + i);
+            member.setStatus(i == 0 ? "READY" : "UNREADY");
+            room.getMembers().add(member);
+        }
+        if (memberCount > 0) {
+            room.setHost(room.getMembers().get(0));
+        }
+        return room;
+    }
+}
@@ -0,0 +1,222 @@
+package com.finbattle.domain.room.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.finbattle.domain.quiz.model.SubjectType;
+import com.finbattle.domain.room.dto.RedisRoomMember;
+import com.finbattle.domain.room.dto.RoomStatus;
+import com.finbattle.domain.room.model.RedisRoom;
+import com.finbattle.support.EmbeddedRedisSupport;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisKeyValueAdapter;
+import org.springframework.data.redis.core.RedisKeyValueTemplate;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.mapping.RedisMappingContext;
+import org.springframework.data.redis.repository.support.RedisRepositoryFactory;
+
+/**
+ * 입장/퇴장/강퇴 스크립트를 동시에 실행한 뒤 RedisRoomRepository.findById 로 읽은 결과를 확인
+ */
+@Slf4j
+class RedisRoomMembershipRepositoryTest extends EmbeddedRedisSupport {
+
+    private static final Long ROOM_ID = 1L;
+    private static final Long HOST_ID = 1L;
+    private static final int JOINERS = 100;
+
+    private RedisKeyValueAdapter adapter;
+    private RedisRoomRepository redisRoomRepository;
+    private RedisRoomMembershipRepository membership;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        RedisTemplate<byte[], byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.afterPropertiesSet();
+        RedisMappingContext mappingContext = new RedisMappingContext();
+        adapter = new RedisKeyValueAdapter(template, mappingContext);
+        redisRoomRepository = new RedisRepositoryFactory(
+            new RedisKeyValueTemplate(adapter, mappingContext))
+            .getRepository(RedisRoomRepository.class);
+        membership = new RedisRoomMembershipRepository(redisTemplate);
+        executor = Executors.newFixedThreadPool(JOINERS);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        executor.shutdownNow();
+        adapter.destroy();
+    }
+
+    @Test
+    void 동시에_100명이_입장해도_정원을_넘지_않는다() throws Exception {
+        createRoom(2);
+
+        List<Long> results = runTogether(LongStream.rangeClosed(2, JOINERS + 1)
+            .mapToObj(id -> (Callable<Long>) () -> join(id)).toList());
+
+        assertThat(results).containsOnlyOnce(2L);
+        assertThat(results).filteredOn(r -> r == RedisRoomMembershipRepository.FULL)
+            .hasSize(JOINERS - 1);
+        RedisRoom room = redisRoomRepository.findById(ROOM_ID).orElseThrow();
+        assertThat(room.getMembers()).hasSize(2);
+        assertThat(room.getMembers().get(0).getMemberId()).isEqualTo(HOST_ID);
+        assertMembersConsistent(room);
+    }
+
+    @Test
+    @Tag("benchmark")
+    void 동시_입장_100건_처리_시간() throws Exception {
+        createRoom(JOINERS + 1);
+
+        long start = System.nanoTime();
+        List<Long> results = runTogether(LongStream.rangeClosed(2, JOINERS + 1)
+            .mapToObj(id -> (Callable<Long>) () -> join(id)).toList());
+        long elapsed = System.nanoTime() - start;
+
+        log.info("동시 입장 {}건: {}ms ({} joins/s)", JOINERS,
+            TimeUnit.NANOSECONDS.toMillis(elapsed), Math.round(JOINERS / (elapsed / 1e9)));
+        // 모두 성공하고 입장 후 인원은 2..101 이 한 번씩 나온다
+        assertThat(new HashSet<>(results)).isEqualTo(
+            new HashSet<>(LongStream.rangeClosed(2, JOINERS + 1).boxed().toList()));
+        RedisRoom room = redisRoomRepository.findById(ROOM_ID).orElseThrow();
+        assertThat(room.getMembers()).extracting(RedisRoomMember::getMemberId)
+            .containsExactlyInAnyOrderElementsOf(
+                LongStream.rangeClosed(1, JOINERS + 1).boxed().toList());
+        assertMembersConsistent(room);
+    }
+
+    @Test
+    void 입장_퇴장_강퇴가_섞여도_멤버_목록이_어긋나지_않는다() throws Exception {
+        createRoom(JOINERS);
+        // 2..61 이 먼저 들어와 있다
+        for (long id = 2; id <= 61; id++) {
+            assertThat(join(id)).isPositive();
+        }
+
+        List<Callable<Long>> tasks = new ArrayList<>();
+        Set<Long> expected = new HashSet<>(LongStream.rangeClosed(1, 61).boxed().toList());
+        for (long id = 2; id <= 31; id++) {
+            long leaving = id;
+            tasks.add(() -> membership.leave(ROOM_ID, leaving));
+            expected.remove(leaving);
+        }
+        for (long id = 32; id <= 41; id++) {
+            long kicked = id;
+            tasks.add(() -> membership.kick(ROOM_ID, HOST_ID, kicked));
+            expected.remove(kicked);
+        }
+        for (long id = 62; id <= 91; id++) {
+            long joining = id;
+            tasks.add(() -> join(joining));
+            expected.add(joining);
+        }
+        // 방장이 아닌 사람의 강퇴와 없는 사람의 퇴장은 아무것도 바꾸지 않는다
+        tasks.add(() -> membership.kick(ROOM_ID, 50L, 51L));
+        tasks.add(() -> membership.leave(ROOM_ID, 999L));
+
+        List<Long> results = runTogether(tasks);
+
+        assertThat(results.subList(0, 70)).allMatch(r -> r >= 0);
+        assertThat(results.get(70)).isEqualTo(RedisRoomMembershipRepository.NOT_HOST);
+        assertThat(results.get(71)).isEqualTo(RedisRoomMembershipRepository.NOT_MEMBER);
+        RedisRoom room = redisRoomRepository.findById(ROOM_ID).orElseThrow();
+        assertThat(room.getMembers()).extracting(RedisRoomMember::getMemberId)
+            .containsExactlyInAnyOrderElementsOf(expected);
+        assertThat(room.getMembers().get(0).getMemberId()).isEqualTo(HOST_ID);
+        assertMembersConsistent(room);
+    }
+
+    @Test
+    void 같은_사람의_퇴장과_강퇴가_겹치면_한_건만_성공한다() throws Exception {
+        createRoom(JOINERS);
+        for (long id = 2; id <= 51; id++) {
+            join(id);
+        }
+
+        List<Callable<Long>> tasks = new ArrayList<>();
+        for (long id = 2; id <= 51; id++) {
+            long target = id;
+            tasks.add(() -> membership.leave(ROOM_ID, target));
+            tasks.add(() -> membership.kick(ROOM_ID, HOST_ID, target));
+        }
+        List<Long> results = runTogether(tasks);
+
+        for (int i = 0; i < results.size(); i += 2) {
+            assertThat(List.of(results.get(i), results.get(i + 1)))
+                .containsOnlyOnce(RedisRoomMembershipRepository.NOT_MEMBER);
+        }
+        RedisRoom room = redisRoomRepository.findById(ROOM_ID).orElseThrow();
+        assertThat(room.getMembers()).extracting(RedisRoomMember::getMemberId)
+            .containsExactly(HOST_ID);
+    }
+
+    private long join(Long memberId) {
+        return membership.join(ROOM_ID, memberId, "닉네임" + memberId, "cat" + memberId,
+            "UNREADY");
+    }
+
+    private void createRoom(int maxPeople) {
+        RedisRoomMember host = new RedisRoomMember();
+        host.setMemberId(HOST_ID);
+        host.setNickname("닉네임" + HOST_ID);
+        host.setMainCat("cat" + HOST_ID);
+        host.setStatus("READY");
+        RedisRoom room = new RedisRoom();
+        room.setRoomId(ROOM_ID);
+        room.setMaxPeople(maxPeople);
+        room.setSubjectType(SubjectType.FIN_KNOWLEDGE);
+        room.setStatus(RoomStatus.OPEN);
+        room.setHost(host);
+        room.getMembers().add(host);
+        redisRoomRepository.save(room);
+    }
+
+    // 한꺼번에 출발시키고 결과를 작업 순서대로 돌려준다 (작업 수는 스레드 수 JOINERS 이하)
+    private List<Long> runTogether(List<Callable<Long>> tasks) throws Exception {
+        CountDownLatch ready = new CountDownLatch(tasks.size());
+        CountDownLatch go = new CountDownLatch(1);
+        List<Future<Long>> futures = new ArrayList<>();
+        for (Callable<Long> task : tasks) {
+            futures.add(executor.submit(() -> {
+                ready.countDown();
+                go.await();
+                return task.call();
+            }));
+        }
+        assertThat(ready.await(10, TimeUnit.SECONDS)).isTrue();
+        go.countDown();
+        List<Long> results = new ArrayList<>();
+        for (Future<Long> future : futures) {
+            results.add(future.get(30, TimeUnit.SECONDS));
+        }
+        return results;
+    }
+
+    // 자리를 당길 때 필드가 다른 멤버와 섞이지 않았는지 (memberId 와 닉네임/고양이가 짝이 맞는지)
+    private static void assertMembersConsistent(RedisRoom room) {
+        assertThat(room.getMembers()).allSatisfy(member -> {
+            assertThat(member.getMemberId()).isNotNull();
+            assertThat(member.getNickname()).isEqualTo("닉네임" + member.getMemberId());
+            assertThat(member.getMainCat()).isEqualTo("cat" + member.getMemberId());
+        });
+        assertThat(room.getMembers()).extracting(RedisRoomMember::getMemberId)
+            .doesNotHaveDuplicates();
+    }
+}
@@ -0,0 +1,131 @@
+package com.finbattle.domain.room.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finbattle.domain.quiz.model.SubjectType;
+import com.finbattle.domain.room.dto.LobbyDelta;
+import com.finbattle.domain.room.dto.LobbyDelta.Type;
+import com.finbattle.domain.room.dto.RoomResponse;
+import com.finbattle.global.common.redis.RedisPublisher;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.scheduling.TaskScheduler;
+
+/**
+ * 변경을 방 단위로 합치는 규칙과 주제별/ALL 채널 분배 확인. 스케줄러 대신 flush 를 직접 호출한다
+ */
+class LobbyEventPublisherTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final RedisPublisher redisPublisher = mock(RedisPublisher.class);
+    private LobbyEventPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        TaskScheduler scheduler = mock(TaskScheduler.class);
+        doReturn(mock(ScheduledFuture.class)).when(scheduler)
+            .scheduleWithFixedDelay(any(Runnable.class), any(Instant.class), any(Duration.class));
+        publisher = new LobbyEventPublisher(redisPublisher, objectMapper, scheduler, 200);
+    }
+
+    @Test
+    void 생성_뒤_인원_변경은_ADDED_하나로_합친다() throws Exception {
+        publisher.added(SubjectType.FIN_POLICY, room(1L, 1));
+        publisher.countChanged(SubjectType.FIN_POLICY, 1L, 2);
+
+        publisher.flush();
+
+        List<LobbyDelta> deltas = published().get("lobby:FIN_POLICY");
+        assertThat(deltas).singleElement().satisfies(delta -> {
+            assertThat(delta.type()).isEqualTo(Type.ADDED);
+            assertThat(delta.room().getCurrentPlayerCount()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    void 생성_뒤_삭제는_아무것도_보내지_않는다() throws Exception {
+        publisher.added(SubjectType.FIN_POLICY, room(1L, 1));
+        publisher.removed(SubjectType.FIN_POLICY, 1L);
+
+        publisher.flush();
+
+        verify(redisPublisher, never()).publishRaw(anyString(), any());
+    }
+
+    @Test
+    void 이미_보낸_방의_변경은_마지막_것만_남긴다() throws Exception {
+        publisher.countChanged(SubjectType.FIN_POLICY, 1L, 2);
+        publisher.countChanged(SubjectType.FIN_POLICY, 1L, 1);
+        publisher.removed(SubjectType.FIN_POLICY, 2L);
+
+        publisher.flush();
+
+        assertThat(published().get("lobby:FIN_POLICY"))
+            .containsExactly(LobbyDelta.count(1L, 1), LobbyDelta.removed(2L));
+    }
+
+    @Test
+    void 주제별_채널에는_자기_변경만_ALL_에는_전부_보낸다() throws Exception {
+        publisher.added(SubjectType.FIN_POLICY, room(1L, 1));
+        publisher.countChanged(SubjectType.FIN_KNOWLEDGE, 2L, 2);
+
+        publisher.flush();
+
+        Map<String, List<LobbyDelta>> published = published();
+        assertThat(published).containsOnlyKeys("lobby:FIN_POLICY", "lobby:FIN_KNOWLEDGE",
+            "lobby:ALL");
+        assertThat(published.get("lobby:FIN_POLICY")).extracting(LobbyDelta::roomId)
+            .containsExactly(1L);
+        assertThat(published.get("lobby:FIN_KNOWLEDGE")).containsExactly(
+            LobbyDelta.count(2L, 2));
+        assertThat(published.get("lobby:ALL")).extracting(LobbyDelta::roomId)
+            .containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    void 보낸_뒤에는_다음_flush_에서_다시_보내지_않는다() throws Exception {
+        publisher.countChanged(SubjectType.FIN_POLICY, 1L, 2);
+        publisher.flush();
+        publisher.flush();
+
+        assertThat(published()).containsOnlyKeys("lobby:FIN_POLICY", "lobby:ALL");
+    }
+
+    // 채널 -> 마지막으로 발행된 변경분
+    private Map<String, List<LobbyDelta>> published() throws Exception {
+        ArgumentCaptor<String> channels = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<byte[]> payloads = ArgumentCaptor.forClass(byte[].class);
+        verify(redisPublisher, atLeastOnce())
+            .publishRaw(channels.capture(), payloads.capture());
+        Map<String, List<LobbyDelta>> published = new HashMap<>();
+        for (int i = 0; i < channels.getAllValues().size(); i++) {
+            published.put(channels.getAllValues().get(i), objectMapper.readValue(
+                payloads.getAllValues().get(i), new TypeReference<List<LobbyDelta>>() {
+                }));
+        }
+        return published;
+    }
+
+    private static RoomResponse room(Long roomId, int count) {
+        RoomResponse room = new RoomResponse();
+        room.setRoomId(roomId);
+        room.setCurrentPlayerCount(count);
+        return room;
+    }
+}
@@ -0,0 +1,95 @@
+package com.finbattle.domain.room.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.finbattle.domain.quiz.model.SubjectType;
+import com.finbattle.domain.room.repository.RedisRoomBatchReader;
+import com.finbattle.domain.room.repository.RoomRepository;
+import com.finbattle.support.EmbeddedRedisSupport;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class LobbyIndexServiceTest extends EmbeddedRedisSupport {
+
+    private final LobbyEventPublisher lobbyEventPublisher = mock(LobbyEventPublisher.class);
+    private LobbyIndexService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new LobbyIndexService(redisTemplate, mock(RoomRepository.class),
+            mock(RedisRoomBatchReader.class), lobbyEventPublisher, true);
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void 인덱스에_있는_방만_인원을_바꾼다() {
+        indexRoom(1L);
+
+        service.updatePlayerCount(1L, 2);
+        service.updatePlayerCount(2L, 1);
+
+        assertThat(redisTemplate.opsForHash().get("lobby:room:1", "currentPlayerCount"))
+            .isEqualTo("2");
+        // 이미 빠진 방의 hash 를 인원 필드만으로 되살리지 않는다
+        assertThat(redisTemplate.hasKey("lobby:room:2")).isFalse();
+        verify(lobbyEventPublisher).countChanged(SubjectType.FIN_CRIME, 1L, 2);
+        verify(lobbyEventPublisher, never()).countChanged(any(), eq(2L), anyInt());
+    }
+
+    @Test
+    void 트랜잭션_안에서는_커밋된_뒤에_제거한다() {
+        indexRoom(1L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        service.remove(1L, SubjectType.FIN_CRIME);
+        assertThat(redisTemplate.hasKey("lobby:room:1")).isTrue();
+
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(TransactionSynchronization::afterCommit);
+        assertThat(redisTemplate.hasKey("lobby:room:1")).isFalse();
+        assertThat(redisTemplate.opsForZSet().zCard("lobby:open:all")).isZero();
+        verify(lobbyEventPublisher).removed(SubjectType.FIN_CRIME, 1L);
+    }
+
+    @Test
+    void 롤백되면_인덱스를_건드리지_않는다() {
+        indexRoom(1L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        service.remove(1L, SubjectType.FIN_CRIME);
+        service.updatePlayerCount(1L, 2);
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertThat(redisTemplate.opsForHash().get("lobby:room:1", "currentPlayerCount"))
+            .isEqualTo("1");
+        assertThat(redisTemplate.opsForZSet().score("lobby:open:all", "1")).isNotNull();
+        verify(lobbyEventPublisher, never()).removed(any(), any());
+    }
+
+    private void indexRoom(Long roomId) {
+        redisTemplate.opsForHash().putAll("lobby:room:" + roomId, Map.of(
+            "roomId", String.valueOf(roomId),
+            "subjectType", SubjectType.FIN_CRIME.name(),
+            "currentPlayerCount", "1"));
+        redisTemplate.opsForZSet().add("lobby:open:all", String.valueOf(roomId), 1);
+        redisTemplate.opsForZSet().add("lobby:open:" + SubjectType.FIN_CRIME, String.valueOf(roomId),
+            1);
+    }
+}
@@ -0,0 +1,157 @@
+package com.finbattle.domain.room.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finbattle.domain.member.model.Member;
+import com.finbattle.domain.member.repository.MemberRepository;
+import com.finbattle.domain.quiz.model.SubjectType;
+import com.finbattle.domain.room.dto.MatchResult;
+import com.finbattle.domain.room.dto.RoomResponse;
+import com.finbattle.global.common.redis.RedisPublisher;
+import com.finbattle.support.EmbeddedRedisSupport;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+class MatchmakingServiceTest extends EmbeddedRedisSupport {
+
+    private static final String QUEUE = "match:queue:FIN_KNOWLEDGE:0";
+    private static final long HEARTBEAT_MS = 50;
+    private static final long TTL_MS = 300;
+
+    private final MemberRepository memberRepository = mock(MemberRepository.class);
+    private final RoomService roomService = mock(RoomService.class);
+    private final RoomSubscriptionService roomSubscriptionService =
+        mock(RoomSubscriptionService.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private ThreadPoolTaskScheduler scheduler;
+    private MatchmakingService service;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.initialize();
+        Member member = mock(Member.class);
+        when(memberRepository.findByMemberId(anyLong())).thenReturn(Optional.of(member));
+        RoomResponse room = new RoomResponse();
+        room.setRoomId(10L);
+        when(roomService.createRoom(anyLong(), any())).thenReturn(room);
+        service = new MatchmakingService(redisTemplate, memberRepository, roomService,
+            roomSubscriptionService, mock(RedisPublisher.class), new ObjectMapper(), registry,
+            scheduler, 0, HEARTBEAT_MS, TTL_MS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+        scheduler.shutdown();
+    }
+
+    @Test
+    void 먼저_기다린_사용자와_짝을_짓고_대기_시간은_한_번만_기록한다() {
+        assertThat(service.enqueue(1L, SubjectType.FIN_KNOWLEDGE)).isNull();
+        assertThatThrownBy(() -> service.enqueue(1L, SubjectType.FIN_KNOWLEDGE))
+            .isInstanceOf(IllegalStateException.class);
+
+        MatchResult match = service.enqueue(2L, SubjectType.FIN_KNOWLEDGE);
+
+        assertThat(match.roomId()).isEqualTo(10L);
+        assertThat(match.memberIds()).containsExactly(1L, 2L);
+        assertQueueEmpty();
+        assertThat(registry.get("match.wait").timer().count()).isEqualTo(1);
+        assertThat(registry.get("match.paired").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void 취소하면_대기열과_확인_시각이_모두_지워진다() {
+        service.enqueue(1L, SubjectType.FIN_KNOWLEDGE);
+
+        assertThat(service.cancel(1L)).isTrue();
+        assertThat(service.cancel(1L)).isFalse();
+        assertQueueEmpty();
+        // 취소한 사용자와는 짝이 지어지지 않는다
+        assertThat(service.enqueue(2L, SubjectType.FIN_KNOWLEDGE)).isNull();
+    }
+
+    @Test
+    void 확인_시각이_ttl_을_넘은_항목은_건너뛴다() {
+        // 1 을 받은 노드는 죽어 heartbeat 가 끊겼고, 그 뒤에 살아 있는 노드의 4 가 기다리는 상황
+        long now = System.currentTimeMillis();
+        waitOnOtherNode(1L, now - 2, now - TTL_MS * 10);
+        waitOnOtherNode(4L, now - 1, now);
+
+        MatchResult match = service.enqueue(2L, SubjectType.FIN_KNOWLEDGE);
+
+        assertThat(match.memberIds()).containsExactly(4L, 2L);
+        assertQueueEmpty();
+        assertThat(registry.get("match.expired").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void 대기를_받은_노드가_살아_있으면_ttl_이_지나도_남는다() throws Exception {
+        service.enqueue(1L, SubjectType.FIN_KNOWLEDGE);
+
+        Thread.sleep(TTL_MS * 2);
+
+        MatchResult match = service.enqueue(2L, SubjectType.FIN_KNOWLEDGE);
+        assertThat(match).isNotNull();
+        assertThat(match.memberIds()).containsExactly(1L, 2L);
+        assertThat(registry.get("match.expired").counter().count()).isZero();
+    }
+
+    @Test
+    void 게임_시작에_실패하면_방을_닫고_상대를_원래_순서로_되돌린다() {
+        service.enqueue(1L, SubjectType.FIN_KNOWLEDGE);
+        Double waitedSince = redisTemplate.opsForZSet().score(QUEUE, "1");
+        doThrow(new IllegalArgumentException("Redis에 해당 방이 존재하지 않습니다."))
+            .when(roomService).startRoom(10L, 1L);
+
+        assertThatThrownBy(() -> service.enqueue(2L, SubjectType.FIN_KNOWLEDGE))
+            .isInstanceOf(IllegalStateException.class);
+
+        verify(roomService).abortRoom(10L);
+        assertThat(redisTemplate.opsForZSet().range(QUEUE, 0, -1)).containsExactly("1");
+        assertThat(redisTemplate.opsForZSet().score(QUEUE, "1")).isEqualTo(waitedSince);
+        assertThat(redisTemplate.opsForHash().get("match:waiting", "1")).isEqualTo(QUEUE);
+        assertThat(redisTemplate.opsForHash().hasKey("match:alive", "1")).isTrue();
+        assertThat(redisTemplate.opsForHash().hasKey("match:waiting", "2")).isFalse();
+        assertThat(registry.get("match.failed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void 방을_만들지_못하면_정리할_방이_없다() {
+        when(roomService.createRoom(anyLong(), any()))
+            .thenThrow(new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        service.enqueue(1L, SubjectType.FIN_KNOWLEDGE);
+
+        assertThatThrownBy(() -> service.enqueue(2L, SubjectType.FIN_KNOWLEDGE))
+            .isInstanceOf(IllegalStateException.class);
+
+        verify(roomService, never()).abortRoom(anyLong());
+        assertThat(redisTemplate.opsForZSet().range(QUEUE, 0, -1)).containsExactly("1");
+    }
+
+    private void waitOnOtherNode(Long memberId, long since, long lastSeen) {
+        redisTemplate.opsForZSet().add(QUEUE, String.valueOf(memberId), since);
+        redisTemplate.opsForHash().put("match:waiting", String.valueOf(memberId), QUEUE);
+        redisTemplate.opsForHash().put("match:alive", String.valueOf(memberId),
+            String.valueOf(lastSeen));
+    }
+
+    private void assertQueueEmpty() {
+        assertThat(redisTemplate.keys("match:*")).isEmpty();
+    }
+}
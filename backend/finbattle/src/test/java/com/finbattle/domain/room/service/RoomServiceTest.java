@@ -0,0 +1,131 @@
+package com.finbattle.domain.room.service;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.finbattle.domain.game.service.GameService;
+import com.finbattle.domain.game.service.GameStateStore;
+import com.finbattle.domain.member.model.Member;
+import com.finbattle.domain.member.repository.MemberRepository;
+import com.finbattle.domain.quiz.dto.QuizDeck;
+import com.finbattle.domain.quiz.model.SubjectType;
+import com.finbattle.domain.quiz.service.QuizDeckService;
+import com.finbattle.domain.room.dto.RedisRoomMember;
+import com.finbattle.domain.room.dto.RoomStatus;
+import com.finbattle.domain.room.model.RedisRoom;
+import com.finbattle.domain.room.model.Room;
+import com.finbattle.domain.room.repository.RedisRoomBatchReader;
+import com.finbattle.domain.room.repository.RedisRoomMembershipRepository;
+import com.finbattle.domain.room.repository.RedisRoomRepository;
+import com.finbattle.domain.room.repository.RoomRepository;
+import com.finbattle.global.common.redis.RedisPublisher;
+import com.finbattle.global.common.timer.GameTimer;
+import com.finbattle.global.common.timer.TimerKind;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * startRoom 이 트랜잭션 결과에 맞춰 Redis 상태와 시작 이벤트를 처리하는지 확인
+ * <p>
+ * 실제 트랜잭션 대신 TransactionSynchronizationManager 에 등록된 콜백을 직접 호출한다.
+ */
+class RoomServiceTest {
+
+    private static final Long ROOM_ID = 7L;
+    private static final Long HOST_ID = 1L;
+
+    private final RoomRepository roomRepository = mock(RoomRepository.class);
+    private final RedisRoomRepository redisRoomRepository = mock(RedisRoomRepository.class);
+    private final RedisPublisher redisPublisher = mock(RedisPublisher.class);
+    private final GameStateStore gameStateStore = mock(GameStateStore.class);
+    private final QuizDeckService quizDeckService = mock(QuizDeckService.class);
+    private final GameTimer gameTimer = mock(GameTimer.class);
+    private final RedisRoomMembershipRepository membership =
+        mock(RedisRoomMembershipRepository.class);
+    private RoomService roomService;
+
+    @BeforeEach
+    void setUp() {
+        roomService = new RoomService(roomRepository, mock(MemberRepository.class),
+            redisRoomRepository, redisPublisher, gameStateStore, quizDeckService,
+            mock(GameService.class), gameTimer, mock(LobbyIndexService.class),
+            mock(RedisRoomBatchReader.class), membership);
+
+        Member host = mock(Member.class);
+        when(host.getMemberId()).thenReturn(HOST_ID);
+        Room room = new Room();
+        room.setHostMember(host);
+        room.setSubjectType(SubjectType.FIN_KNOWLEDGE);
+        room.setStatus(RoomStatus.OPEN);
+        when(roomRepository.findById(ROOM_ID)).thenReturn(Optional.of(room));
+
+        RedisRoomMember member = new RedisRoomMember();
+        member.setMemberId(HOST_ID);
+        RedisRoom redisRoom = new RedisRoom();
+        redisRoom.setRoomId(ROOM_ID);
+        redisRoom.getMembers().add(member);
+        when(redisRoomRepository.findById(ROOM_ID)).thenReturn(Optional.of(redisRoom));
+        when(membership.updateRoomStatus(eq(ROOM_ID), any())).thenReturn(true);
+
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void 덱이_부족해_롤백되면_Redis_방을_다시_연다() {
+        when(quizDeckService.takeDeck(any(), any()))
+            .thenThrow(new IllegalStateException("퀴즈가 부족합니다"));
+
+        assertThatThrownBy(() -> roomService.startRoom(ROOM_ID, HOST_ID))
+            .isInstanceOf(IllegalStateException.class);
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        verify(membership).updateRoomStatus(ROOM_ID, RoomStatus.IN_PROGRESS);
+        verify(membership).updateRoomStatus(ROOM_ID, RoomStatus.OPEN);
+        verify(gameStateStore).remove(ROOM_ID);
+        verify(redisPublisher, never()).publish(anyString(), any());
+        verify(gameTimer, never()).schedule(anyLong(), any(), any(), anyLong(), any());
+    }
+
+    @Test
+    void 시작_이벤트와_타이머는_커밋된_뒤에_실행한다() {
+        when(quizDeckService.takeDeck(any(), any()))
+            .thenReturn(new QuizDeck(List.of(), List.of(), null));
+
+        roomService.startRoom(ROOM_ID, HOST_ID);
+        verify(gameStateStore).create(any());
+        verify(redisPublisher, never()).publish(anyString(), any());
+
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(TransactionSynchronization::afterCommit);
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        verify(redisPublisher).publish(eq("room:" + ROOM_ID), any());
+        verify(gameTimer).schedule(eq(ROOM_ID), eq(TimerKind.START_DELAY), any(), eq(3L),
+            eq(TimeUnit.SECONDS));
+        verify(membership, never()).updateRoomStatus(ROOM_ID, RoomStatus.OPEN);
+        verify(gameStateStore, never()).remove(anyLong());
+    }
+
+    private static void complete(int status) {
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(sync -> sync.afterCompletion(status));
+    }
+}
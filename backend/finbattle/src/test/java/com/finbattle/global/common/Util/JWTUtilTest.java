@@ -0,0 +1,140 @@
+package com.finbattle.global.common.Util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.finbattle.global.common.exception.exception.BusinessException;
+import com.finbattle.global.common.model.dto.BaseResponseStatus;
+import com.finbattle.global.common.model.dto.JwtClaims;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@Slf4j
+class JWTUtilTest {
+
+    private static final String SECRET = "test-access-secret-test-access-secret";
+    private static final int THREADS = 8;
+    private static final int LOOKUPS = 200_000;
+
+    @Test
+    void 캐시된_토큰은_같은_claim_을_돌려주고_만료되면_거부한다() throws Exception {
+        JWTUtil jwtUtil = jwtUtil(100, 1500);
+        String token = jwtUtil.createAccessToken("provider", 7L);
+
+        JwtClaims first = jwtUtil.parseAccessToken(token);
+        assertThat(jwtUtil.parseAccessToken(token)).isSameAs(first);
+
+        awaitPast(first.expiresAt());
+        assertThatThrownBy(() -> jwtUtil.parseAccessToken(token))
+            .isInstanceOfSatisfying(BusinessException.class, e ->
+                assertThat(e.getBaseResponseStatus()).isEqualTo(BaseResponseStatus.JWT_EXPIRED));
+    }
+
+    @Test
+    void 캐시는_설정한_크기를_넘지_않는다() {
+        JWTUtil jwtUtil = jwtUtil(10, 60_000);
+
+        for (long memberId = 0; memberId < 100; memberId++) {
+            String token = jwtUtil.createAccessToken("provider", memberId);
+            assertThat(jwtUtil.parseAccessToken(token).memberId()).isEqualTo(memberId);
+        }
+
+        assertThat(cache(jwtUtil)).hasSizeLessThanOrEqualTo(10);
+    }
+
+    /**
+     * 캐시 적중 조회 처리량: 이전 구현(synchronizedMap + access-order LinkedHashMap)과 지금 구현을 같은 스레드 수로 비교
+     */
+    @Test
+    @Tag("benchmark")
+    void 동시_조회_처리량_비교() throws Exception {
+        JWTUtil jwtUtil = jwtUtil(10_000, 60_000);
+        List<String> tokens = new ArrayList<>();
+        for (long memberId = 0; memberId < 1000; memberId++) {
+            tokens.add(jwtUtil.createAccessToken("provider", memberId));
+        }
+        Map<String, JwtClaims> synchronizedLru = synchronizedLru(10_000);
+        for (String token : tokens) {
+            synchronizedLru.put(token, jwtUtil.parseAccessToken(token));
+        }
+
+        Function<String, JwtClaims> previous = token -> {
+            JwtClaims cached = synchronizedLru.get(token);
+            return cached != null && !cached.isExpired(System.currentTimeMillis()) ? cached : null;
+        };
+        double previousRate = lookupsPerSecond(tokens, previous);
+        double currentRate = lookupsPerSecond(tokens, jwtUtil::parseAccessToken);
+
+        log.info("캐시 적중 조회 처리량 ({} threads, {} cpus): synchronized LRU={}/s, concurrent={}/s",
+            THREADS, Runtime.getRuntime().availableProcessors(), Math.round(previousRate),
+            Math.round(currentRate));
+        assertThat(cache(jwtUtil)).hasSize(tokens.size());
+    }
+
+    // 만료 판정은 실제 시계를 보므로 시각이 지날 때까지 짧게 확인한다
+    private static void awaitPast(long epochMillis) throws InterruptedException {
+        while (System.currentTimeMillis() <= epochMillis) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static double lookupsPerSecond(List<String> tokens,
+        Function<String, JwtClaims> lookup) throws Exception {
+        run(tokens, lookup); // warmup
+        long start = System.nanoTime();
+        run(tokens, lookup);
+        long elapsed = System.nanoTime() - start;
+        return THREADS * (double) LOOKUPS / (elapsed / (double) TimeUnit.SECONDS.toNanos(1));
+    }
+
+    private static void run(List<String> tokens, Function<String, JwtClaims> lookup)
+        throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int offset = t;
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < LOOKUPS; i++) {
+                    assertThat(lookup.apply(tokens.get((i + offset) % tokens.size()))).isNotNull();
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+    }
+
+    private static JWTUtil jwtUtil(int cacheSize, long validityMs) {
+        JWTUtil jwtUtil = new JWTUtil(SECRET, SECRET + "-refresh", cacheSize);
+        ReflectionTestUtils.setField(jwtUtil, "accessTokenValidity", validityMs);
+        return jwtUtil;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, JwtClaims> cache(JWTUtil jwtUtil) {
+        return (Map<String, JwtClaims>) ReflectionTestUtils.getField(jwtUtil,
+            "verifiedAccessTokens");
+    }
+
+    private static Map<String, JwtClaims> synchronizedLru(int maxSize) {
+        return Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, JwtClaims> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+}
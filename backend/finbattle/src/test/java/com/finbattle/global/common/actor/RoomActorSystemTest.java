@@ -0,0 +1,128 @@
+package com.finbattle.global.common.actor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RoomActorSystemTest {
+
+    private static final Long ROOM_ID = 7L;
+
+    private SimpleMeterRegistry registry;
+    private RoomActorSystem actorSystem;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        actorSystem = new RoomActorSystem(registry, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        actorSystem.shutdown();
+    }
+
+    @Test
+    void 열리지_않은_방으로_온_메시지는_버린다() {
+        boolean delivered = actorSystem.tell(ROOM_ID, () -> {
+        });
+
+        assertThat(delivered).isFalse();
+        assertThat(actorSystem.isOpen(ROOM_ID)).isFalse();
+        assertThat(roomsGauge()).isZero();
+        assertThat(dropped()).isEqualTo(1);
+    }
+
+    @Test
+    void release_이후의_tell_은_mailbox_를_다시_만들지_않는다() throws Exception {
+        actorSystem.open(ROOM_ID);
+        List<Integer> processed = new CopyOnWriteArrayList<>();
+        actorSystem.tell(ROOM_ID, () -> processed.add(1));
+        actorSystem.release(ROOM_ID);
+        awaitClosed();
+
+        boolean delivered = actorSystem.tell(ROOM_ID, () -> processed.add(2));
+
+        assertThat(delivered).isFalse();
+        assertThat(actorSystem.isOpen(ROOM_ID)).isFalse();
+        assertThat(roomsGauge()).isZero();
+        assertThat(processed).containsExactly(1);
+    }
+
+    @Test
+    void release_뒤에_쌓인_메시지는_실행하지_않는다() throws Exception {
+        actorSystem.open(ROOM_ID);
+        CountDownLatch blocker = new CountDownLatch(1);
+        AtomicBoolean lateRan = new AtomicBoolean();
+        actorSystem.tell(ROOM_ID, () -> {
+            try {
+                blocker.await(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        actorSystem.release(ROOM_ID);
+        actorSystem.tell(ROOM_ID, () -> lateRan.set(true));
+        blocker.countDown();
+        awaitClosed();
+
+        assertThat(lateRan).isFalse();
+    }
+
+    @Test
+    void 다시_열린_방은_이전_mailbox_와_동시에_실행되지_않는다() throws Exception {
+        actorSystem.open(ROOM_ID);
+        CountDownLatch oldRunning = new CountDownLatch(1);
+        CountDownLatch releaseOld = new CountDownLatch(1);
+        AtomicBoolean overlapped = new AtomicBoolean();
+        AtomicBoolean oldBusy = new AtomicBoolean();
+        actorSystem.tell(ROOM_ID, () -> {
+            oldBusy.set(true);
+            oldRunning.countDown();
+            try {
+                releaseOld.await(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            oldBusy.set(false);
+        });
+        actorSystem.release(ROOM_ID);
+        assertThat(oldRunning.await(1, TimeUnit.SECONDS)).isTrue();
+
+        // 이전 mailbox 가 아직 release 를 처리하지 않은 상태에서 다시 연다
+        actorSystem.open(ROOM_ID);
+        CountDownLatch done = new CountDownLatch(1);
+        actorSystem.tell(ROOM_ID, () -> {
+            overlapped.set(oldBusy.get());
+            done.countDown();
+        });
+        releaseOld.countDown();
+
+        assertThat(done.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(overlapped).isFalse();
+        assertThat(actorSystem.isOpen(ROOM_ID)).isTrue();
+    }
+
+    private void awaitClosed() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (actorSystem.isOpen(ROOM_ID) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private double roomsGauge() {
+        return registry.get("game.actor.rooms").gauge().value();
+    }
+
+    private double dropped() {
+        return registry.get("game.actor.message.dropped").counter().count();
+    }
+}
@@ -0,0 +1,89 @@
+package com.finbattle.global.common.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+class WriteBehindBufferTest {
+
+    private final List<Integer> written = new CopyOnWriteArrayList<>();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private ThreadPoolTaskScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    void close_는_남은_항목을_기록하고_이후_offer_는_버린다() {
+        WriteBehindBuffer<Integer> buffer = buffer(100);
+        buffer.offer(1);
+        buffer.offer(2);
+
+        buffer.close();
+
+        assertThat(written).containsExactly(1, 2);
+        assertThat(buffer.offer(3)).isFalse();
+        assertThat(written).containsExactly(1, 2);
+        assertThat(dropped()).isEqualTo(1);
+        assertThat(pending()).isZero();
+    }
+
+    @Test
+    void 스케줄러가_먼저_종료돼도_offer_는_예외를_던지지_않는다() {
+        WriteBehindBuffer<Integer> buffer = buffer(2);
+        scheduler.shutdown();
+
+        assertThatCode(() -> {
+            for (int i = 0; i < 5; i++) {
+                assertThat(buffer.offer(i)).isTrue();
+            }
+        }).doesNotThrowAnyException();
+
+        buffer.close();
+        assertThat(written).containsExactly(0, 1, 2, 3, 4);
+        assertThat(dropped()).isZero();
+    }
+
+    @Test
+    void 용량을_넘은_항목은_버린다() {
+        WriteBehindBuffer<Integer> buffer = new WriteBehindBuffer<>("test", 2, 100, 60_000,
+            written::addAll, scheduler, registry);
+
+        assertThat(buffer.offer(1)).isTrue();
+        assertThat(buffer.offer(2)).isTrue();
+        assertThat(buffer.offer(3)).isFalse();
+
+        buffer.close();
+        assertThat(written).containsExactly(1, 2);
+        assertThat(dropped()).isEqualTo(1);
+    }
+
+    private WriteBehindBuffer<Integer> buffer(int batchSize) {
+        return new WriteBehindBuffer<>("test", 100, batchSize, 60_000, written::addAll, scheduler,
+            registry);
+    }
+
+    private double dropped() {
+        return registry.get("writebehind.dropped").counter().count();
+    }
+
+    private double pending() {
+        return registry.get("writebehind.pending").gauge().value();
+    }
+}
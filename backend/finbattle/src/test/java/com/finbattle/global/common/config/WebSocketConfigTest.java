@@ -0,0 +1,119 @@
+package com.finbattle.global.common.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.finbattle.global.common.handler.StompHandler;
+import com.finbattle.global.common.handler.WebSocketHandshakeInterceptor;
+import com.finbattle.global.common.metrics.WebSocketMetrics;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHandlingRunnable;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 채널 대기열이 가득 찼을 때 어떤 프레임이 버려지고 어떤 프레임이 호출한 스레드에서 처리되는지 확인
+ */
+class WebSocketConfigTest {
+
+    private final WebSocketMetrics metrics = mock(WebSocketMetrics.class);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private ThreadPoolTaskExecutor executor;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        WebSocketConfig config = new WebSocketConfig(mock(StompHandler.class),
+            mock(WebSocketHandshakeInterceptor.class), metrics);
+        executor = config.channelExecutor("inbound", 1, 1, 1);
+        executor.initialize();
+        // 작업 스레드 하나를 붙잡고 대기열 한 칸을 채운다
+        CountDownLatch running = new CountDownLatch(1);
+        executor.execute(() -> {
+            running.countDown();
+            await(release);
+        });
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+        executor.execute(() -> {
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = SimpMessageType.class,
+        names = {"CONNECT", "DISCONNECT", "SUBSCRIBE", "UNSUBSCRIBE", "CONNECT_ACK",
+            "DISCONNECT_ACK"})
+    void 수명주기_프레임은_가득_차도_호출한_스레드에서_처리한다(SimpMessageType type) {
+        AtomicReference<Thread> handledOn = new AtomicReference<>();
+
+        executor.execute(frame(type, message -> handledOn.set(Thread.currentThread())));
+
+        assertThat(handledOn.get()).isSameAs(Thread.currentThread());
+        verify(metrics, never()).channelRejected("inbound");
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = SimpMessageType.class, names = {"MESSAGE", "HEARTBEAT"})
+    void 일반_프레임은_가득_차면_버리고_센다(SimpMessageType type) {
+        assertThatThrownBy(() -> executor.execute(frame(type, message -> {
+        }))).isInstanceOf(RejectedExecutionException.class);
+
+        verify(metrics).channelRejected("inbound");
+    }
+
+    @Test
+    void 메시지가_아닌_작업은_가득_차면_버린다() {
+        assertThatThrownBy(() -> executor.execute(() -> {
+        })).isInstanceOf(RejectedExecutionException.class);
+    }
+
+    private static MessageHandlingRunnable frame(SimpMessageType type, MessageHandler handler) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(type);
+        accessor.setSessionId("session-1");
+        Message<byte[]> message = MessageBuilder.createMessage(new byte[0],
+            accessor.getMessageHeaders());
+        return new MessageHandlingRunnable() {
+            @Override
+            public Message<?> getMessage() {
+                return message;
+            }
+
+            @Override
+            public MessageHandler getMessageHandler() {
+                return handler;
+            }
+
+            @Override
+            public void run() {
+                handler.handleMessage(message);
+            }
+        };
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.finbattle.global.common.handler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.finbattle.domain.chat.model.StompPrincipal;
+import com.finbattle.global.common.Util.JWTUtil;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@Slf4j
+class StompHandlerTest {
+
+    private static final String SECRET = "test-access-secret-test-access-secret";
+    private static final int FRAMES = 20_000;
+
+    private JWTUtil jwtUtil;
+    private StompHandler stompHandler;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        // 매 프레임 서명 검증과 비교하려고 검증 캐시는 끈다
+        jwtUtil = new JWTUtil(SECRET, SECRET + "-refresh", 0);
+        ReflectionTestUtils.setField(jwtUtil, "accessTokenValidity", 60_000L);
+        stompHandler = new StompHandler(jwtUtil);
+        token = jwtUtil.createAccessToken("provider", 7L);
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void CONNECT_는_사용자를_헤더에만_넣고_SecurityContext_는_건드리지_않는다() {
+        Map<String, Object> session = new HashMap<>();
+        StompHeaderAccessor connect = accessor(StompCommand.CONNECT, session);
+        connect.addNativeHeader("Authorization", "Bearer " + token);
+
+        stompHandler.preSend(message(connect), null);
+
+        assertThat(connect.getUser()).isInstanceOf(StompPrincipal.class);
+        assertThat(connect.getUser().getName()).isEqualTo("7");
+        assertThat(session).containsKey("stomp.expiresAt");
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    void SEND_는_세션_사용자를_쓰고_토큰을_다시_검증하지_않는다() {
+        Map<String, Object> session = new HashMap<>();
+        session.put("stomp.expiresAt", System.currentTimeMillis() + 60_000);
+        StompHeaderAccessor send = sendFrom(new StompPrincipal(7L), session);
+
+        stompHandler.preSend(message(send), null);
+
+        assertThat(send.getUser().getName()).isEqualTo("7");
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    void 만료된_세션의_SEND_는_거부한다() {
+        Map<String, Object> session = new HashMap<>();
+        session.put("stomp.expiresAt", System.currentTimeMillis() - 1);
+        StompHeaderAccessor send = sendFrom(new StompPrincipal(7L), session);
+
+        assertThatThrownBy(() -> stompHandler.preSend(message(send), null))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 사용자가_없는_SEND_는_Authorization_헤더를_검증한다() {
+        StompHeaderAccessor withoutHeader = sendFrom(null, new HashMap<>());
+        assertThatThrownBy(() -> stompHandler.preSend(message(withoutHeader), null))
+            .isInstanceOf(IllegalArgumentException.class);
+
+        StompHeaderAccessor withHeader = sendFrom(null, new HashMap<>());
+        withHeader.addNativeHeader("Authorization", "Bearer " + token);
+        stompHandler.preSend(message(withHeader), null);
+        assertThat(withHeader.getUser().getName()).isEqualTo("7");
+    }
+
+    /**
+     * SEND 프레임 처리량: CONNECT 때 묶어 둔 세션 사용자를 쓰는 경우와 프레임마다 Authorization 헤더를 검증하는 경우
+     */
+    @Test
+    @Tag("benchmark")
+    void SEND_프레임_처리량_비교() {
+        Map<String, Object> session = new HashMap<>();
+        session.put("stomp.expiresAt", System.currentTimeMillis() + 60_000);
+        StompPrincipal principal = new StompPrincipal(7L);
+
+        double sessionRate = framesPerSecond(() -> sendFrom(principal, session));
+        double headerRate = framesPerSecond(() -> {
+            StompHeaderAccessor send = sendFrom(null, session);
+            send.addNativeHeader("Authorization", "Bearer " + token);
+            return send;
+        });
+
+        log.info("SEND 프레임 처리량: 세션 사용자 {}/s, 헤더 검증 {}/s", Math.round(sessionRate),
+            Math.round(headerRate));
+        assertThat(sessionRate).isGreaterThan(headerRate);
+    }
+
+    private double framesPerSecond(Supplier<StompHeaderAccessor> frames) {
+        // warmup
+        for (int i = 0; i < FRAMES; i++) {
+            stompHandler.preSend(message(frames.get()), null);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < FRAMES; i++) {
+            stompHandler.preSend(message(frames.get()), null);
+        }
+        long elapsed = System.nanoTime() - start;
+        return FRAMES / (elapsed / (double) TimeUnit.SECONDS.toNanos(1));
+    }
+
+    private static StompHeaderAccessor sendFrom(StompPrincipal user, Map<String, Object> session) {
+        StompHeaderAccessor send = accessor(StompCommand.SEND, session);
+        send.setDestination("/app/game/1/checkAnswer");
+        if (user != null) {
+            send.setUser(user);
+        }
+        return send;
+    }
+
+    private static StompHeaderAccessor accessor(StompCommand command,
+        Map<String, Object> session) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId("s1");
+        accessor.setSessionAttributes(session);
+        accessor.setLeaveMutable(true);
+        return accessor;
+    }
+
+    private static Message<byte[]> message(StompHeaderAccessor accessor) {
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,63 @@
+package com.finbattle.global.common.model.enums;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class PublicEndpointTest {
+
+    /**
+     * 이전 JWTFilter 의 매칭: 패턴의 ** 를 .* 로 바꾼 정규식 전체 일치
+     */
+    private static boolean regexMatches(String requestUri) {
+        return PublicEndpoint.getAll().stream()
+            .anyMatch(pattern -> requestUri.matches(pattern.replace("**", ".*")));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "/signin", "/login", "/favicon.ico", "/error", "/swagger-ui.html",
+        "/actuator/health", "/actuator/prometheus", "/ws/firechat",
+        "/api/member/public/", "/api/member/public/nickname", "/api/member/public/a/b?x=1",
+        "/api/cat/public/list", "/oauth2/authorization/kakao", "/swagger-ui/index.html",
+        "/v3/api-docs", "/v3/api-docs/", "/v3/api-docs/swagger-config",
+        "/swagger-resources/configuration/ui", "/webjars/swagger-ui/index.css",
+        "/grafana", "/grafana/", "/grafanax", "/grafana/d/abc", "/actuator/", "/actuator/info",
+        "/actuator",
+        "", "/", "/signin/", "/signinx", "/login/oauth2", "/loginx", "/error/500",
+        "/api/member", "/api/member/public", "/api/member/me", "/api/cat/list",
+        "/oauth2", "/swagger-ui", "/webjars", "/ws/firechat/", "/ws/firechat/info",
+        "/ws", "/api/room", "/api/game/1", "/SIGNIN", "//signin", "/api/member/publicx"
+    })
+    void 이전_정규식_매칭과_결과가_같다(String requestUri) {
+        assertThat(PublicEndpoint.matches(requestUri))
+            .as(requestUri)
+            .isEqualTo(regexMatches(requestUri));
+    }
+
+    @Test
+    void 등록된_패턴은_모두_자기_자신과_일치한다() {
+        for (String pattern : PublicEndpoint.getAll()) {
+            String uri = pattern.replace("**", "");
+            assertThat(PublicEndpoint.matches(uri)).as(pattern).isTrue();
+            assertThat(regexMatches(uri)).as(pattern).isTrue();
+        }
+    }
+
+    /**
+     * 정규식에서는 정확히 일치해야 하는 경로의 . 이 아무 문자와 일치했다. 지금은 글자 그대로 비교한다
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"/faviconXico", "/swagger-uiXhtml"})
+    void 정확한_경로의_점은_더_이상_아무_문자와_일치하지_않는다(String requestUri) {
+        assertThat(regexMatches(requestUri)).isTrue();
+        assertThat(PublicEndpoint.matches(requestUri)).isFalse();
+    }
+
+    @Test
+    void null_은_공개_경로가_아니다() {
+        assertThat(PublicEndpoint.matches(null)).isFalse();
+    }
+}
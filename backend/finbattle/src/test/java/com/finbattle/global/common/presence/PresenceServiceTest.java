@@ -0,0 +1,157 @@
+package com.finbattle.global.common.presence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.finbattle.domain.chat.model.StompPrincipal;
+import com.finbattle.support.EmbeddedRedisSupport;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+class PresenceServiceTest extends EmbeddedRedisSupport {
+
+    private static final long ROOM_ID = 5L;
+    private static final long HEARTBEAT_MS = 100;
+    private static final long TTL_MS = 400;
+
+    private ThreadPoolTaskScheduler scheduler;
+    private PresenceService nodeA;
+    private PresenceService nodeB;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(2);
+        scheduler.initialize();
+        nodeA = presence("node-a");
+        nodeB = presence("node-b");
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodeA.shutdown();
+        nodeB.shutdown();
+        scheduler.shutdown();
+    }
+
+    @Test
+    void 다른_노드에_접속한_같은_사용자는_한_노드의_연결_해제로_빠지지_않는다() throws Exception {
+        connect(nodeA, "a1", 7L);
+        connect(nodeB, "b1", 7L);
+        assertThat(nodeA.countOnline(ROOM_ID)).isEqualTo(1);
+
+        nodeA.onDisconnect(disconnect("a1"));
+
+        assertThat(nodeA.countOnline(ROOM_ID)).isEqualTo(1);
+        Thread.sleep(HEARTBEAT_MS * 3);
+        assertThat(nodeA.getActiveUserCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 같은_노드의_다른_세션이나_구독이_남아_있으면_빠지지_않는다() {
+        connect(nodeA, "a1", 7L);
+        connect(nodeA, "a2", 7L);
+        subscribe(nodeA, "a2", "room-again");
+
+        nodeA.onDisconnect(disconnect("a1"));
+        assertThat(nodeA.countOnline(ROOM_ID)).isEqualTo(1);
+        assertThat(redisTemplate.opsForZSet().size("presence:users")).isEqualTo(1);
+
+        nodeA.onUnsubscribe(unsubscribe("a2", "room"));
+        assertThat(nodeA.countOnline(ROOM_ID)).isEqualTo(1);
+
+        nodeA.onUnsubscribe(unsubscribe("a2", "room-again"));
+        assertThat(nodeA.countOnline(ROOM_ID)).isZero();
+        assertThat(redisTemplate.opsForZSet().size("presence:users")).isEqualTo(1);
+
+        nodeA.onDisconnect(disconnect("a2"));
+        assertThat(redisTemplate.opsForZSet().size("presence:users")).isZero();
+    }
+
+    @Test
+    void 죽은_노드의_사용자는_ttl_이_지나면_세지_않고_방_키도_만료된다() throws Exception {
+        connect(nodeB, "b1", 8L);
+        assertThat(nodeA.countOnline(ROOM_ID)).isEqualTo(1);
+        assertThat(redisTemplate.getExpire("presence:room:" + ROOM_ID, TimeUnit.MILLISECONDS))
+            .isPositive();
+
+        // 연결 해제 없이 heartbeat 만 멈춤
+        nodeB.shutdown();
+
+        awaitUntil(() -> nodeA.countOnline(ROOM_ID) == 0);
+        awaitUntil(() -> !redisTemplate.hasKey("presence:room:" + ROOM_ID));
+    }
+
+    @Test
+    void 살아있는_노드의_heartbeat_는_방_키를_유지한다() throws Exception {
+        connect(nodeA, "a1", 9L);
+        connect(nodeB, "b1", 10L);
+        nodeB.shutdown();
+
+        Thread.sleep(TTL_MS * 2);
+
+        assertThat(nodeA.countOnline(ROOM_ID)).isEqualTo(1);
+        assertThat(redisTemplate.opsForZSet().range("presence:room:" + ROOM_ID, 0, -1))
+            .containsExactly("9:node-a");
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+
+    private PresenceService presence(String nodeId) {
+        return new PresenceService(redisTemplate, new SimpleMeterRegistry(), scheduler, nodeId,
+            HEARTBEAT_MS, TTL_MS);
+    }
+
+    private static void connect(PresenceService node, String sessionId, long memberId) {
+        StompHeaderAccessor connected = StompHeaderAccessor.create(StompCommand.CONNECTED);
+        connected.setSessionId(sessionId);
+        node.onConnected(new SessionConnectedEvent(node, message(connected),
+            new StompPrincipal(memberId)));
+        subscribe(node, sessionId, "room");
+    }
+
+    private static void subscribe(PresenceService node, String sessionId, String subscriptionId) {
+        StompHeaderAccessor subscribe = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        subscribe.setSessionId(sessionId);
+        subscribe.setSubscriptionId(subscriptionId);
+        subscribe.setDestination("/topic/room/" + ROOM_ID);
+        node.onSubscribe(new SessionSubscribeEvent(node, message(subscribe)));
+    }
+
+    private static SessionUnsubscribeEvent unsubscribe(String sessionId, String subscriptionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.UNSUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        return new SessionUnsubscribeEvent(sessionId, message(accessor));
+    }
+
+    private static SessionDisconnectEvent disconnect(String sessionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.DISCONNECT);
+        accessor.setSessionId(sessionId);
+        return new SessionDisconnectEvent(sessionId, message(accessor), sessionId,
+            CloseStatus.NORMAL);
+    }
+
+    private static Message<byte[]> message(StompHeaderAccessor accessor) {
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,199 @@
+package com.finbattle.global.common.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+class RedisChannelSubscriptionManagerTest {
+
+    private final RedisMessageListenerContainer container = mock(
+        RedisMessageListenerContainer.class);
+    private final RedisGameEventStream gameEventStream = mock(RedisGameEventStream.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private ThreadPoolTaskScheduler scheduler;
+    private RedisChannelSubscriptionManager manager;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        manager.shutdown();
+        scheduler.shutdown();
+    }
+
+    @Test
+    void 숫자가_아닌_방_id_와_모르는_로비_주제는_구독하지_않는다() {
+        manager = manager(32);
+
+        subscribe("s1", "1", "/topic/game/abc");
+        subscribe("s1", "2", "/topic/chat/1/extra");
+        subscribe("s1", "3", "/topic/lobby/UNKNOWN");
+        subscribe("s1", "4", "/topic/room/-1");
+
+        verify(container, never()).addMessageListener(any(MessageListener.class), any(Topic.class));
+        assertThat(rejected("invalid")).isEqualTo(4);
+
+        subscribe("s1", "5", "/topic/lobby/FIN_CRIME");
+        subscribe("s1", "6", "/topic/lobby/ALL");
+        verify(container).addMessageListener(any(MessageListener.class),
+            eq(new ChannelTopic("lobby:FIN_CRIME")));
+        verify(container).addMessageListener(any(MessageListener.class),
+            eq(new ChannelTopic("lobby:ALL")));
+    }
+
+    @Test
+    void stream_모드에서_숫자가_아닌_게임_id_는_예외_없이_버린다() {
+        when(gameEventStream.isEnabled()).thenReturn(true);
+        manager = manager(32);
+
+        subscribe("s1", "1", "/topic/game/room-1");
+        subscribe("s1", "2", "/topic/game/7");
+
+        verify(gameEventStream, times(1)).watch(anyLong());
+        verify(gameEventStream).watch(7L);
+        assertThat(rejected("invalid")).isEqualTo(1);
+    }
+
+    @Test
+    void 세션당_구독_한도를_넘으면_Redis_채널을_만들지_않는다() {
+        manager = manager(2);
+
+        subscribe("s1", "1", "/topic/room/1");
+        subscribe("s1", "2", "/topic/chat/1");
+        subscribe("s1", "3", "/topic/game/1");
+        // 같은 구독 id 를 다시 쓰는 것은 교체라서 한도에 걸리지 않는다
+        subscribe("s1", "2", "/topic/chat/2");
+
+        verify(container, never()).addMessageListener(any(MessageListener.class),
+            eq(new ChannelTopic("game:1")));
+        verify(container).addMessageListener(any(MessageListener.class),
+            eq(new ChannelTopic("chat:2")));
+        verify(container).removeMessageListener(any(MessageListener.class),
+            eq(new ChannelTopic("chat:1")));
+        assertThat(rejected("limit")).isEqualTo(1);
+    }
+
+    @Test
+    void 마지막_구독이_빠질_때만_채널을_해제한다() {
+        manager = manager(32);
+
+        subscribe("s1", "1", "/topic/room/5");
+        subscribe("s2", "1", "/topic/room/5");
+        manager.onDisconnect(disconnect("s1"));
+        verify(container, never()).removeMessageListener(any(MessageListener.class),
+            any(Topic.class));
+
+        unsubscribe("s2", "1");
+        verify(container, times(1)).addMessageListener(any(MessageListener.class),
+            eq(new ChannelTopic("room:5")));
+        verify(container, times(1)).removeMessageListener(any(MessageListener.class),
+            eq(new ChannelTopic("room:5")));
+        assertThat(registry.get("redis.pubsub.channels.local").gauge().value()).isZero();
+    }
+
+    @Test
+    void 동시에_구독과_해제가_섞여도_구독_해제_횟수가_맞는다() throws Exception {
+        manager = manager(32);
+        int threads = 8;
+        int rounds = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            String sessionId = "s" + t;
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < rounds; i++) {
+                    subscribe(sessionId, "1", "/topic/chat/9");
+                    unsubscribe(sessionId, "1");
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        long added = invocations("addMessageListener");
+        long removed = invocations("removeMessageListener");
+        assertThat(added).isPositive().isEqualTo(removed);
+        assertThat(registry.get("redis.pubsub.channels.local").gauge().value()).isZero();
+    }
+
+    private RedisChannelSubscriptionManager manager(int maxPerSession) {
+        return new RedisChannelSubscriptionManager(container, mock(StringRedisTemplate.class),
+            registry, mock(RedisGameSubscriber.class), mock(RedisChatSubscriber.class),
+            mock(RedisRoomSubscriber.class), mock(RedisLobbySubscriber.class), gameEventStream,
+            scheduler, "dynamic", "simple", maxPerSession, 60_000);
+    }
+
+    private void subscribe(String sessionId, String subscriptionId, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        manager.onSubscribe(new SessionSubscribeEvent(this, message(accessor)));
+    }
+
+    private void unsubscribe(String sessionId, String subscriptionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.UNSUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        manager.onUnsubscribe(new SessionUnsubscribeEvent(this, message(accessor)));
+    }
+
+    private SessionDisconnectEvent disconnect(String sessionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.DISCONNECT);
+        accessor.setSessionId(sessionId);
+        return new SessionDisconnectEvent(this, message(accessor), sessionId, CloseStatus.NORMAL);
+    }
+
+    private static Message<byte[]> message(StompHeaderAccessor accessor) {
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private double rejected(String reason) {
+        return registry.get("redis.pubsub.subscribe.rejected").tag("reason", reason).counter()
+            .count();
+    }
+
+    private long invocations(String method) {
+        return mockingDetails(container).getInvocations().stream()
+            .filter(invocation -> invocation.getMethod().getName().equals(method))
+            .count();
+    }
+}
@@ -0,0 +1,153 @@
+package com.finbattle.global.common.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.finbattle.support.EmbeddedRedisSupport;
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+@Slf4j
+class RedisGameEventStreamTest extends EmbeddedRedisSupport {
+
+    private static final long ROOM_ID = 21L;
+    private static final int EVENTS = 5000;
+
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+    private RedisGameEventStream stream;
+
+    @AfterEach
+    void tearDown() {
+        if (stream != null) {
+            stream.stop();
+        }
+    }
+
+    @Test
+    void 첫_XADD_부터_만료_시간과_길이_제한이_걸린다() {
+        stream = stream(100);
+
+        for (int i = 0; i < 1000; i++) {
+            stream.append(ROOM_ID, payload(i));
+        }
+
+        Long ttl = redisTemplate.getExpire("game:stream:" + ROOM_ID, TimeUnit.SECONDS);
+        assertThat(ttl).isPositive().isLessThanOrEqualTo(3600);
+        // MAXLEN ~ 는 노드 단위로 잘라서 정확히 100 은 아니다
+        assertThat(redisTemplate.opsForStream().size("game:stream:" + ROOM_ID))
+            .isLessThan(1000);
+
+        stream.expire(ROOM_ID);
+        assertThat(redisTemplate.getExpire("game:stream:" + ROOM_ID, TimeUnit.SECONDS))
+            .isLessThanOrEqualTo(600);
+    }
+
+    @Test
+    void replay_는_마지막_id_이후_이벤트만_요청자에게_보낸다() {
+        stream = stream(500);
+        RecordId first = stream.append(ROOM_ID, payload(1));
+        stream.append(ROOM_ID, payload(2));
+        stream.append(ROOM_ID, payload(3));
+
+        stream.replay(ROOM_ID, first.getValue(), "7");
+
+        verify(messagingTemplate, times(2)).send(eq("/user/7/queue/game/" + ROOM_ID),
+            any(Message.class));
+    }
+
+    /**
+     * 같은 수의 이벤트를 pub/sub 과 stream 으로 한 방에 보내고, 받는 쪽까지 걸린 시간과 Redis 로 보낸 바이트를 비교한다
+     */
+    @Test
+    @Tag("benchmark")
+    void pubsub_과_stream_전송_비교() throws Exception {
+        // pub/sub: PUBLISH -> 구독 노드의 listener
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        CountDownLatch pubsubReceived = new CountDownLatch(EVENTS);
+        CountDownLatch subscribed = new CountDownLatch(1);
+        container.addMessageListener((message, pattern) -> pubsubReceived.countDown(),
+            new ChannelTopic("game:" + ROOM_ID));
+        container.addMessageListener((message, pattern) -> subscribed.countDown(),
+            new ChannelTopic("game:ready"));
+        container.afterPropertiesSet();
+        container.start();
+        // 구독이 Redis 에 반영될 때까지 확인 메시지를 보내 본다
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!subscribed.await(50, TimeUnit.MILLISECONDS) && System.nanoTime() < deadline) {
+            redisTemplate.convertAndSend("game:ready", "ready");
+        }
+        assertThat(subscribed.getCount()).isZero();
+
+        long pubsubBytes = netInputBytes();
+        long pubsubStart = System.nanoTime();
+        byte[] channel = ("game:" + ROOM_ID).getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < EVENTS; i++) {
+            byte[] payload = payload(i);
+            redisTemplate.execute(connection -> connection.publish(channel, payload), true);
+        }
+        assertThat(pubsubReceived.await(30, TimeUnit.SECONDS)).isTrue();
+        long pubsubNanos = System.nanoTime() - pubsubStart;
+        pubsubBytes = netInputBytes() - pubsubBytes;
+        container.stop();
+        container.destroy();
+
+        // stream: XADD(+EXPIRE) -> consumer group 을 읽는 relay 스레드
+        stream = stream(EVENTS);
+        CountDownLatch streamReceived = new CountDownLatch(EVENTS);
+        doAnswer(invocation -> {
+            streamReceived.countDown();
+            return null;
+        }).when(messagingTemplate).send(startsWith("/topic/game/"), any(Message.class));
+        stream.start();
+        stream.watch(ROOM_ID);
+
+        long streamBytes = netInputBytes();
+        long streamStart = System.nanoTime();
+        for (int i = 0; i < EVENTS; i++) {
+            stream.append(ROOM_ID, payload(i));
+        }
+        assertThat(streamReceived.await(30, TimeUnit.SECONDS)).isTrue();
+        long streamNanos = System.nanoTime() - streamStart;
+        streamBytes = netInputBytes() - streamBytes;
+
+        log.info("이벤트 {}개: pubsub {}ms ({} bytes), stream {}ms ({} bytes)", EVENTS,
+            TimeUnit.NANOSECONDS.toMillis(pubsubNanos), pubsubBytes,
+            TimeUnit.NANOSECONDS.toMillis(streamNanos), streamBytes);
+        verify(messagingTemplate, times(EVENTS)).send(anyString(), any(Message.class));
+    }
+
+    private RedisGameEventStream stream(long maxLen) {
+        return new RedisGameEventStream(redisTemplate, messagingTemplate, "stream", "test",
+            maxLen, 600, 3600, 100, "simple");
+    }
+
+    private static byte[] payload(int i) {
+        return ("{\"event\":\"QUIZ_RESULT\",\"roomId\":" + ROOM_ID + ",\"data\":{\"quizId\":" + i
+            + ",\"result\":\"오답입니다.\",\"sender\":\"player\"}}").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static long netInputBytes() {
+        Properties stats = redisTemplate.execute(
+            connection -> connection.serverCommands().info("stats"), true);
+        return Long.parseLong(stats.getProperty("total_net_input_bytes"));
+    }
+}
@@ -0,0 +1,84 @@
+package com.finbattle.global.common.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finbattle.domain.game.dto.EventMessage;
+import com.finbattle.domain.game.dto.EventType;
+import com.finbattle.global.common.config.RedisConfig;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * publishRaw 로 보낸 JSON 바이트와, 이전 노드가 RedisTemplate serializer 로 한 번 더 감싸 보낸 문자열이 같은 STOMP
+ * payload 로 나가는지 확인
+ */
+class RedisGameSubscriberTest {
+
+    private static final String CHANNEL = "game:7";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+    private final RedisGameSubscriber subscriber = new RedisGameSubscriber(objectMapper,
+        messagingTemplate);
+
+    @Test
+    void 원본_JSON_바이트는_그대로_전달한다() throws Exception {
+        byte[] body = event();
+
+        subscriber.onMessage(message(body), null);
+
+        Message<?> sent = sent();
+        assertThat(sent.getPayload()).isEqualTo(body);
+        assertThat(sent.getHeaders().get(MessageHeaders.CONTENT_TYPE))
+            .isEqualTo(MimeTypeUtils.APPLICATION_JSON);
+    }
+
+    @Test
+    void 이전_방식으로_감싼_문자열은_한_번만_풀어서_전달한다() throws Exception {
+        byte[] body = event();
+        // 이전 GameService 는 JSON 문자열을 RedisTemplate<String, Object>.convertAndSend 로 보냈다
+        @SuppressWarnings("unchecked")
+        RedisSerializer<Object> legacySerializer = (RedisSerializer<Object>) new RedisConfig(
+            objectMapper).redisTemplate(mock(RedisConnectionFactory.class)).getValueSerializer();
+        byte[] legacy = legacySerializer.serialize(new String(body, StandardCharsets.UTF_8));
+        assertThat(legacy[0]).isEqualTo((byte) '"');
+
+        subscriber.onMessage(message(legacy), null);
+
+        byte[] payload = (byte[]) sent().getPayload();
+        assertThat(payload).isEqualTo(body);
+        JsonNode json = objectMapper.readTree(payload);
+        assertThat(json.get("event").asText()).isEqualTo(EventType.MULTIPLE_QUIZ.name());
+        assertThat(json.get("data").get("question").asText()).isEqualTo("\"예금자 보호\" 한도는?");
+    }
+
+    private byte[] event() throws Exception {
+        // 따옴표가 들어간 문제도 한 번만 풀리는지 확인
+        return objectMapper.writeValueAsBytes(new EventMessage<>(EventType.MULTIPLE_QUIZ, 7L,
+            Map.of("quizId", 3, "question", "\"예금자 보호\" 한도는?")));
+    }
+
+    private Message<?> sent() {
+        ArgumentCaptor<Message<?>> sent = ArgumentCaptor.forClass(Message.class);
+        verify(messagingTemplate).send(eq("/topic/game/7"), sent.capture());
+        return sent.getValue();
+    }
+
+    private static DefaultMessage message(byte[] body) {
+        return new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8), body);
+    }
+}
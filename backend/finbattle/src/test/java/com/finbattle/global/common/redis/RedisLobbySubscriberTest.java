@@ -0,0 +1,50 @@
+package com.finbattle.global.common.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.util.MimeTypeUtils;
+
+class RedisLobbySubscriberTest {
+
+    private static final byte[] BODY = "[{\"type\":\"REMOVED\",\"roomId\":1}]"
+        .getBytes(StandardCharsets.UTF_8);
+
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+    private final RedisLobbySubscriber subscriber = new RedisLobbySubscriber(messagingTemplate);
+
+    @ParameterizedTest
+    @ValueSource(strings = {"FIN_POLICY", "ALL"})
+    void 채널의_주제를_lobby_topic_으로_그대로_보낸다(String subject) {
+        subscriber.onMessage(new DefaultMessage(
+            ("lobby:" + subject).getBytes(StandardCharsets.UTF_8), BODY), null);
+
+        ArgumentCaptor<Message<?>> sent = ArgumentCaptor.forClass(Message.class);
+        verify(messagingTemplate).send(eq("/topic/lobby/" + subject), sent.capture());
+        assertThat(sent.getValue().getPayload()).isEqualTo(BODY);
+        assertThat(sent.getValue().getHeaders().get(MessageHeaders.CONTENT_TYPE))
+            .isEqualTo(MimeTypeUtils.APPLICATION_JSON);
+    }
+
+    @Test
+    void 전송에_실패해도_예외를_리스너_컨테이너로_넘기지_않는다() {
+        doThrow(new IllegalStateException("broker down"))
+            .when(messagingTemplate).send(eq("/topic/lobby/ALL"), any(Message.class));
+
+        subscriber.onMessage(new DefaultMessage(
+            "lobby:ALL".getBytes(StandardCharsets.UTF_8), BODY), null);
+    }
+}
@@ -0,0 +1,232 @@
+package com.finbattle.global.common.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finbattle.global.common.handler.BrokerRelayHeaderInterceptor;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.Principal;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.apache.activemq.artemis.core.config.impl.ConfigurationImpl;
+import org.apache.activemq.artemis.core.server.embedded.EmbeddedActiveMQ;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.DefaultUserDestinationResolver;
+import org.springframework.messaging.simp.user.SimpSession;
+import org.springframework.messaging.simp.user.SimpUser;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.messaging.simp.user.UserDestinationMessageHandler;
+import org.springframework.messaging.simp.stomp.StompBrokerRelayMessageHandler;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * websocket.broker.mode=relay 에서 한 노드가 발행한 방 이벤트가 Redis 를 거치지 않고 외부 broker(embedded Artemis)를 통해
+ * 다른 노드에 접속한 클라이언트까지 가는지 확인
+ * <p>
+ * relay 모드에서는 match:notify 도 Redis 로 구독하지 않으므로, /user 메시지는 WebSocketConfig 의
+ * setUserDestinationBroadcast 로만 다른 노드의 사용자에게 간다.
+ */
+class RedisPublisherRelayTest {
+
+    private static final long TIMEOUT_SEC = 10;
+    private static final String UNRESOLVED_USER = "/topic/unresolved-user";
+
+    @TempDir
+    Path brokerDir;
+
+    private EmbeddedActiveMQ broker;
+    private Node nodeA;
+    private Node nodeB;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        int port = freePort();
+        ConfigurationImpl config = new ConfigurationImpl();
+        config.setBrokerInstance(brokerDir.toFile());
+        config.setPersistenceEnabled(false)
+            .setSecurityEnabled(false)
+            .addAcceptorConfiguration("stomp", "tcp://localhost:" + port
+                + "?protocols=STOMP;multicastPrefix=/topic/;anycastPrefix=/queue/");
+        broker = new EmbeddedActiveMQ().setConfiguration(config);
+        broker.start();
+        // 사용자 42 는 B 에만 접속해 있다
+        nodeA = new Node(port, registry(null, null));
+        nodeB = new Node(port, registry("42", "s1"));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        nodeA.relay.stop();
+        nodeB.relay.stop();
+        broker.stop();
+    }
+
+    @Test
+    void 발행한_노드가_broker_로_보내면_다른_노드의_구독자가_받는다() throws Exception {
+        nodeB.subscribe("s1", "sub-1", "/topic/game/1");
+
+        nodeA.publisher.publishRaw("game:1", "{\"event\":\"QUIZ_RESULT\"}".getBytes(
+            StandardCharsets.UTF_8));
+
+        Message<?> message = nodeB.next(StompCommand.MESSAGE);
+        assertThat(StompHeaderAccessor.wrap(message).getSubscriptionId()).isEqualTo("sub-1");
+        assertThat(new String((byte[]) message.getPayload(), StandardCharsets.UTF_8))
+            .isEqualTo("{\"event\":\"QUIZ_RESULT\"}");
+    }
+
+    @Test
+    void publishAll_은_value_serializer_로_직렬화해_순서대로_보낸다() throws Exception {
+        nodeB.subscribe("s1", "sub-1", "/topic/game/2");
+
+        nodeA.publisher.publishAll(List.of(
+            new RedisPublisher.Outgoing("game:2", Map.of("seq", 1)),
+            new RedisPublisher.Outgoing("game:2", Map.of("seq", 2))));
+
+        assertThat(payloadOf(nodeB.next(StompCommand.MESSAGE))).isEqualTo("{\"seq\":1}");
+        assertThat(payloadOf(nodeB.next(StompCommand.MESSAGE))).isEqualTo("{\"seq\":2}");
+    }
+
+    @Test
+    void 매칭_결과는_다른_노드에_접속한_사용자의_user_queue_로_간다() throws Exception {
+        Principal user = () -> "42";
+        nodeB.subscribe("s1", "sub-1", "/user/queue/match", user);
+        String result = "{\"roomId\":10,\"memberIds\":[42]}";
+
+        nodeA.publisher.publishRaw(RedisMatchSubscriber.CHANNEL,
+            result.getBytes(StandardCharsets.UTF_8));
+
+        Message<?> message = nodeB.next(StompCommand.MESSAGE);
+        assertThat(StompHeaderAccessor.wrap(message).getSubscriptionId()).isEqualTo("sub-1");
+        assertThat(payloadOf(message)).isEqualTo(result);
+    }
+
+    private static SimpUserRegistry registry(String userName, String sessionId) {
+        SimpUserRegistry registry = mock(SimpUserRegistry.class);
+        if (userName != null) {
+            SimpUser user = mock(SimpUser.class);
+            SimpSession session = mock(SimpSession.class);
+            when(session.getId()).thenReturn(sessionId);
+            when(user.getName()).thenReturn(userName);
+            when(user.getSessions()).thenReturn(Set.of(session));
+            when(registry.getUser(userName)).thenReturn(user);
+        }
+        return registry;
+    }
+
+    private static String payloadOf(Message<?> message) {
+        return new String((byte[]) message.getPayload(), StandardCharsets.UTF_8);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    /**
+     * 애플리케이션 노드 하나. WebSocketConfig 의 relay 설정과 같은 broker relay, /user 목적지 처리기(다른 노드로 넘기는
+     * broadcast 포함)와 relay 모드 RedisPublisher 를 가진다. RedisTemplate 에는 connection factory 가 없어서 Redis 를
+     * 쓰려고 하면 실패한다
+     */
+    private static final class Node {
+
+        private final ExecutorSubscribableChannel clientInbound = new ExecutorSubscribableChannel();
+        private final BlockingQueue<Message<?>> clientOutbound = new LinkedBlockingQueue<>();
+        private final StompBrokerRelayMessageHandler relay;
+        private final RedisPublisher publisher;
+
+        private Node(int port, SimpUserRegistry userRegistry) throws InterruptedException {
+            ExecutorSubscribableChannel outbound = new ExecutorSubscribableChannel();
+            outbound.subscribe(clientOutbound::add);
+            ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+            brokerChannel.addInterceptor(new BrokerRelayHeaderInterceptor());
+            UserDestinationMessageHandler userHandler = new UserDestinationMessageHandler(
+                clientInbound, brokerChannel, new DefaultUserDestinationResolver(userRegistry));
+            userHandler.setBroadcastDestination(UNRESOLVED_USER);
+            userHandler.start();
+            relay = new StompBrokerRelayMessageHandler(clientInbound, outbound, brokerChannel,
+                List.of("/topic", "/queue"));
+            relay.setRelayPort(port);
+            relay.setSystemSubscriptions(Map.of(UNRESOLVED_USER, userHandler));
+            relay.start();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SEC);
+            while (!relay.isBrokerAvailable() && System.nanoTime() < deadline) {
+                Thread.sleep(50);
+            }
+            assertThat(relay.isBrokerAvailable()).isTrue();
+
+            ObjectMapper objectMapper = new ObjectMapper();
+            RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
+            redisTemplate.setKeySerializer(new StringRedisSerializer());
+            redisTemplate.setValueSerializer(
+                new Jackson2JsonRedisSerializer<>(objectMapper, Object.class));
+            publisher = new RedisPublisher(redisTemplate,
+                new RedisGameSubscriber(objectMapper, new SimpMessagingTemplate(brokerChannel)),
+                mock(RedisChatSubscriber.class), mock(RedisRoomSubscriber.class),
+                mock(RedisLobbySubscriber.class), new RedisMatchSubscriber(objectMapper,
+                    new SimpMessagingTemplate(brokerChannel)));
+            ReflectionTestUtils.setField(publisher, "brokerMode", "relay");
+        }
+
+        private void subscribe(String sessionId, String subscriptionId, String destination)
+            throws InterruptedException {
+            subscribe(sessionId, subscriptionId, destination, null);
+        }
+
+        private void subscribe(String sessionId, String subscriptionId, String destination,
+            Principal user) throws InterruptedException {
+            StompHeaderAccessor connect = StompHeaderAccessor.create(StompCommand.CONNECT);
+            connect.setSessionId(sessionId);
+            connect.setUser(user);
+            connect.setAcceptVersion("1.2");
+            send(connect);
+            next(StompCommand.CONNECTED);
+
+            StompHeaderAccessor subscribe = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+            subscribe.setSessionId(sessionId);
+            subscribe.setUser(user);
+            subscribe.setSubscriptionId(subscriptionId);
+            subscribe.setDestination(destination);
+            subscribe.setReceipt("subscribed");
+            send(subscribe);
+            next(StompCommand.RECEIPT);
+        }
+
+        private void send(StompHeaderAccessor accessor) {
+            clientInbound.send(MessageBuilder.createMessage(new byte[0],
+                accessor.getMessageHeaders()));
+        }
+
+        private Message<?> next(StompCommand command) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SEC);
+            while (System.nanoTime() < deadline) {
+                Message<?> message = clientOutbound.poll(100, TimeUnit.MILLISECONDS);
+                if (message != null && StompHeaderAccessor.wrap(message).getCommand() == command) {
+                    return message;
+                }
+            }
+            throw new AssertionError(command + " 를 받지 못함");
+        }
+    }
+}
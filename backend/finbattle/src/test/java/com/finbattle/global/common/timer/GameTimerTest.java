@@ -0,0 +1,66 @@
+package com.finbattle.global.common.timer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.finbattle.global.common.actor.RoomActorSystem;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class GameTimerTest {
+
+    private static final Long ROOM_ID = 1L;
+
+    private RoomActorSystem actorSystem;
+    private GameTimer gameTimer;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        actorSystem = new RoomActorSystem(registry, 2);
+        gameTimer = new GameTimer(registry, actorSystem, 10, 64);
+        actorSystem.open(ROOM_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        gameTimer.shutdown();
+        actorSystem.shutdown();
+    }
+
+    @Test
+    void 퀴즈_타이머만_취소하면_다음_문제와_시작_지연은_그대로_실행된다() throws Exception {
+        AtomicBoolean quizFired = new AtomicBoolean();
+        CountDownLatch others = new CountDownLatch(2);
+
+        gameTimer.schedule(ROOM_ID, TimerKind.QUIZ, () -> quizFired.set(true), 100,
+            TimeUnit.MILLISECONDS);
+        gameTimer.schedule(ROOM_ID, TimerKind.NEXT_QUIZ, others::countDown, 100,
+            TimeUnit.MILLISECONDS);
+        gameTimer.schedule(ROOM_ID, TimerKind.START_DELAY, others::countDown, 100,
+            TimeUnit.MILLISECONDS);
+
+        gameTimer.cancel(ROOM_ID, TimerKind.QUIZ);
+
+        assertThat(others.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(quizFired).isFalse();
+    }
+
+    @Test
+    void release_는_모든_종류의_타이머를_취소한다() throws Exception {
+        AtomicBoolean fired = new AtomicBoolean();
+        gameTimer.schedule(ROOM_ID, TimerKind.QUIZ, () -> fired.set(true), 50,
+            TimeUnit.MILLISECONDS);
+        gameTimer.schedule(ROOM_ID, TimerKind.NEXT_QUIZ, () -> fired.set(true), 50,
+            TimeUnit.MILLISECONDS);
+
+        gameTimer.release(ROOM_ID);
+
+        Thread.sleep(300);
+        assertThat(fired).isFalse();
+    }
+}